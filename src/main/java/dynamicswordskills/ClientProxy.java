@@ -21,15 +21,23 @@ import dynamicswordskills.client.DSSClientEvents;
 import dynamicswordskills.client.DSSKeyHandler;
 import dynamicswordskills.client.RenderEntitySwordBeam;
 import dynamicswordskills.client.RenderNothing;
+import dynamicswordskills.client.SkillIconAtlas;
+import dynamicswordskills.client.SwordBeamBenchmark;
 import dynamicswordskills.client.TargetingTickHandler;
+import dynamicswordskills.client.gui.TextLayoutCache;
+import dynamicswordskills.command.CommandBeamBenchmark;
+import dynamicswordskills.command.CommandPredictionStats;
 import dynamicswordskills.entity.EntityLeapingBlow;
 import dynamicswordskills.entity.EntitySwordBeam;
 import dynamicswordskills.item.IModItem;
 import dynamicswordskills.ref.Config;
+import dynamicswordskills.util.TimingWheel;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.resources.IReloadableResourceManager;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.item.Item;
 import net.minecraft.util.IThreadListener;
+import net.minecraftforge.client.ClientCommandHandler;
 import net.minecraftforge.client.event.ModelRegistryEvent;
 import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.client.registry.RenderingRegistry;
@@ -44,6 +52,14 @@ public class ClientProxy extends CommonProxy
 		MinecraftForge.EVENT_BUS.register(new DSSClientEvents());
 		MinecraftForge.EVENT_BUS.register(new DSSKeyHandler());
 		MinecraftForge.EVENT_BUS.register(new TargetingTickHandler());
+		MinecraftForge.EVENT_BUS.register(TextLayoutCache.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(new RenderEntitySwordBeam.BatchHandler());
+		MinecraftForge.EVENT_BUS.register(SwordBeamBenchmark.INSTANCE);
+		MinecraftForge.EVENT_BUS.register(new TimingWheel.ClientTickHandler());
+		ClientCommandHandler.instance.registerCommand(CommandBeamBenchmark.INSTANCE);
+		ClientCommandHandler.instance.registerCommand(CommandPredictionStats.INSTANCE);
+		((IReloadableResourceManager) mc.getResourceManager()).registerReloadListener(TextLayoutCache.INSTANCE);
+		((IReloadableResourceManager) mc.getResourceManager()).registerReloadListener(SkillIconAtlas.INSTANCE);
 		RenderingRegistry.registerEntityRenderingHandler(EntityLeapingBlow.class, new RenderNothing.Factory());
 		RenderingRegistry.registerEntityRenderingHandler(EntitySwordBeam.class, new RenderEntitySwordBeam.Factory());
 	}
@@ -17,38 +17,23 @@
 
 package dynamicswordskills;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.Random;
+
+import javax.annotation.Nullable;
 
 import dynamicswordskills.api.IMetadataSkillItem;
 import dynamicswordskills.api.IRandomSkill;
 import dynamicswordskills.entity.DSSPlayerInfo;
+import dynamicswordskills.entity.EntityPositionHistory;
+import dynamicswordskills.loot.OrbDropTable;
 import dynamicswordskills.network.PacketDispatcher;
 import dynamicswordskills.network.client.SyncConfigPacket;
 import dynamicswordskills.ref.Config;
 import dynamicswordskills.ref.ModSounds;
 import dynamicswordskills.skills.IComboSkill;
 import dynamicswordskills.skills.SkillBase;
-import dynamicswordskills.skills.Skills;
 import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.item.EntityItem;
-import net.minecraft.entity.monster.EntityBlaze;
-import net.minecraft.entity.monster.EntityCaveSpider;
-import net.minecraft.entity.monster.EntityCreeper;
-import net.minecraft.entity.monster.EntityEnderman;
-import net.minecraft.entity.monster.EntityGhast;
-import net.minecraft.entity.monster.EntityIronGolem;
-import net.minecraft.entity.monster.EntityMagmaCube;
-import net.minecraft.entity.monster.EntityPigZombie;
-import net.minecraft.entity.monster.EntitySilverfish;
-import net.minecraft.entity.monster.EntitySkeleton;
-import net.minecraft.entity.monster.EntitySlime;
-import net.minecraft.entity.monster.EntitySpider;
-import net.minecraft.entity.monster.EntityWitch;
-import net.minecraft.entity.monster.EntityZombie;
-import net.minecraft.entity.passive.EntityBat;
-import net.minecraft.entity.passive.EntityHorse;
-import net.minecraft.entity.passive.EntityOcelot;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.item.ItemStack;
@@ -73,66 +58,51 @@ import net.minecraftforge.fml.common.gameevent.PlayerEvent.PlayerLoggedInEvent;
  */
 public class DSSCombatEvents
 {
-	/** Mapping of mobs to skill orb drops */
-	private static final Map<Class<? extends EntityLivingBase>, ItemStack> dropsList = new HashMap<Class<? extends EntityLivingBase>, ItemStack>();
-
-	/** Adds a mob-class to skill orb mapping */
-	private static void addDrop(Class<? extends EntityLivingBase> mobClass, SkillBase skill) {
-		int damage = ((IMetadataSkillItem) DynamicSwordSkills.skillOrb).getItemDamage(skill);
-		if (damage > -1) {
-			ItemStack stack = new ItemStack(DynamicSwordSkills.skillOrb, 1, damage);
-			dropsList.put(mobClass, stack);
-		}
-	}
-
-	public static void initializeDrops() {
-		addDrop(EntityZombie.class, Skills.swordBasic);
-		addDrop(EntitySkeleton.class, Skills.swordBasic);
-		addDrop(EntityEnderman.class, Skills.dodge);
-		addDrop(EntitySilverfish.class, Skills.backSlice);
-		addDrop(EntitySlime.class, Skills.dash);
-		addDrop(EntityHorse.class, Skills.dash);
-		addDrop(EntityPigZombie.class, Skills.parry);
-		addDrop(EntityOcelot.class, Skills.mortalDraw);
-		addDrop(EntitySpider.class, Skills.endingBlow);
-		addDrop(EntityCaveSpider.class, Skills.leapingBlow);
-		addDrop(EntityMagmaCube.class, Skills.leapingBlow);
-		addDrop(EntityBlaze.class, Skills.spinAttack);
-		addDrop(EntityBat.class, Skills.risingCut);
-		addDrop(EntityCreeper.class, Skills.armorBreak);
-		addDrop(EntityIronGolem.class, Skills.swordBreak);
-		addDrop(EntityGhast.class, Skills.superSpinAttack);
-		addDrop(EntityWitch.class, Skills.swordBeam);
-	}
-
 	/**
-	 * Returns the type of skill orb that the mob will drop this time;
-	 * this is not always the same as the stack stored in dropsList
+	 * Returns the type of skill orb that the mob will drop this time, if any;
+	 * this is not always one of the skills from the mob's drop rule
 	 */
-	private static ItemStack getOrbDrop(EntityLivingBase mob) {
-		if (dropsList.get(mob.getClass()) != null && mob.getEntityWorld().rand.nextFloat() > Config.getChanceForRandomDrop()) {
-			return dropsList.get(mob.getClass());
+	private static ItemStack getOrbDrop(EntityLivingBase mob, @Nullable OrbDropTable.Rule rule) {
+		Random rand = mob.getEntityWorld().rand;
+		SkillBase skill = (rule == null ? null : rule.getRandomSkill(rand));
+		if (!Config.isSkillAllowed(skill)) {
+			skill = null;
+		}
+		if (skill != null && rand.nextFloat() > Config.getChanceForRandomDrop()) {
+			return getOrb(skill);
 		}
-		ItemStack orb = ItemStack.EMPTY;
 		boolean flag = mob instanceof EntityPlayer;
-		SkillBase skill = ((IRandomSkill) DynamicSwordSkills.skillOrb).getRandomSkill(mob.getEntityWorld().rand);
-		if (Config.isSkillAllowed(skill) && (!flag || Config.arePlayerDropsEnabled())) {
-			int damage = ((IMetadataSkillItem) DynamicSwordSkills.skillOrb).getItemDamage(skill);
-			float chance = (flag ? Config.getPlayerDropFactor() : 1) * Config.getRandomMobDropChance();
-			if (damage > -1 && (dropsList.get(mob.getClass()) != null || mob.getEntityWorld().rand.nextFloat() < chance)) {
-				orb = new ItemStack(DynamicSwordSkills.skillOrb, 1, damage);
-			}
+		if (flag && !Config.arePlayerDropsEnabled()) {
+			return ItemStack.EMPTY;
+		}
+		// Roll for generic mobs before selecting a skill, as the roll usually fails
+		float chance = (flag ? Config.getPlayerDropFactor() : 1) * Config.getRandomMobDropChance();
+		if (skill == null && rand.nextFloat() >= chance) {
+			return ItemStack.EMPTY;
 		}
-		return orb;
+		skill = ((IRandomSkill) DynamicSwordSkills.skillOrb).getRandomSkill(rand);
+		return (Config.isSkillAllowed(skill) ? getOrb(skill) : ItemStack.EMPTY);
+	}
+
+	private static ItemStack getOrb(SkillBase skill) {
+		int damage = ((IMetadataSkillItem) DynamicSwordSkills.skillOrb).getItemDamage(skill);
+		return (damage > -1 ? new ItemStack(DynamicSwordSkills.skillOrb, 1, damage) : ItemStack.EMPTY);
 	}
 
 	@SubscribeEvent
 	public void onLivingDrops(LivingDropsEvent event) {
 		if (event.getSource().getTrueSource() instanceof EntityPlayer) {
 			EntityLivingBase mob = event.getEntityLiving();
-			ItemStack orb = getOrbDrop(mob);
-			if (!orb.isEmpty() && (Config.areOrbDropsEnabled() || (Config.arePlayerDropsEnabled() && event.getEntity() instanceof EntityPlayer))) {
+			if (!Config.areOrbDropsEnabled() && !(Config.arePlayerDropsEnabled() && mob instanceof EntityPlayer)) {
+				return;
+			}
+			OrbDropTable.Rule rule = OrbDropTable.getRule(mob);
+			ItemStack orb = getOrbDrop(mob, rule);
+			if (!orb.isEmpty()) {
 				float baseChance = Config.getDropChance(orb.getItemDamage());
+				if (rule != null) {
+					baseChance = rule.getDropChance(baseChance);
+				}
 				if (baseChance > 0.0F && mob.getEntityWorld().rand.nextFloat() < (baseChance + (0.005F * event.getLootingLevel()))) {
 					event.getDrops().add(new EntityItem(mob.getEntityWorld(), mob.posX, mob.posY, mob.posZ, orb.copy()));
 					mob.getEntityWorld().playSound(null, mob.posX, mob.posY, mob.posZ, ModSounds.SPECIAL_DROP, SoundCategory.PLAYERS, 1.0F, 1.0F);
@@ -201,6 +171,9 @@ public class DSSCombatEvents
 		if (event.getEntity() instanceof EntityPlayer) {
 			DSSPlayerInfo.get((EntityPlayer) event.getEntity()).onUpdate();
 		}
+		if (!event.getEntity().getEntityWorld().isRemote) {
+			EntityPositionHistory.record(event.getEntity());
+		}
 	}
 
 	@SubscribeEvent
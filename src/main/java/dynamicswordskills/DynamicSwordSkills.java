@@ -33,12 +33,18 @@ import dynamicswordskills.entity.EntitySwordBeam;
 import dynamicswordskills.entity.IPlayerInfo.CapabilityPlayerInfo;
 import dynamicswordskills.item.ItemSkillOrb;
 import dynamicswordskills.loot.LootHandler;
+import dynamicswordskills.loot.OrbDropTable;
 import dynamicswordskills.network.PacketDispatcher;
 import dynamicswordskills.ref.Config;
 import dynamicswordskills.ref.ModInfo;
 import dynamicswordskills.skills.SkillActive;
 import dynamicswordskills.skills.SkillBase;
 import dynamicswordskills.skills.Skills;
+import dynamicswordskills.util.CombatLog;
+import dynamicswordskills.util.LockOnValidator;
+import dynamicswordskills.util.TickScheduler;
+import dynamicswordskills.util.TimingWheel;
+import dynamicswordskills.util.WeaponCache;
 import net.minecraft.creativetab.CreativeTabs;
 import net.minecraft.entity.Entity;
 import net.minecraft.item.Item;
@@ -58,6 +64,7 @@ import net.minecraftforge.fml.common.event.FMLInterModComms;
 import net.minecraftforge.fml.common.event.FMLPostInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.common.event.FMLServerStartingEvent;
+import net.minecraftforge.fml.common.event.FMLServerStoppedEvent;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.common.registry.EntityEntry;
@@ -143,7 +150,10 @@ public class DynamicSwordSkills
 	public void init(FMLInitializationEvent event) {
 		proxy.init();
 		MinecraftForge.EVENT_BUS.register(new DSSCombatEvents());
-		DSSCombatEvents.initializeDrops();
+		MinecraftForge.EVENT_BUS.register(new TickScheduler.TickHandler());
+		MinecraftForge.EVENT_BUS.register(new TimingWheel.TickHandler());
+		MinecraftForge.EVENT_BUS.register(new LockOnValidator.TickHandler());
+		OrbDropTable.load(Config.config.getConfigFile().getParentFile());
 		NetworkRegistry.INSTANCE.registerGuiHandler(this, proxy);
 	}
 
@@ -155,14 +165,24 @@ public class DynamicSwordSkills
 
 	@Mod.EventHandler
 	public void onServerStarting(FMLServerStartingEvent event) {
+		Config.useLocalServerSettings();
+		PacketDispatcher.resetSentCounts();
+		CombatLog.start(event.getServer().getFile("logs"));
 		DSSCommands.registerCommands(event);
 	}
 
+	@Mod.EventHandler
+	public void onServerStopped(FMLServerStoppedEvent event) {
+		TickScheduler.clear();
+		CombatLog.stop();
+	}
+
 	@Mod.EventHandler
 	public void processMessages(FMLInterModComms.IMCEvent event) {
 		for (final FMLInterModComms.IMCMessage msg : event.getMessages()) {
 			WeaponRegistry.INSTANCE.processMessage(msg);
 		}
+		WeaponCache.invalidate();
 	}
 
 	@SubscribeEvent
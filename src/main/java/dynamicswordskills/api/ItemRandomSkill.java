@@ -24,11 +24,12 @@ import javax.annotation.Nullable;
 
 import dynamicswordskills.DynamicSwordSkills;
 import dynamicswordskills.item.IModItem;
-import dynamicswordskills.loot.functions.SkillFunction;
 import dynamicswordskills.ref.ModInfo;
 import dynamicswordskills.skills.SkillActive;
 import dynamicswordskills.skills.SkillBase;
 import dynamicswordskills.skills.Skills;
+import dynamicswordskills.util.SkillProviderCache;
+import dynamicswordskills.util.SkillSampler;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.ItemMeshDefinition;
 import net.minecraft.client.renderer.block.model.ModelBakery;
@@ -58,6 +59,9 @@ import net.minecraftforge.fml.relauncher.SideOnly;
  */
 public class ItemRandomSkill extends ItemSword implements IModItem, IRandomSkill, ISkillProviderInfusable
 {
+	/** Selects from among active skills only, as passive skills cannot be provided by a sword */
+	private static final SkillSampler ACTIVE_SKILLS = new SkillSampler(s -> s instanceof SkillActive);
+
 	/** Item quality based on tool material; higher quality tends toward higher levels */
 	private final int quality;
 
@@ -75,8 +79,7 @@ public class ItemRandomSkill extends ItemSword implements IModItem, IRandomSkill
 
 	@Override
 	public SkillBase getRandomSkill(Random rand) {
-		SkillBase skill = SkillFunction.getRandomSkill(rand);
-		return (skill instanceof SkillActive ? skill : null);
+		return ACTIVE_SKILLS.sample(rand);
 	}
 
 	@Override
@@ -219,5 +222,7 @@ public class ItemRandomSkill extends ItemSword implements IModItem, IRandomSkill
 		tag.setByte("ItemSkillLevel", (byte) level);
 		boolean flag = (!skill.is(Skills.swordBasic) && rand.nextInt(16) > 9 - this.quality); 
 		tag.setBoolean("grantsBasicSword", flag);
+		// The tag may have been edited in place, which the cache cannot detect on its own
+		SkillProviderCache.invalidate(stack);
 	}
 }
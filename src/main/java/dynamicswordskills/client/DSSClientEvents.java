@@ -62,7 +62,8 @@ public class DSSClientEvents
 		if (event.getType() != RenderGameOverlayEvent.ElementType.EXPERIENCE) {
 			return;
 		}
-		for (IGuiOverlay overlay : this.overlays) {
+		for (int i = 0; i < this.overlays.size(); ++i) {
+			IGuiOverlay overlay = this.overlays.get(i);
 			if (overlay.shouldRender() && overlay.renderOverlay(event.getResolution(), this.rendered)) {
 				this.rendered.add(overlay);
 			}
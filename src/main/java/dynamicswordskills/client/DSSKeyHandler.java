@@ -26,9 +26,11 @@ import dynamicswordskills.ref.Config;
 import dynamicswordskills.skills.ILockOnTarget;
 import dynamicswordskills.skills.SkillActive;
 import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.GuiControls;
 import net.minecraft.client.settings.KeyBinding;
 import net.minecraft.util.math.RayTraceResult;
 import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraftforge.client.event.GuiOpenEvent;
 import net.minecraftforge.fml.client.registry.ClientRegistry;
 import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.common.gameevent.InputEvent.KeyInputEvent;
@@ -74,6 +76,12 @@ public class DSSKeyHandler
 
 	public static final KeyBindingHolder[] keys = new KeyBindingHolder[desc.length];
 
+	/** Offset applied to key codes when indexing {@link #keyBindsByCode}, since mouse buttons have negative key codes */
+	private static final int MOUSE_OFFSET = 100;
+
+	/** First KeyBinding for each key code, indexed by key code + {@link #MOUSE_OFFSET}; null until next needed */
+	private static KeyBinding[] keyBindsByCode;
+
 	public DSSKeyHandler() {
 		this.mc = Minecraft.getMinecraft();
 		for (int i = 0; i < desc.length; ++i) {
@@ -97,6 +105,20 @@ public class DSSKeyHandler
 		}
 	}
 
+	/**
+	 * Rebuilds the key code index after the player closes the Controls screen, as any key may have been remapped,
+	 * and releases all keys for the {@link GestureRecognizer} when a screen opens, as no key release events will follow
+	 */
+	@SubscribeEvent
+	public void onGuiOpen(GuiOpenEvent event) {
+		if (mc.currentScreen instanceof GuiControls) {
+			invalidateKeyBindIndex();
+		}
+		if (event.getGui() != null) {
+			GestureRecognizer.INSTANCE.releaseAll();
+		}
+	}
+
 	/**
 	 * Call for any key code, mouse or keyboard, to handle custom key bindings that may
 	 * have been remapped to mouse. From MouseEvent, ONLY call this method when the mouse
@@ -107,6 +129,10 @@ public class DSSKeyHandler
 	 */
 	public static boolean onKeyPressed(Minecraft mc, int kb) {
 		if (mc.inGameHasFocus && mc.player != null) {
+			KeyBinding key = getKeyBindFromCode(mc, kb);
+			if (key != null) {
+				GestureRecognizer.INSTANCE.onKeyPressed(key);
+			}
 			if (kb == keys[KEY_SKILLS_GUI].getKeyCode()) {
 				mc.player.openGui(DynamicSwordSkills.instance, CommonProxy.GUI_SKILLS, mc.player.getEntityWorld(), (int) mc.player.posX, (int) mc.player.posY, (int) mc.player.posZ);
 			} else {
@@ -125,6 +151,9 @@ public class DSSKeyHandler
 	 */
 	public static void onKeyReleased(Minecraft mc, int kb) {
 		KeyBinding key = getKeyBindFromCode(mc, kb);
+		if (key != null) {
+			GestureRecognizer.INSTANCE.onKeyReleased(key);
+		}
 		if (key != null && mc.inGameHasFocus && mc.player != null) {
 			DSSPlayerInfo.get(mc.player).onKeyReleased(mc, key);
 		}
@@ -185,11 +214,51 @@ public class DSSKeyHandler
 	 * @param mc		Pass in Minecraft instance as a workaround to get vanilla KeyBindings
 	 */
 	public static KeyBinding getKeyBindFromCode(Minecraft mc, int keyCode) {
+		KeyBinding key;
+		int index = keyCode + MOUSE_OFFSET;
+		if (index < 0 || index >= MOUSE_OFFSET + Keyboard.KEYBOARD_SIZE) {
+			key = findKeyBind(mc, keyCode);
+		} else {
+			if (keyBindsByCode == null) {
+				buildKeyBindIndex(mc);
+			}
+			key = keyBindsByCode[index];
+			// Key bindings changed without passing through the Controls screen
+			if (key != null && key.getKeyCode() != keyCode) {
+				buildKeyBindIndex(mc);
+				key = keyBindsByCode[index];
+			}
+		}
+		if (key != null && !Config.allowVanillaControls() && isVanillaControl(mc, key)) {
+			return null;
+		}
+		return key;
+	}
+
+	/**
+	 * Forces the key code index used by {@link #getKeyBindFromCode} to be rebuilt the next time it is needed;
+	 * call after changing any KeyBinding's key code.
+	 */
+	public static void invalidateKeyBindIndex() {
+		keyBindsByCode = null;
+	}
+
+	private static void buildKeyBindIndex(Minecraft mc) {
+		KeyBinding[] index = new KeyBinding[MOUSE_OFFSET + Keyboard.KEYBOARD_SIZE];
+		for (KeyBinding k : mc.gameSettings.keyBindings) {
+			int i = k.getKeyCode() + MOUSE_OFFSET;
+			// Only the first binding for each key code is used, as when searching the array
+			if (i >= 0 && i < index.length && index[i] == null) {
+				index[i] = k;
+			}
+		}
+		keyBindsByCode = index;
+	}
+
+	/** Returns the first KeyBinding for the key code, or null if none */
+	private static KeyBinding findKeyBind(Minecraft mc, int keyCode) {
 		for (KeyBinding k : mc.gameSettings.keyBindings) {
 			if (k.getKeyCode() == keyCode) {
-				if (!Config.allowVanillaControls() && isVanillaControl(mc, k)) {
-					return null;
-				}
 				return k;
 			}
 		}
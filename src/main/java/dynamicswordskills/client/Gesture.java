@@ -0,0 +1,183 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.client;
+
+import net.minecraft.client.settings.KeyBinding;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ *
+ * Description of a key input pattern recognized by the {@link GestureRecognizer}, e.g.
+ * <pre>Gesture.sequence(forward, forward, useItem).withinGap(300)</pre>
+ *
+ * Null keys, such as disabled {@link DSSKeyHandler#keys additional controls}, never match.
+ *
+ */
+@SideOnly(Side.CLIENT)
+public abstract class Gesture
+{
+	/**
+	 * Returns true if the gesture matches the recognizer's current key state and press history
+	 */
+	abstract boolean matches(GestureRecognizer recognizer);
+
+	/**
+	 * Returns a gesture that matches if either this gesture or the other matches
+	 * @param other May be null, in which case this gesture is returned
+	 */
+	public Gesture or(Gesture other) {
+		if (other == null) {
+			return this;
+		}
+		Gesture first = this;
+		return new Gesture() {
+			@Override
+			boolean matches(GestureRecognizer recognizer) {
+				return first.matches(recognizer) || other.matches(recognizer);
+			}
+		};
+	}
+
+	/**
+	 * Returns a sequence in which each step is a single key, e.g. a double-tap
+	 */
+	public static Sequence sequence(KeyBinding... keys) {
+		KeyBinding[][] steps = new KeyBinding[keys.length][];
+		for (int i = 0; i < keys.length; ++i) {
+			steps[i] = new KeyBinding[] {keys[i]};
+		}
+		return new Sequence(steps);
+	}
+
+	/**
+	 * Returns a sequence in which each step may be any one of several keys, e.g. either 'forward' key
+	 */
+	public static Sequence sequence(KeyBinding[]... steps) {
+		return new Sequence(steps);
+	}
+
+	/**
+	 * Returns a gesture that matches while all of the keys are held down at the same time
+	 */
+	public static Gesture chord(KeyBinding... keys) {
+		return new Gesture() {
+			@Override
+			boolean matches(GestureRecognizer recognizer) {
+				for (KeyBinding key : keys) {
+					if (!recognizer.isHeld(key)) {
+						return false;
+					}
+				}
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * Series of key presses, the last of which must be the most recent key press; intended
+	 * to be checked when the final key is pressed. By default, any other key pressed between
+	 * steps breaks the sequence, and there is no time limit between steps.
+	 */
+	public static class Sequence extends Gesture
+	{
+		private final KeyBinding[][] steps;
+
+		private long maxGap = Long.MAX_VALUE;
+
+		private long maxSpan = Long.MAX_VALUE;
+
+		private boolean ignoreOtherKeys;
+
+		/** Each step before this one must have been released before the following step was pressed */
+		private int releasedBefore;
+
+		private Sequence(KeyBinding[][] steps) {
+			this.steps = steps;
+		}
+
+		/**
+		 * Sets the maximum time allowed between each step of the sequence
+		 */
+		public Sequence withinGap(long millis) {
+			this.maxGap = millis;
+			return this;
+		}
+
+		/**
+		 * Sets the maximum time allowed between the first and last steps of the sequence
+		 */
+		public Sequence withinSpan(long millis) {
+			this.maxSpan = millis;
+			return this;
+		}
+
+		/**
+		 * Allows other keys to be pressed between the steps of the sequence without breaking it
+		 */
+		public Sequence ignoringOtherKeys() {
+			this.ignoreOtherKeys = true;
+			return this;
+		}
+
+		/**
+		 * Requires the key pressed for each step before the given step to have been released before
+		 * the next step was pressed; keys pressed for that step and later ones may still be held
+		 */
+		public Sequence releasedBefore(int step) {
+			this.releasedBefore = step;
+			return this;
+		}
+
+		@Override
+		boolean matches(GestureRecognizer recognizer) {
+			int available = recognizer.getAvailablePresses();
+			if (steps.length == 0 || available == 0 || !isStep(steps.length - 1, recognizer.getPressedKey(0))) {
+				return false;
+			}
+			long last = recognizer.getPressTime(0);
+			long previous = last;
+			int step = steps.length - 2;
+			for (int n = 1; n < available && step >= 0; ++n) {
+				KeyBinding key = recognizer.getPressedKey(n);
+				long time = recognizer.getPressTime(n);
+				if (previous - time > maxGap || last - time > maxSpan) {
+					return false;
+				} else if (isStep(step, key)) {
+					if (step < releasedBefore && recognizer.getReleaseTime(n) > previous) {
+						return false;
+					}
+					previous = time;
+					--step;
+				} else if (!ignoreOtherKeys) {
+					return false;
+				}
+			}
+			return step < 0;
+		}
+
+		private boolean isStep(int step, KeyBinding key) {
+			for (KeyBinding k : steps[step]) {
+				if (k != null && k == key) {
+					return true;
+				}
+			}
+			return false;
+		}
+	}
+}
@@ -0,0 +1,204 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.client;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import javax.annotation.Nullable;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.settings.KeyBinding;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ *
+ * Records every key press and release exactly once, as received by {@link DSSKeyHandler},
+ * so that skills can recognize double-taps, chords, and other {@link Gesture}s from a single
+ * shared history rather than each skill counting key presses and ticking its own timers.
+ *
+ * All times are in milliseconds of system time, so input timing does not depend on the tick rate.
+ *
+ */
+@SideOnly(Side.CLIENT)
+public class GestureRecognizer
+{
+	public static final GestureRecognizer INSTANCE = new GestureRecognizer();
+
+	/** Number of key presses retained; must be at least the length of the longest sequence */
+	private static final int HISTORY_SIZE = 8;
+
+	/** Most recently pressed keys, indexed by press number modulo {@link #HISTORY_SIZE} */
+	private final KeyBinding[] pressedKeys = new KeyBinding[HISTORY_SIZE];
+
+	/** Time of each key press in {@link #pressedKeys} */
+	private final long[] pressTimes = new long[HISTORY_SIZE];
+
+	/** Time at which each key press in {@link #pressedKeys} was released, or {@link Long#MAX_VALUE} while still held */
+	private final long[] releaseTimes = new long[HISTORY_SIZE];
+
+	/** Total number of key presses recorded */
+	private int pressCount;
+
+	/** Value of {@link #pressCount} when the history was last {@link #consume() consumed} */
+	private int consumedCount;
+
+	/** State of each key that has been pressed at least once */
+	private final Map<KeyBinding, KeyState> states = new IdentityHashMap<KeyBinding, KeyState>();
+
+	GestureRecognizer() {}
+
+	/**
+	 * Records the key press; call before passing the key press to any skills
+	 */
+	public void onKeyPressed(KeyBinding key) {
+		onKeyPressed(key, Minecraft.getSystemTime());
+	}
+
+	void onKeyPressed(KeyBinding key, long now) {
+		int i = this.pressCount++ % HISTORY_SIZE;
+		this.pressedKeys[i] = key;
+		this.pressTimes[i] = now;
+		this.releaseTimes[i] = Long.MAX_VALUE;
+		KeyState state = this.states.get(key);
+		if (state == null) {
+			state = new KeyState();
+			this.states.put(key, state);
+		}
+		state.isHeld = true;
+		state.pressTime = now;
+	}
+
+	/**
+	 * Records the key release
+	 */
+	public void onKeyReleased(KeyBinding key) {
+		onKeyReleased(key, Minecraft.getSystemTime());
+	}
+
+	void onKeyReleased(KeyBinding key, long now) {
+		KeyState state = this.states.get(key);
+		if (state != null) {
+			state.isHeld = false;
+		}
+		// Only the latest press of a key can still be held
+		for (int n = 0; n < Math.min(this.pressCount, HISTORY_SIZE); ++n) {
+			int i = (this.pressCount - 1 - n) % HISTORY_SIZE;
+			if (this.pressedKeys[i] == key) {
+				this.releaseTimes[i] = Math.min(this.releaseTimes[i], now);
+				break;
+			}
+		}
+	}
+
+	/**
+	 * Marks all keys as released, e.g. when a GUI opens and key release events will not be received
+	 */
+	public void releaseAll() {
+		for (KeyState state : this.states.values()) {
+			state.isHeld = false;
+		}
+		long now = Minecraft.getSystemTime();
+		for (int i = 0; i < HISTORY_SIZE; ++i) {
+			this.releaseTimes[i] = Math.min(this.releaseTimes[i], now);
+		}
+	}
+
+	/**
+	 * Prevents the key presses recorded so far from being matched by any sequence,
+	 * typically called after a skill is activated by a gesture so the same presses cannot activate it again
+	 */
+	public void consume() {
+		this.consumedCount = this.pressCount;
+	}
+
+	/**
+	 * Returns true if the key has been pressed and not yet released; always false for a null key
+	 */
+	public boolean isHeld(@Nullable KeyBinding key) {
+		KeyState state = (key == null ? null : this.states.get(key));
+		return state != null && state.isHeld;
+	}
+
+	/**
+	 * Returns the number of milliseconds since the key was last pressed, or {@link Long#MAX_VALUE} if it never has been
+	 */
+	public long getTimeSincePress(@Nullable KeyBinding key) {
+		KeyState state = (key == null ? null : this.states.get(key));
+		return (state == null ? Long.MAX_VALUE : Minecraft.getSystemTime() - state.pressTime);
+	}
+
+	/**
+	 * Returns whichever of the keys currently held was pressed most recently, or null if none are held
+	 */
+	@Nullable
+	public KeyBinding getHeldKey(KeyBinding... keys) {
+		KeyBinding held = null;
+		long time = Long.MIN_VALUE;
+		for (KeyBinding key : keys) {
+			KeyState state = (key == null ? null : this.states.get(key));
+			if (state != null && state.isHeld && state.pressTime >= time) {
+				held = key;
+				time = state.pressTime;
+			}
+		}
+		return held;
+	}
+
+	/**
+	 * Returns true if the gesture matches the current key state and press history
+	 */
+	public boolean matches(Gesture gesture) {
+		return gesture.matches(this);
+	}
+
+	/**
+	 * Returns the number of recorded key presses that have not been consumed and may be retrieved with {@link #getPressedKey}
+	 */
+	int getAvailablePresses() {
+		return Math.min(this.pressCount - this.consumedCount, HISTORY_SIZE);
+	}
+
+	/**
+	 * Returns the n-th most recently pressed key, where 0 is the latest
+	 */
+	KeyBinding getPressedKey(int n) {
+		return this.pressedKeys[(this.pressCount - 1 - n) % HISTORY_SIZE];
+	}
+
+	/**
+	 * Returns the time at which the n-th most recent key press occurred, where 0 is the latest
+	 */
+	long getPressTime(int n) {
+		return this.pressTimes[(this.pressCount - 1 - n) % HISTORY_SIZE];
+	}
+
+	/**
+	 * Returns the time at which the n-th most recent key press was released, or {@link Long#MAX_VALUE} if it is still held
+	 */
+	long getReleaseTime(int n) {
+		return this.releaseTimes[(this.pressCount - 1 - n) % HISTORY_SIZE];
+	}
+
+	private static class KeyState
+	{
+		private boolean isHeld;
+		private long pressTime;
+	}
+}
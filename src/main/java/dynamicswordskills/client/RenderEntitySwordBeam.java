@@ -17,26 +17,50 @@
 
 package dynamicswordskills.client;
 
+import java.util.Arrays;
+
 import org.lwjgl.opengl.GL11;
 
 import dynamicswordskills.ref.ModInfo;
+import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.BufferBuilder;
 import net.minecraft.client.renderer.GlStateManager;
-import net.minecraft.client.renderer.Tessellator;
+import net.minecraft.client.renderer.RenderHelper;
+import net.minecraft.client.renderer.WorldVertexBufferUploader;
 import net.minecraft.client.renderer.entity.Render;
 import net.minecraft.client.renderer.entity.RenderManager;
 import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
 import net.minecraft.entity.projectile.EntityThrowable;
 import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.MathHelper;
+import net.minecraftforge.client.event.RenderWorldLastEvent;
 import net.minecraftforge.fml.client.registry.IRenderFactory;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
+/**
+ *
+ * Sword beams are not drawn individually: each beam's position is collected during the entity
+ * pass and all of them are drawn at the end of the frame with a single state setup, texture
+ * bind, and draw call, billboarding each quad on the CPU; see {@link BatchHandler}.
+ *
+ */
 @SideOnly(Side.CLIENT)
 public class RenderEntitySwordBeam extends Render<EntityThrowable>
 {
 	private static final ResourceLocation TEXTURE = new ResourceLocation(ModInfo.ID + ":textures/entity/sword_beam.png");
 
+	/** Camera-relative x, y, and z coordinates of each beam to draw this frame */
+	private static double[] positions = new double[3 * 16];
+
+	/** Number of beams to draw this frame */
+	private static int count;
+
+	private static final BufferBuilder BUFFER = new BufferBuilder(1024);
+
+	private static final WorldVertexBufferUploader UPLOADER = new WorldVertexBufferUploader();
+
 	public RenderEntitySwordBeam(RenderManager renderManager) {
 		super(renderManager);
 		this.shadowSize = 0.25F;
@@ -45,28 +69,58 @@ public class RenderEntitySwordBeam extends Render<EntityThrowable>
 
 	@Override
 	public void doRender(EntityThrowable entity, double x, double y, double z, float yaw, float partialTick) {
-		GlStateManager.pushMatrix();
-		GlStateManager.translate(x, y, z);
-		GlStateManager.pushAttrib();
+		addBeam(x, y, z);
+	}
+
+	/**
+	 * Queues a beam to be drawn at the camera-relative position at the end of the current frame
+	 */
+	public static void addBeam(double x, double y, double z) {
+		if (3 * count == positions.length) {
+			positions = Arrays.copyOf(positions, positions.length * 2);
+		}
+		int i = 3 * count++;
+		positions[i] = x;
+		positions[i + 1] = y;
+		positions[i + 2] = z;
+	}
+
+	/**
+	 * Draws all queued beams facing the camera
+	 */
+	public static void drawBeams(Minecraft mc) {
+		if (count == 0) {
+			return;
+		}
+		RenderManager renderManager = mc.getRenderManager();
+		// Same as rotating each quad by 180 - playerViewY about the Y axis and -playerViewX about the X axis,
+		// then scaling by (1.5, 0.5, 1.5), as would be done with the matrix stack for an individual beam
+		float yaw = (180.0F - renderManager.playerViewY) * 0.017453292F;
+		float pitch = -renderManager.playerViewX * 0.017453292F;
+		float sinY = MathHelper.sin(yaw), cosY = MathHelper.cos(yaw);
+		float sinX = MathHelper.sin(pitch), cosX = MathHelper.cos(pitch);
+		double rx = 1.5D * cosY, rz = -1.5D * sinY;
+		double ux = 1.5D * sinX * sinY, uy = 0.5D * cosX, uz = 1.5D * sinX * cosY;
+		float nx = sinX * sinY, ny = cosX, nz = sinX * cosY;
+		BUFFER.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_TEX_NORMAL);
+		for (int i = 0; i < 3 * count; i += 3) {
+			double x = positions[i], y = positions[i + 1], z = positions[i + 2];
+			BUFFER.pos(x - 0.5D * rx - 0.25D * ux, y - 0.25D * uy, z - 0.5D * rz - 0.25D * uz).tex(0, 1).normal(nx, ny, nz).endVertex();
+			BUFFER.pos(x + 0.5D * rx - 0.25D * ux, y - 0.25D * uy, z + 0.5D * rz - 0.25D * uz).tex(1, 1).normal(nx, ny, nz).endVertex();
+			BUFFER.pos(x + 0.5D * rx + 0.75D * ux, y + 0.75D * uy, z + 0.5D * rz + 0.75D * uz).tex(1, 0).normal(nx, ny, nz).endVertex();
+			BUFFER.pos(x - 0.5D * rx + 0.75D * ux, y + 0.75D * uy, z - 0.5D * rz + 0.75D * uz).tex(0, 0).normal(nx, ny, nz).endVertex();
+		}
+		count = 0;
+		RenderHelper.enableStandardItemLighting();
 		GlStateManager.enableBlend();
-		GlStateManager.enableLighting();
 		GlStateManager.enableTexture2D();
 		GlStateManager.blendFunc(GL11.GL_SRC_ALPHA, GL11.GL_ONE_MINUS_SRC_ALPHA);
-		GlStateManager.scale(1.5F, 0.5F, 1.5F);
-		this.bindTexture(this.getEntityTexture(entity));
-		Tessellator tessellator = Tessellator.getInstance();
-		BufferBuilder buffer = tessellator.getBuffer();
-		GlStateManager.rotate(180.0F - renderManager.playerViewY, 0.0F, 1.0F, 0.0F);
-		GlStateManager.rotate(-renderManager.playerViewX, 1.0F, 0.0F, 0.0F);
-		GlStateManager.color(1.0F, 1.0F, 1.0F);
-		buffer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_TEX_NORMAL);
-		buffer.pos(-0.5D, -0.25D, 0.0D).tex(0, 1).normal(0.0F, 1.0F, 0.0F).endVertex();
-		buffer.pos(0.5D, -0.25D, 0.0D).tex(1, 1).normal(0.0F, 1.0F, 0.0F).endVertex();
-		buffer.pos(0.5D, 0.75D, 0.0D).tex(1, 0).normal(0.0F, 1.0F, 0.0F).endVertex();
-		buffer.pos(-0.5D, 0.75D, 0.0D).tex(0, 0).normal(0.0F, 1.0F, 0.0F).endVertex();
-		tessellator.draw();
-		GlStateManager.popAttrib();
-		GlStateManager.popMatrix();
+		GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+		mc.getTextureManager().bindTexture(TEXTURE);
+		BUFFER.finishDrawing();
+		UPLOADER.draw(BUFFER);
+		GlStateManager.disableBlend();
+		RenderHelper.disableStandardItemLighting();
 	}
 
 	@Override
@@ -80,4 +134,15 @@ public class RenderEntitySwordBeam extends Render<EntityThrowable>
 			return new RenderEntitySwordBeam(manager);
 		}
 	}
+
+	/**
+	 * Draws the sword beams collected during the entity pass once all of the world has rendered
+	 */
+	public static class BatchHandler
+	{
+		@SubscribeEvent
+		public void onRenderWorldLast(RenderWorldLastEvent event) {
+			drawBeams(Minecraft.getMinecraft());
+		}
+	}
 }
@@ -0,0 +1,274 @@
+/**
+    Copyright (C) <2020> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.client;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.commons.io.IOUtils;
+import org.lwjgl.opengl.GL11;
+import org.lwjgl.util.ReadableColor;
+
+import dynamicswordskills.DynamicSwordSkills;
+import dynamicswordskills.api.SkillRegistry;
+import dynamicswordskills.ref.ModInfo;
+import dynamicswordskills.skills.SkillBase;
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.renderer.BufferBuilder;
+import net.minecraft.client.renderer.GlStateManager;
+import net.minecraft.client.renderer.WorldVertexBufferUploader;
+import net.minecraft.client.renderer.texture.DynamicTexture;
+import net.minecraft.client.renderer.texture.TextureUtil;
+import net.minecraft.client.renderer.vertex.DefaultVertexFormats;
+import net.minecraft.client.resources.IResource;
+import net.minecraft.client.resources.IResourceManager;
+import net.minecraft.client.resources.IResourceManagerReloadListener;
+import net.minecraft.util.ResourceLocation;
+import net.minecraft.util.math.MathHelper;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ *
+ * Stitches every skill icon into a single texture so that any number of icons can be drawn
+ * with one texture bind and one draw call, e.g. all of the skill slots on a Skill GUI page.
+ *
+ * The atlas is rebuilt the first time it is needed after each resource reload, by which
+ * point all skills have been registered. Icons of differing resolutions are scaled to the
+ * largest resolution present, up to {@link #MAX_CELL_SIZE}.
+ *
+ * Typical usage is to call {@link #beginBatch()}, {@link #addIcon} for each icon in the
+ * atlas, and {@link #drawBatch(Minecraft)}; icons not in the atlas must be drawn separately.
+ *
+ */
+@SideOnly(Side.CLIENT)
+public class SkillIconAtlas implements IResourceManagerReloadListener
+{
+	public static final SkillIconAtlas INSTANCE = new SkillIconAtlas();
+
+	private static final ResourceLocation LOCATION = new ResourceLocation(ModInfo.ID, "dynamic/skill_icon_atlas");
+
+	/** Minimum and maximum pixel size of each icon in the atlas */
+	private static final int MIN_CELL_SIZE = 16, MAX_CELL_SIZE = 64;
+
+	/** Atlas cell for each icon texture */
+	private final Map<ResourceLocation, Integer> cells = new LinkedHashMap<ResourceLocation, Integer>();
+
+	/** Atlas cell for each skill's icon, indexed by skill id; -1 if the skill's icon is not in the atlas */
+	private final int[] skillCells = new int[256];
+
+	/** Pixel size of each cell and number of cells in each row of the atlas */
+	private int cellSize, columns;
+
+	/** Pixel size of the atlas texture */
+	private int atlasSize;
+
+	/** Set when resources are reloaded so that the atlas is rebuilt when next needed */
+	private boolean dirty = true;
+
+	private final BufferBuilder buffer = new BufferBuilder(2048);
+
+	private final WorldVertexBufferUploader uploader = new WorldVertexBufferUploader();
+
+	private boolean isBatching;
+
+	private SkillIconAtlas() {
+		Arrays.fill(this.skillCells, -1);
+	}
+
+	@Override
+	public void onResourceManagerReload(IResourceManager manager) {
+		this.dirty = true;
+	}
+
+	/**
+	 * Returns the atlas cell for the skill's icon, or -1 if it is not in the atlas
+	 */
+	public int getCell(SkillBase skill) {
+		this.build();
+		return this.skillCells[skill.getId() & 0xFF];
+	}
+
+	/**
+	 * Returns the atlas cell for the icon texture, or -1 if it is not in the atlas
+	 */
+	public int getCell(ResourceLocation icon) {
+		this.build();
+		Integer cell = this.cells.get(icon);
+		return (cell == null ? -1 : cell);
+	}
+
+	/**
+	 * Starts collecting icons to be drawn by the next call to {@link #drawBatch(Minecraft)}
+	 */
+	public void beginBatch() {
+		this.build();
+		if (!this.isBatching) {
+			this.isBatching = true;
+			this.buffer.begin(GL11.GL_QUADS, DefaultVertexFormats.POSITION_TEX_COLOR);
+		}
+	}
+
+	/**
+	 * @return true between calls to {@link #beginBatch()} and {@link #drawBatch(Minecraft)}
+	 */
+	public boolean isBatching() {
+		return this.isBatching;
+	}
+
+	/**
+	 * Adds a region of an icon to the current batch, allowing for partially displayed (e.g. scrolled) icons
+	 * @param cell  Atlas cell as returned by {@link #getCell}
+	 * @param x     Screen coordinate of the displayed region
+	 * @param y     Screen coordinate of the displayed region
+	 * @param width  Screen width of the displayed region
+	 * @param height Screen height of the displayed region
+	 * @param srcX  Offset into the icon at which the displayed region begins, in the same units as size
+	 * @param srcY  Offset into the icon at which the displayed region begins, in the same units as size
+	 * @param size  Displayed size of the full icon, e.g. 16
+	 * @param rgba  Color with each component between 0 and 255
+	 */
+	public void addIcon(int cell, int x, int y, int width, int height, int srcX, int srcY, int size, ReadableColor rgba) {
+		float scale = 1.0F / (float)(size * this.columns);
+		float u1 = (float)(cell % this.columns) / (float)this.columns + (float)srcX * scale;
+		float v1 = (float)(cell / this.columns) / (float)this.columns + (float)srcY * scale;
+		float u2 = u1 + (float)width * scale;
+		float v2 = v1 + (float)height * scale;
+		// Atlas is square but may have unused space beyond the last column and row
+		float f = (float)(this.columns * this.cellSize) / (float)this.atlasSize;
+		u1 *= f; v1 *= f; u2 *= f; v2 *= f;
+		int r = rgba.getRed(), g = rgba.getGreen(), b = rgba.getBlue(), a = rgba.getAlpha();
+		this.buffer.pos(x, y + height, 0.0D).tex(u1, v2).color(r, g, b, a).endVertex();
+		this.buffer.pos(x + width, y + height, 0.0D).tex(u2, v2).color(r, g, b, a).endVertex();
+		this.buffer.pos(x + width, y, 0.0D).tex(u2, v1).color(r, g, b, a).endVertex();
+		this.buffer.pos(x, y, 0.0D).tex(u1, v1).color(r, g, b, a).endVertex();
+	}
+
+	/**
+	 * Draws all icons added since {@link #beginBatch()} with a single texture bind and draw call
+	 */
+	public void drawBatch(Minecraft mc) {
+		if (!this.isBatching) {
+			return;
+		}
+		this.isBatching = false;
+		if (this.buffer.getVertexCount() == 0) {
+			this.buffer.finishDrawing();
+			this.buffer.reset();
+			return;
+		}
+		// Batches may be flushed in the middle of a GUI, so put alpha and blend back the way they were; lighting stays off as GUIs expect
+		boolean alpha = GL11.glIsEnabled(GL11.GL_ALPHA_TEST);
+		boolean blend = GL11.glIsEnabled(GL11.GL_BLEND);
+		GlStateManager.disableLighting();
+		GlStateManager.enableAlpha();
+		GlStateManager.enableBlend();
+		GlStateManager.color(1.0F, 1.0F, 1.0F, 1.0F);
+		mc.getTextureManager().bindTexture(LOCATION);
+		this.buffer.finishDrawing();
+		this.uploader.draw(this.buffer);
+		if (!alpha) {
+			GlStateManager.disableAlpha();
+		}
+		if (!blend) {
+			GlStateManager.disableBlend();
+		}
+	}
+
+	/**
+	 * Stitches all registered skill icons into the atlas texture if resources have been reloaded since it was last built
+	 */
+	private void build() {
+		if (!this.dirty) {
+			return;
+		}
+		this.dirty = false;
+		Minecraft mc = Minecraft.getMinecraft();
+		IResourceManager manager = mc.getResourceManager();
+		this.cells.clear();
+		Arrays.fill(this.skillCells, -1);
+		List<BufferedImage> images = new ArrayList<BufferedImage>();
+		List<ResourceLocation> icons = new ArrayList<ResourceLocation>();
+		icons.add(SkillBase.DEFAULT_ICON);
+		for (SkillBase skill : SkillRegistry.getValues()) {
+			if (!icons.contains(skill.getIconLocation())) {
+				icons.add(skill.getIconLocation());
+			}
+		}
+		int size = MIN_CELL_SIZE;
+		for (ResourceLocation icon : icons) {
+			BufferedImage image = readImage(manager, icon);
+			if (image != null) {
+				this.cells.put(icon, images.size());
+				images.add(image);
+				size = Math.max(size, Math.min(image.getWidth(), MAX_CELL_SIZE));
+			}
+		}
+		if (images.isEmpty()) {
+			return;
+		}
+		this.columns = MathHelper.ceil(Math.sqrt(images.size()));
+		int max = Minecraft.getGLMaximumTextureSize();
+		while (size > MIN_CELL_SIZE && MathHelper.smallestEncompassingPowerOfTwo(this.columns * size) > max) {
+			size /= 2;
+		}
+		this.cellSize = size;
+		this.atlasSize = MathHelper.smallestEncompassingPowerOfTwo(this.columns * size);
+		BufferedImage atlas = new BufferedImage(this.atlasSize, this.atlasSize, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = atlas.createGraphics();
+		graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+		for (int i = 0; i < images.size(); ++i) {
+			BufferedImage image = images.get(i);
+			int x = (i % this.columns) * size;
+			int y = (i / this.columns) * size;
+			// Only the top square of the image is used, as for the individually drawn icons
+			graphics.drawImage(image, x, y, x + size, y + size, 0, 0, image.getWidth(), image.getWidth(), null);
+		}
+		graphics.dispose();
+		mc.getTextureManager().deleteTexture(LOCATION);
+		mc.getTextureManager().loadTexture(LOCATION, new DynamicTexture(atlas));
+		for (SkillBase skill : SkillRegistry.getValues()) {
+			Integer cell = this.cells.get(skill.getIconLocation());
+			if (cell != null) {
+				this.skillCells[skill.getId() & 0xFF] = cell;
+			}
+		}
+	}
+
+	private static BufferedImage readImage(IResourceManager manager, ResourceLocation icon) {
+		IResource resource = null;
+		try {
+			resource = manager.getResource(icon);
+			InputStream stream = resource.getInputStream();
+			return TextureUtil.readBufferedImage(stream);
+		} catch (IOException e) {
+			DynamicSwordSkills.logger.warn("Unable to add skill icon " + icon + " to the icon atlas: " + e.getMessage());
+			return null;
+		} finally {
+			IOUtils.closeQuietly(resource);
+		}
+	}
+}
@@ -0,0 +1,113 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.client;
+
+import dynamicswordskills.command.CommandBeamBenchmark;
+import net.minecraft.client.Minecraft;
+import net.minecraft.util.math.MathHelper;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraftforge.client.event.RenderWorldLastEvent;
+import net.minecraftforge.fml.common.eventhandler.EventPriority;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ *
+ * Benchmark scene for sword beam rendering: surrounds the camera with stationary beams
+ * for a number of seconds, then reports the average and worst frame times.
+ *
+ * Started with the client-side {@link CommandBeamBenchmark}.
+ *
+ */
+@SideOnly(Side.CLIENT)
+public class SwordBeamBenchmark
+{
+	public static final SwordBeamBenchmark INSTANCE = new SwordBeamBenchmark();
+
+	/** Number of beams in each ring around the camera */
+	private static final int RING_SIZE = 32;
+
+	/** Number of beams to add each frame; 0 when not running */
+	private int beams;
+
+	/** System time at which the benchmark ends */
+	private long endTime;
+
+	/** Time at which the previous frame was rendered, in nanoseconds */
+	private long lastFrame;
+
+	private int frames;
+
+	private long totalTime, maxTime;
+
+	private SwordBeamBenchmark() {}
+
+	/**
+	 * Starts the benchmark, replacing any benchmark already running
+	 * @param beams   Number of beams to display each frame
+	 * @param seconds Duration of the benchmark
+	 */
+	public void start(int beams, int seconds) {
+		this.beams = beams;
+		this.endTime = Minecraft.getSystemTime() + seconds * 1000L;
+		this.lastFrame = 0;
+		this.frames = 0;
+		this.totalTime = 0;
+		this.maxTime = 0;
+	}
+
+	/**
+	 * Adds the benchmark beams before {@link RenderEntitySwordBeam.BatchHandler} draws them
+	 */
+	@SubscribeEvent(priority = EventPriority.HIGH)
+	public void onRenderWorldLast(RenderWorldLastEvent event) {
+		if (this.beams < 1) {
+			return;
+		}
+		long now = System.nanoTime();
+		if (this.lastFrame != 0) {
+			long time = now - this.lastFrame;
+			this.frames++;
+			this.totalTime += time;
+			this.maxTime = Math.max(this.maxTime, time);
+		}
+		this.lastFrame = now;
+		if (Minecraft.getSystemTime() > this.endTime) {
+			this.finish();
+			return;
+		}
+		for (int i = 0; i < this.beams; ++i) {
+			int ring = i / RING_SIZE;
+			float angle = (float)(i % RING_SIZE) * ((float) Math.PI * 2.0F / (float) RING_SIZE);
+			double radius = 3.0D + (double)(ring % 8);
+			double y = (double)(ring / 8) * 0.5D - 1.0D;
+			RenderEntitySwordBeam.addBeam(radius * MathHelper.cos(angle), y, radius * MathHelper.sin(angle));
+		}
+	}
+
+	private void finish() {
+		Minecraft mc = Minecraft.getMinecraft();
+		if (mc.player != null) {
+			String average = String.format("%.2f", (this.frames == 0 ? 0.0D : (double) this.totalTime / (double) this.frames / 1000000.0D));
+			String max = String.format("%.2f", (double) this.maxTime / 1000000.0D);
+			mc.player.sendMessage(new TextComponentTranslation("commands.dssbeambench.result", this.beams, this.frames, average, max));
+		}
+		this.beams = 0;
+	}
+}
@@ -19,9 +19,11 @@ package dynamicswordskills.client.gui;
 
 import java.util.List;
 
+import dynamicswordskills.ref.Config;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.gui.Gui;
 import net.minecraft.client.gui.ScaledResolution;
+import net.minecraft.client.resources.Language;
 import net.minecraftforge.fml.relauncher.Side;
 import net.minecraftforge.fml.relauncher.SideOnly;
 
@@ -36,9 +38,23 @@ public abstract class AbstractGuiOverlay extends Gui implements IGuiOverlay
 	/** Max height and width for combining elements; based on ScaledResolution */
 	protected int maxH, maxW;
 
-	/** Left-most x, top-most y, width and height are usually re-set each time the overlay renders */
+	/** Left-most x, top-most y, width and height are re-set each time the overlay is laid out */
 	protected int x, y, width, height;
 
+	/** False when the overlay must be laid out again before rendering; see {@link #invalidateLayout()} */
+	private boolean layoutValid;
+
+	/** Whether the overlay fit on screen as of the last layout */
+	private boolean layoutFits;
+
+	/** Conditions under which the current layout was computed */
+	private int layoutWidth, layoutHeight, layoutConfig, layoutScale;
+	private Language layoutLanguage;
+
+	/** Left, top, right, and bottom of each overlay this one was laid out against */
+	private int[] layoutOverlays = new int[16];
+	private int layoutOverlayCount;
+
 	public AbstractGuiOverlay(Minecraft mc) {
 		this.mc = mc;
 	}
@@ -89,25 +105,81 @@ public abstract class AbstractGuiOverlay extends Gui implements IGuiOverlay
 	}
 
 	/**
-	 * Sets up and dynamically adjusts element before calling {@link #render(ScaledResolution)}
+	 * Sets up and dynamically adjusts element before calling {@link #render(ScaledResolution)}.
+	 * The previous layout is reused as long as it remains valid, so that an unchanging overlay
+	 * neither rebuilds its text nor re-runs {@link #coalesce} each frame.
 	 */
 	@Override
 	public boolean renderOverlay(ScaledResolution resolution, List<IGuiOverlay> overlays) {
+		if (!this.isLayoutCurrent(resolution, overlays)) {
+			this.layout(resolution, overlays);
+		}
+		if (!this.layoutFits) {
+			return false; // failed to render
+		}
+		this.render(resolution);
+		return true;
+	}
+
+	/**
+	 * Forces {@link #setup} and {@link #coalesce} to be called again before the next render;
+	 * call whenever anything displayed by the overlay changes.
+	 */
+	protected void invalidateLayout() {
+		this.layoutValid = false;
+	}
+
+	private boolean isLayoutCurrent(ScaledResolution resolution, List<IGuiOverlay> overlays) {
+		if (!this.layoutValid || this.layoutWidth != resolution.getScaledWidth() || this.layoutHeight != resolution.getScaledHeight()
+				|| this.layoutScale != resolution.getScaleFactor() || this.layoutConfig != Config.getClientVersion()
+				|| this.layoutLanguage != this.mc.getLanguageManager().getCurrentLanguage() || this.layoutOverlayCount != overlays.size()) {
+			return false;
+		}
+		for (int i = 0, j = 0; i < this.layoutOverlayCount; ++i) {
+			IGuiOverlay overlay = overlays.get(i);
+			if (this.layoutOverlays[j++] != overlay.getLeft() || this.layoutOverlays[j++] != overlay.getTop()
+					|| this.layoutOverlays[j++] != overlay.getRight() || this.layoutOverlays[j++] != overlay.getBottom()) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private void layout(ScaledResolution resolution, List<IGuiOverlay> overlays) {
 		this.maxW = resolution.getScaledWidth() / 3;
 		this.maxH = resolution.getScaledHeight() / 2;
 		this.setup(resolution);
-		for (IGuiOverlay overlay : overlays) {
+		this.layoutFits = true;
+		for (int i = 0; i < overlays.size(); ++i) {
+			IGuiOverlay overlay = overlays.get(i);
 			if (this.intersectsWith(overlay) && !this.coalesce(overlay, resolution)) {
-				return false; // failed to render
+				this.layoutFits = false;
+				break;
 			}
 		}
-		this.render(resolution);
-		return true;
+		this.layoutValid = true;
+		this.layoutWidth = resolution.getScaledWidth();
+		this.layoutHeight = resolution.getScaledHeight();
+		this.layoutScale = resolution.getScaleFactor();
+		this.layoutConfig = Config.getClientVersion();
+		this.layoutLanguage = this.mc.getLanguageManager().getCurrentLanguage();
+		this.layoutOverlayCount = overlays.size();
+		if (this.layoutOverlays.length < this.layoutOverlayCount * 4) {
+			this.layoutOverlays = new int[this.layoutOverlayCount * 4];
+		}
+		for (int i = 0, j = 0; i < this.layoutOverlayCount; ++i) {
+			IGuiOverlay overlay = overlays.get(i);
+			this.layoutOverlays[j++] = overlay.getLeft();
+			this.layoutOverlays[j++] = overlay.getTop();
+			this.layoutOverlays[j++] = overlay.getRight();
+			this.layoutOverlays[j++] = overlay.getBottom();
+		}
 	}
 
 	/**
-	 * Called prior to {@link IGuiOverlay#renderOverlay} and after {@link IGuiOverlay#shouldRender()}.
-	 * Set this element's x, y, width and height so they can be properly adjusted later.
+	 * Called prior to {@link #render} whenever the layout is no longer valid, after {@link IGuiOverlay#shouldRender()}.
+	 * Set this element's x, y, width and height so they can be properly adjusted later, and build anything
+	 * the render method needs, such as text, so that it does not need to be rebuilt each frame.
 	 */
 	protected abstract void setup(ScaledResolution resolution);
 
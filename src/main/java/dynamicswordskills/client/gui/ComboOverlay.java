@@ -17,8 +17,6 @@
 
 package dynamicswordskills.client.gui;
 
-import java.util.List;
-
 import dynamicswordskills.entity.DSSPlayerInfo;
 import dynamicswordskills.network.PacketDispatcher;
 import dynamicswordskills.network.server.EndComboPacket;
@@ -43,8 +41,21 @@ public class ComboOverlay extends AbstractGuiOverlay
 	/** Combo to display will update as combo updates, should fade after some time */
 	private Combo combo = null;
 
-	/** Current combo descriptors */
-	private String label, comboSize, comboDamage;
+	/** Maximum number of lines displayed: combo name, size, damage, and up to 12 individual hits */
+	private static final int MAX_LINES = 3 + 12;
+
+	/** Text of each line to display, built only when the layout is invalidated */
+	private final String[] lines = new String[MAX_LINES];
+
+	/** Horizontal offset of each line from the left edge of the overlay */
+	private final int[] offsets = new int[MAX_LINES];
+
+	/** Number of lines currently in use */
+	private int lineCount;
+
+	/** Combo and {@link Combo#getVersion() version} as of the last layout */
+	private Combo layoutCombo;
+	private int layoutComboVersion;
 
 	/** Used to detect changes in the combo size */
 	private int lastComboSize = 0;
@@ -58,12 +69,12 @@ public class ComboOverlay extends AbstractGuiOverlay
 
 	@Override
 	public HALIGN getHorizontalAlignment() {
-		return Config.comboHudXAlign;
+		return Config.getComboHudXAlign();
 	}
 
 	@Override
 	public VALIGN getVerticalAlignment() {
-		return Config.comboHudYAlign;
+		return Config.getComboHudYAlign();
 	}
 
 	@Override
@@ -73,7 +84,7 @@ public class ComboOverlay extends AbstractGuiOverlay
 
 	@Override
 	public boolean shouldRender() {
-		if (Config.comboHudDisplayTime < 1) {
+		if (Config.getComboHudDisplayTime() < 1) {
 			return false;
 		}
 		IComboSkill iCombo = DSSPlayerInfo.get(mc.player).getComboSkill();
@@ -88,46 +99,53 @@ public class ComboOverlay extends AbstractGuiOverlay
 				}
 			}
 		}
+		if (this.combo != null && (this.combo != this.layoutCombo || this.combo.getVersion() != this.layoutComboVersion)) {
+			this.invalidateLayout();
+		}
 		if (this.combo != null && this.combo.getNumHits() > 0) {
 			// If combo has changed, reset timer
 			if (this.lastComboSize != this.combo.getNumHits()) {
 				this.lastComboSize = this.combo.getNumHits();
 				this.displayStartTime = Minecraft.getSystemTime();
 			}
-			return ((Minecraft.getSystemTime() - this.displayStartTime) < Config.comboHudDisplayTime);
+			return ((Minecraft.getSystemTime() - this.displayStartTime) < Config.getComboHudDisplayTime());
 		}
 		return false;
 	}
 
 	@Override
 	protected void setup(ScaledResolution resolution) {
+		this.layoutCombo = this.combo;
+		this.layoutComboVersion = this.combo.getVersion();
 		// Minimum display of 3 lines: combo name, size and damage
-		int n = Math.min(this.combo.getDamageList().size(), Config.getHitsToDisplay());
-		this.height = (n + 3) * this.mc.fontRenderer.FONT_HEIGHT;
-		this.label = new TextComponentTranslation(this.combo.isFinished() ? "combo.finished" : "combo.combo", this.combo.getLabel()).getUnformattedText();
-		this.comboSize = new TextComponentTranslation("combo.size", this.combo.getNumHits(), this.combo.getMaxNumHits()).getUnformattedText();
-		this.comboDamage = new TextComponentTranslation("combo.damage", String.format("%.1f", this.combo.getDamage())).getUnformattedText();
-		this.width = Math.max(this.mc.fontRenderer.getStringWidth(this.label), this.mc.fontRenderer.getStringWidth(this.comboDamage));
-		this.width = Math.max(this.mc.fontRenderer.getStringWidth(this.label), this.mc.fontRenderer.getStringWidth(this.comboDamage));
-		this.setPosX(resolution, this.getOffsetX(DEFAULT_PADDING) + Config.comboHudXOffset);
-		this.setPosY(resolution, this.getOffsetY(DEFAULT_PADDING) + Config.comboHudYOffset);
+		int hits = this.combo.getNumHits();
+		int n = Math.min(Math.min(hits, Config.getHitsToDisplay()), MAX_LINES - 3);
+		this.lineCount = n + 3;
+		this.height = this.lineCount * this.mc.fontRenderer.FONT_HEIGHT;
+		this.lines[0] = new TextComponentTranslation(this.combo.isFinished() ? "combo.finished" : "combo.combo", this.combo.getLabel()).getUnformattedText();
+		this.lines[1] = new TextComponentTranslation("combo.size", this.combo.getNumHits(), this.combo.getMaxNumHits()).getUnformattedText();
+		this.lines[2] = new TextComponentTranslation("combo.damage", String.format("%.1f", this.combo.getDamage())).getUnformattedText();
+		for (int i = 0; i < n; ++i) {
+			this.lines[i + 3] = String.format("+%.1f", this.combo.getHitDamage(hits - i - 1));
+		}
+		this.width = Math.max(this.mc.fontRenderer.getStringWidth(this.lines[0]), this.mc.fontRenderer.getStringWidth(this.lines[2]));
+		this.setPosX(resolution, this.getOffsetX(DEFAULT_PADDING) + Config.getComboHudXOffset());
+		this.setPosY(resolution, this.getOffsetY(DEFAULT_PADDING) + Config.getComboHudYOffset());
+		// Label is always drawn flush with the left edge
+		this.offsets[0] = 0;
+		for (int i = 1; i < this.lineCount; ++i) {
+			this.offsets[i] = this.getOffset(this.lines[i]);
+		}
 	}
 
 	@Override
 	protected void render(ScaledResolution resolution) {
 		int xPos = this.getLeft();
 		int yPos = this.getTop();
-		this.mc.fontRenderer.drawString(this.label, xPos, yPos, this.combo.isFinished() ? 0x9400D3 : 0xEEEE00, true);
-		yPos += this.mc.fontRenderer.FONT_HEIGHT;
-		this.mc.fontRenderer.drawString(this.comboSize, xPos + this.getOffset(this.comboSize), yPos, 0xFFFFFF, true);
-		yPos += this.mc.fontRenderer.FONT_HEIGHT;
-		this.mc.fontRenderer.drawString(this.comboDamage, xPos + this.getOffset(this.comboDamage), yPos, 0xFFFFFF, true);
-		List<Float> damageList = this.combo.getDamageList();
-		int n = Math.min(damageList.size(), Config.getHitsToDisplay());
-		for (int i = 0; i < n; ++i) {
+		for (int i = 0; i < this.lineCount; ++i) {
+			int color = (i > 0 ? 0xFFFFFF : (this.combo.isFinished() ? 0x9400D3 : 0xEEEE00));
+			this.mc.fontRenderer.drawString(this.lines[i], xPos + this.offsets[i], yPos, color, true);
 			yPos += this.mc.fontRenderer.FONT_HEIGHT;
-			String s = String.format("+%.1f", damageList.get(damageList.size() - i - 1));
-			this.mc.fontRenderer.drawString(s, xPos + this.getOffset(s), yPos, 0xFFFFFF, true);
 		}
 	}
 
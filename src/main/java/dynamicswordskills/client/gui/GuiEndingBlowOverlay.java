@@ -46,23 +46,26 @@ public class GuiEndingBlowOverlay extends AbstractGuiOverlay
 
 	private String text;
 
+	/** Icon index for which the text was last built */
+	private int layoutIconIndex = -1;
+
 	public GuiEndingBlowOverlay(Minecraft mc) {
 		super(mc);
 	}
 
 	@Override
 	public HALIGN getHorizontalAlignment() {
-		return Config.endingBlowHudXAlign;
+		return Config.getEndingBlowHudXAlign();
 	}
 
 	@Override
 	public VALIGN getVerticalAlignment() {
-		return Config.endingBlowHudYAlign;
+		return Config.getEndingBlowHudYAlign();
 	}
 
 	@Override
 	public boolean shouldRender() {
-		if (Config.isSkillDisabled(this.mc.player, Skills.endingBlow) || Config.endingBlowHudDisplayTime < 1) {
+		if (Config.isSkillDisabled(this.mc.player, Skills.endingBlow) || Config.getEndingBlowHudDisplayTime() < 1) {
 			return false;
 		}
 		SkillActive skill = DSSPlayerInfo.get(mc.player).getActiveSkill(Skills.endingBlow);
@@ -78,25 +81,29 @@ public class GuiEndingBlowOverlay extends AbstractGuiOverlay
 			byte i = ((EndingBlow) skill).skillResult;
 			this.iconIndex = (i < 0 ? 2 : i);
 		}
-		if (!Config.endingBlowHudResult && this.iconIndex != 0) {
+		if (this.iconIndex != this.layoutIconIndex) {
+			this.invalidateLayout();
+		}
+		if (!Config.showEndingBlowHudResult() && this.iconIndex != 0) {
 			return false;
 		}
-		return ((Minecraft.getSystemTime() - this.displayStartTime) < Config.endingBlowHudDisplayTime);
+		return ((Minecraft.getSystemTime() - this.displayStartTime) < Config.getEndingBlowHudDisplayTime());
 	}
 
 	@Override
 	protected void setup(ScaledResolution resolution) {
+		this.layoutIconIndex = this.iconIndex;
 		String textKey = Skills.endingBlow.getTranslationKey() + (this.iconIndex == 2 ? ".hud.failure" : (this.iconIndex == 1 ? "hud.success" : "hud.activate"));
 		this.text = new TextComponentTranslation(textKey).getUnformattedText();
-		this.height = (Config.endingBlowHudText ? this.mc.fontRenderer.FONT_HEIGHT : ICON_SIZE);
-		this.width = (Config.endingBlowHudText ? this.mc.fontRenderer.getStringWidth(this.text) : ICON_SIZE);
-		this.setPosX(resolution, Config.endingBlowHudXOffset);
-		this.setPosY(resolution, Config.endingBlowHudYOffset);
+		this.height = (Config.showEndingBlowHudText() ? this.mc.fontRenderer.FONT_HEIGHT : ICON_SIZE);
+		this.width = (Config.showEndingBlowHudText() ? this.mc.fontRenderer.getStringWidth(this.text) : ICON_SIZE);
+		this.setPosX(resolution, Config.getEndingBlowHudXOffset());
+		this.setPosY(resolution, Config.getEndingBlowHudYOffset());
 	}
 
 	@Override
 	protected void render(ScaledResolution resolution) {
-		if (Config.endingBlowHudText) {
+		if (Config.showEndingBlowHudText()) {
 			this.mc.fontRenderer.drawString(this.text, this.x, this.y, 0XFF0000, true);
 		} else {
 			GlStateManager.pushAttrib();
@@ -98,6 +98,10 @@ public class GuiFactoryConfig implements IModGuiFactory
 				List<IConfigElement> list = (new ConfigElement(Config.config.getCategory("general"))).getChildElements();
 				List<IConfigElement> drops = (new ConfigElement(Config.config.getCategory("drops"))).getChildElements();
 				list.add(new DummyCategoryElement("dssServerDropsConfig", "dss.config.server.drops", drops));
+				List<IConfigElement> rate_limits = (new ConfigElement(Config.config.getCategory("rateLimits"))).getChildElements();
+				list.add(new DummyCategoryElement("dssServerRateLimitsConfig", "dss.config.server.rateLimits", rate_limits));
+				List<IConfigElement> combat_log = (new ConfigElement(Config.config.getCategory("combatLog"))).getChildElements();
+				list.add(new DummyCategoryElement("dssServerCombatLogConfig", "dss.config.server.combatLog", combat_log));
 				return new GuiConfig(this.owningScreen,
 						list,
 						this.owningScreen.modID,
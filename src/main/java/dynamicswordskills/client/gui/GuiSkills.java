@@ -32,8 +32,10 @@ import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
 import dynamicswordskills.api.SkillGroup;
+import dynamicswordskills.api.SkillRegistry;
 import dynamicswordskills.client.DSSKeyHandler;
 import dynamicswordskills.client.RenderHelperQ;
+import dynamicswordskills.client.SkillIconAtlas;
 import dynamicswordskills.client.gui.GuiContainedButton.GuiButtonContainer;
 import dynamicswordskills.client.gui.GuiElement.GuiCompositeElement;
 import dynamicswordskills.client.gui.GuiElementContainer.GuiTextElementContainer;
@@ -71,9 +73,24 @@ public class GuiSkills extends GuiScreen
 	/** Table of contents */
 	protected final Map<SkillGroup, Integer> index = Maps.<SkillGroup, Integer>newHashMap();
 
-	/** List of pages containing skill slots */
+	/** Number of pages on either side of the current left-hand page that are kept built */
+	protected static final int PREFETCH = 1;
+
+	/** List of pages containing skill slots; skill pages outside of the {@link #PREFETCH} window are null until needed */
 	protected final List<Page<?>> pages = new ArrayList<Page<?>>();
 
+	/** The skill group displayed on each page, or null for pages not associated with any group */
+	protected final List<SkillGroup> pageGroups = new ArrayList<SkillGroup>();
+
+	/** Skill slots released from pages outside of the {@link #PREFETCH} window, available for reuse */
+	protected final Map<SkillBase, TitledSkillSlot> slotPool = Maps.<SkillBase, TitledSkillSlot>newHashMap();
+
+	/** Table of contents labels, truncated to fit the index buttons */
+	protected final Map<SkillGroup, String> indexLabels = Maps.<SkillGroup, String>newHashMap();
+
+	/** Flag set when the left-hand page changes so that neighboring pages are built on the next update */
+	protected boolean prefetchPending;
+
 	/** The X size of the GUI window in pixels. */
 	protected int xSize = 281;
 
@@ -161,14 +178,12 @@ public class GuiSkills extends GuiScreen
 				continue;
 			}
 			int dy = 55 + (i * (h + op));
-			String s = group.getDisplayName();
-			boolean ellipsis = false;
-			while (this.fontRenderer.getStringWidth(s) > max) {
-				s = s.substring(0, s.length() - 1);
-				ellipsis = true;
-			}
-			if (ellipsis) {
-				s += "...";
+			String s = this.indexLabels.get(group);
+			if (s == null) {
+				s = group.getDisplayName();
+				String trimmed = this.fontRenderer.trimStringToWidth(s, max);
+				s = (trimmed.length() < s.length() ? trimmed + "..." : s);
+				this.indexLabels.put(group, s);
 			}
 			this.buttonList.add(new GroupIndexButton(group, btns++, this.guiLeft + 154, this.guiTop + dy, w, h, s, pageIndex).pad(ip, 0).setDrawButtonBox(!plainText));
 			i++;
@@ -186,44 +201,89 @@ public class GuiSkills extends GuiScreen
 		this.fontRenderer.setUnicodeFlag(unicodeFlag);
 	}
 
+	/**
+	 * Determines the page index for each skill group by counting the skills to display;
+	 * skill slots are not created until a group's page is about to be displayed.
+	 */
 	protected void initPages() {
 		this.footer = new PageNumberFooter(76, 161, 101, 9);
 		this.pages.add(getTitlePage());
-		SkillSlotContainer container = null;
-		for (SkillGroup group : SkillGroup.getAll()) {
-			List<SkillBase> skills = group.getSkills((t) -> {
-				if (!Config.showBannedSkills() && !Config.isSkillAllowed(t)) {
-					return false;
-				}
-				return Config.showUnknownSkills() || this.skills.getSkillLevel(t) > 0;
-			});
-			if (skills.isEmpty()) {
-				continue;
-			}
-			group.sort(skills);
-			int pageIndex = this.pages.size();
-			int op = 3; // vertical padding between elements
-			container = (SkillSlotContainer)new SkillSlotContainer(this, group, 18, 32, 110, 127).setElementPadding(0, op).pad(2, 2, 2, 4);
-			for (SkillBase skill : skills) {
-				if (!container.add(new TitledSkillSlot(skill, 104, 18))) {
-					if (!container.isEmpty()) {
-						this.pages.add(getSkillContainerPage(container)); // add current page
+		this.pageGroups.add(null);
+		List<SkillGroup> groups = SkillGroup.getAll();
+		int[] counts = new int[groups.size()];
+		for (SkillBase skill : SkillRegistry.getValues()) {
+			if (this.isSkillDisplayed(skill)) {
+				for (int i = 0; i < counts.length; ++i) {
+					if (Config.isSkillInGroup(skill, groups.get(i))) {
+						counts[i]++;
 					}
-					container = (SkillSlotContainer)new SkillSlotContainer(this, group, 18, 32, 110, 127).setElementPadding(0, op).pad(2, 2, 2, 4);
-					container.add(new TitledSkillSlot(skill, 104, 18));
 				}
 			}
-			if (!container.isEmpty()) {
-				this.pages.add(getSkillContainerPage(container)); // add last page
-			}
+		}
+		for (int i = 0; i < counts.length; ++i) {
 			// Add index only for non-empty group
-			if (pageIndex < this.pages.size()) {
-				this.index.put(group, pageIndex);
+			if (counts[i] > 0) {
+				this.index.put(groups.get(i), this.pages.size());
+				this.pages.add(null);
+				this.pageGroups.add(groups.get(i));
 			}
 		}
 		this.footer.numPages = this.pages.size();
 	}
 
+	/**
+	 * @return true if the skill should be included in its groups' pages
+	 */
+	protected boolean isSkillDisplayed(SkillBase skill) {
+		if (!Config.showBannedSkills() && !Config.isSkillAllowed(skill)) {
+			return false;
+		}
+		return Config.showUnknownSkills() || this.skills.getSkillLevel(skill) > 0;
+	}
+
+	/**
+	 * Returns the page at the index, building it first if necessary
+	 */
+	protected Page<?> getPage(int index) {
+		Page<?> page = this.pages.get(index);
+		if (page == null) {
+			page = this.getSkillContainerPage(index, this.pageGroups.get(index));
+			this.pages.set(index, page);
+		}
+		return page;
+	}
+
+	/**
+	 * Builds any missing pages within {@link #PREFETCH} pages of the current left-hand page
+	 * and releases all other skill pages, returning their skill slots to the {@link #slotPool}
+	 */
+	protected void updatePrefetchedPages() {
+		for (int i = 0; i < this.pages.size(); ++i) {
+			Page<?> page = this.pages.get(i);
+			if (Math.abs(i - this.pageLeft.index) <= PREFETCH) {
+				this.getPage(i);
+			} else if (page != null && page.body instanceof SkillSlotContainer) {
+				SkillSlotContainer container = (SkillSlotContainer) page.body;
+				container.clearFilters();
+				for (SkillSlot slot : container.getElements()) {
+					if (slot instanceof TitledSkillSlot && !this.slotPool.containsKey(slot.skill)) {
+						this.slotPool.put(slot.skill, (TitledSkillSlot) slot);
+					}
+				}
+				this.pages.set(i, null);
+			}
+		}
+	}
+
+	@Override
+	public void updateScreen() {
+		super.updateScreen();
+		if (this.prefetchPending) {
+			this.prefetchPending = false;
+			this.updatePrefetchedPages();
+		}
+	}
+
 	protected GuiScrollBar getScrollBar(IGuiElementScrollable parent, int x, int dy) {
 		return new GuiCompositeScrollBar(parent,
 				new GuiImageElement(x + 1, 40 + dy, 1, 111 - (dy * 2), GUI_TEXTURE, 300, 180, 282, 35),
@@ -239,12 +299,17 @@ public class GuiSkills extends GuiScreen
 		// Left-hand page content area: 20, 34, 106, 123
 		String headerText = new TextComponentTranslation("skill.dss.gui.main.title").getUnformattedText().toUpperCase();
 		GuiTextElement header = new GuiTextElement(42, 26, 80, 9, new TextComponentTranslation(headerText), TEXT_COLOR, false);
-		GuiElementContainer<GuiTextElement> body = new GuiTextElementContainer(18, 32, 110, 127).setElementPadding(0, mc.fontRenderer.FONT_HEIGHT);
-		body.pad(7, 0, 7, 5);
+		GuiElementContainer<GuiTextElement> body = getTitlePageBody();
 		body.add(((GuiTextElement) new GuiTextElement(body, new TextComponentTranslation("skill.dss.gui.main.body"), TEXT_COLOR, true).pad(0)));
 		return new Page<GuiTextElement>(0, 10, 7, 121, 164, body, header, this.footer);
 	}
 
+	protected static GuiElementContainer<GuiTextElement> getTitlePageBody() {
+		GuiElementContainer<GuiTextElement> body = new GuiTextElementContainer(18, 32, 110, 127).setElementPadding(0, Minecraft.getMinecraft().fontRenderer.FONT_HEIGHT);
+		body.pad(7, 0, 7, 5);
+		return body;
+	}
+
 	protected Page<?> getTableOfContents() {
 		// Right-hand page header area: 159, 37, 101, 13
 		// Right-hand page content area: 159, 53, 101, 101
@@ -260,10 +325,18 @@ public class GuiSkills extends GuiScreen
 		return new Page<GuiContainedButton>(0, 148, 7, 121, 164, body, header);
 	}
 
-	protected Page<SkillSlot> getSkillContainerPage(SkillSlotContainer body) {
-		String headerText = body.group.getDisplayName().toUpperCase();
+	protected Page<SkillSlot> getSkillContainerPage(int index, SkillGroup group) {
+		List<SkillBase> skills = group.getSkills(this::isSkillDisplayed);
+		group.sort(skills);
+		int op = 3; // vertical padding between elements
+		SkillSlotContainer body = (SkillSlotContainer)new SkillSlotContainer(this, group, 18, 32, 110, 127).setElementPadding(0, op).pad(2, 2, 2, 4);
+		for (SkillBase skill : skills) {
+			TitledSkillSlot slot = this.slotPool.remove(skill);
+			body.add(slot == null ? new TitledSkillSlot(skill, 104, 18) : slot);
+		}
+		String headerText = group.getDisplayName().toUpperCase();
 		GuiTextElement header = new GuiTextElement(42, 24, 79, 9, GuiTextElement.getBoldComponent(new TextComponentString(headerText), null), TEXT_COLOR, true);
-		return new Page<SkillSlot>(this.pages.size(), 10, 7, 121, 164, body, header, this.footer);
+		return new Page<SkillSlot>(index, 10, 7, 121, 164, body, header, this.footer);
 	}
 
 	protected Page<?> getSkillDescriptionPage(SkillBase skill) {
@@ -273,8 +346,7 @@ public class GuiSkills extends GuiScreen
 				new GuiTextElement(153, 24, 96, 9, GuiTextElement.getBoldComponent(new TextComponentTranslation(skill.getDisplayName().toUpperCase()), TextFormatting.DARK_GRAY), TEXT_COLOR, true),
 				new GuiTextElement(250, 24, 11, 9, GuiTextElement.getBoldComponent(new TextComponentString(lvl), TextFormatting.DARK_GRAY), TEXT_COLOR, true).setCentered(true)
 				);
-		GuiElementContainer<GuiTextElement> body = new GuiTextElementContainer(153, 35, 110, 121);
-		body.pad(2, 5, 2, 3);
+		GuiElementContainer<GuiTextElement> body = getSkillDescriptionBody();
 		if (Config.isSkillDisabled(this.mc.player, currentSkill)) {
 			String tk = "skill.dss.disabled." + (Config.isSkillAllowed(currentSkill) ? "client" : "server");
 			body.add((GuiTextElement)(new GuiTextElement(body, GuiTextElement.getBoldComponent(new TextComponentTranslation(tk), TextFormatting.DARK_RED), TEXT_COLOR, true).pad(0, 0, pad, 0)));
@@ -297,6 +369,24 @@ public class GuiSkills extends GuiScreen
 		return new Page<GuiTextElement>(0, 148, 7, 121, 164, body, header);
 	}
 
+	protected static GuiElementContainer<GuiTextElement> getSkillDescriptionBody() {
+		GuiElementContainer<GuiTextElement> body = new GuiTextElementContainer(153, 35, 110, 121);
+		body.pad(2, 5, 2, 3);
+		return body;
+	}
+
+	/**
+	 * Queues the title page text and each skill's full description to be wrapped ahead of time,
+	 * at the same widths used when displayed, so that opening the GUI and clicking skills is fast
+	 */
+	public static void prewarmTextLayouts() {
+		TextLayoutCache.INSTANCE.prewarm(new TextComponentTranslation("skill.dss.gui.main.body"), getTitlePageBody().getViewportWidth(), true);
+		int width = getSkillDescriptionBody().getViewportWidth();
+		for (SkillBase skill : SkillRegistry.getValues()) {
+			TextLayoutCache.INSTANCE.prewarm(new TextComponentTranslation(skill.getTranslationKey() + ".description"), width, true);
+		}
+	}
+
 	protected void resetPageRight() {
 		if (this.pageRight != null) {
 			return;
@@ -321,7 +411,8 @@ public class GuiSkills extends GuiScreen
 					((SkillSlotContainer) this.pageLeft.body).clearFilters();
 				}
 			}
-			this.pageLeft = this.pages.get(index);
+			this.pageLeft = this.getPage(index);
+			this.prefetchPending = true;
 			this.scrollBarLeft = getScrollBar(this.pageLeft.body, 15, 0);
 			if (index == 0) {
 				this.currentSkill = null;
@@ -616,7 +707,9 @@ public class GuiSkills extends GuiScreen
 		@Override
 		public void drawElement(Minecraft mc, int mouseX, int mouseY) {
 			this.hovered = null;
+			SkillIconAtlas.INSTANCE.beginBatch();
 			super.drawElement(mc, mouseX, mouseY);
+			SkillIconAtlas.INSTANCE.drawBatch(mc);
 			if (this.hovered != null && this.hovered.skill != null) {
 				SkillBase instance = this.skillScreen.skills.getPlayerSkill(this.hovered.skill);
 				this.renderToolTip((instance == null ? this.hovered.skill : instance), mc, mouseX, mouseY);
@@ -630,6 +723,9 @@ public class GuiSkills extends GuiScreen
 			super.drawElement(slot, mc, mouseX, mouseY);
 			if (slot.isMouseOverElement(mouseX, mouseY)) {
 				this.hovered = slot;
+				// Highlight must be drawn over the slot's icon
+				SkillIconAtlas.INSTANCE.drawBatch(mc);
+				SkillIconAtlas.INSTANCE.beginBatch();
 				slot.drawHoveredGradient(-2130706433, -2130706433, new Padding(-1, -2, -1, -1));
 			}
 			if (slot.selected) {
@@ -1,12 +1,9 @@
 package dynamicswordskills.client.gui;
 
 import java.util.List;
-import java.util.stream.Stream;
 
 import javax.annotation.Nullable;
 
-import com.google.common.collect.Lists;
-
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.renderer.GlStateManager;
 import net.minecraft.util.text.ITextComponent;
@@ -57,7 +54,7 @@ public class GuiTextElement extends GuiContainedElement
 	/** Draws the text with a shadow when hovered */
 	public boolean drawTextShadow;
 
-	/** Lines of text determined during setup based on current font and element width */
+	/** Lines of text determined during setup based on current font and element width; shared with the {@link TextLayoutCache} and must not be modified */
 	protected List<String> lines;
 
 	/** Height if all lines were displayed */
@@ -152,18 +149,8 @@ public class GuiTextElement extends GuiContainedElement
 		this.remainingHeight = height; // Vertically scrollable - do not subtract padding height here
 		this.remainingWidth = width - this.padding.width();
 		if (this.lines == null) {
-			Minecraft mc = Minecraft.getMinecraft();
-			boolean unicodeFlag = mc.fontRenderer.getUnicodeFlag();
-			mc.fontRenderer.setUnicodeFlag(this.isUnicode);
-			this.lines = Lists.<String>newArrayList();
-			String formatting = this.text.getStyle().getFormattingCode();
-			Stream.of(this.text.getUnformattedText().split("\\\\n")).forEach(line -> {
-				mc.fontRenderer.listFormattedStringToWidth(line, this.remainingWidth).stream().forEach(s -> {
-					this.lines.add(formatting + s + TextFormatting.RESET);
-				});
-			});
-			this.contentHeight = (this.lines.size() * mc.fontRenderer.FONT_HEIGHT);
-			mc.fontRenderer.setUnicodeFlag(unicodeFlag);
+			this.lines = TextLayoutCache.INSTANCE.getLines(this.text, this.remainingWidth, this.isUnicode);
+			this.contentHeight = (this.lines.size() * Minecraft.getMinecraft().fontRenderer.FONT_HEIGHT);
 		}
 	}
 
@@ -2,6 +2,7 @@ package dynamicswordskills.client.gui;
 
 import javax.annotation.Nullable;
 
+import dynamicswordskills.client.SkillIconAtlas;
 import dynamicswordskills.ref.Config;
 import dynamicswordskills.skills.SkillBase;
 import net.minecraft.client.Minecraft;
@@ -47,8 +48,7 @@ public class SkillSlot extends GuiContainedElement
 		this.frame = new GuiImageElement(this.xPos, this.yPos, 18, 18, GuiSkills.GUI_TEXTURE, 300, 180, 281, 0);
 		this.iconUnknown = new SkillIconElement(this.xPos + 1, this.yPos + 1, SkillBase.DEFAULT_ICON);
 		if (this.skill != null) {
-			int res = this.skill.getIconResolution();
-			this.iconKnown = new SkillIconElement(this.xPos + 1, this.yPos + 1, this.skill.getIconLocation(), res, res);
+			this.iconKnown = new SkillIconElement(this.xPos + 1, this.yPos + 1, this.skill);
 		} else {
 			this.iconKnown = new SkillIconElement(this.xPos + 1, this.yPos + 1, SkillBase.DEFAULT_ICON);
 		}
@@ -127,8 +127,18 @@ public class SkillSlot extends GuiContainedElement
 		}
 	}
 
+	/**
+	 * 
+	 * Skill icon that is added to the {@link SkillIconAtlas}'s current batch, if any, rather than
+	 * drawn individually, provided that the icon is in the atlas.
+	 *
+	 */
 	public static class SkillIconElement extends GuiImageElement
 	{
+		/** Skill whose icon is displayed, if any, allowing the atlas to look it up by id */
+		@Nullable
+		protected final SkillBase skill;
+
 		/**
 		 * Standard 16x16 icon
 		 */
@@ -136,16 +146,43 @@ public class SkillSlot extends GuiContainedElement
 			this(xPos, yPos, texture, 16, 16);
 		}
 
+		/**
+		 * Icon for the skill using its icon location and resolution
+		 */
+		public SkillIconElement(int xPos, int yPos, SkillBase skill) {
+			this(xPos, yPos, skill.getIconLocation(), skill.getIconResolution(), skill.getIconResolution(), skill);
+		}
+
 		/**
 		 * Icon with a custom resolution; imageWidth and imageHeight should be equal and a
 		 * multiple of 16; texture width and height are assumed to be the full resolution.
 		 */
 		public SkillIconElement(int xPos, int yPos, ResourceLocation texture, int imageWidth, int imageHeight) {
+			this(xPos, yPos, texture, imageWidth, imageHeight, null);
+		}
+
+		protected SkillIconElement(int xPos, int yPos, ResourceLocation texture, int imageWidth, int imageHeight, @Nullable SkillBase skill) {
 			super(xPos, yPos, 16, 16, texture, imageWidth, imageHeight, 0, 0, imageWidth, imageHeight);
+			this.skill = skill;
 			if (imageWidth != 16) {
 				this.autoScale();
 			}
 		}
+
+		@Override
+		public void drawElement(Minecraft mc, int mouseX, int mouseY) {
+			SkillIconAtlas atlas = SkillIconAtlas.INSTANCE;
+			int cell = (!atlas.isBatching() ? -1 : (this.skill == null ? atlas.getCell(this.texture) : atlas.getCell(this.skill)));
+			if (cell < 0) {
+				super.drawElement(mc, mouseX, mouseY);
+				return;
+			}
+			int w = Math.min(this.getDisplayedWidth(), this.remainingWidth);
+			int h = Math.min(this.getDisplayedHeight(), this.remainingHeight);
+			if (w > 0 && h > 0) {
+				atlas.addIcon(cell, this.xPos, this.yPos, w, h, this.scrollX, this.scrollY, this.width, this.rgba);
+			}
+		}
 	}
 
 	public static class TitledSkillSlot extends SkillSlot
@@ -0,0 +1,178 @@
+/**
+    Copyright (C) <2020> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.client.gui;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import net.minecraft.client.Minecraft;
+import net.minecraft.client.gui.FontRenderer;
+import net.minecraft.client.resources.IResourceManager;
+import net.minecraft.client.resources.IResourceManagerReloadListener;
+import net.minecraft.util.text.ITextComponent;
+import net.minecraft.util.text.TextFormatting;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ClientTickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ *
+ * Caches the wrapped lines of text displayed by {@link GuiTextElement}s so that long skill
+ * descriptions are only split and measured once rather than each time the Skill GUI opens.
+ *
+ * Entries are keyed by the translated text, so a change of language results in new entries;
+ * the entire cache is cleared whenever resources are reloaded, as that may change the font.
+ *
+ * Skill descriptions are pre-warmed a few at a time on the client thread after each reload;
+ * the FontRenderer is not thread-safe, its unicode flag in particular being shared state.
+ *
+ */
+@SideOnly(Side.CLIENT)
+public class TextLayoutCache implements IResourceManagerReloadListener
+{
+	public static final TextLayoutCache INSTANCE = new TextLayoutCache();
+
+	/** Maximum number of texts retained; the least recently used are discarded first */
+	private static final int MAX_ENTRIES = 512;
+
+	/** Maximum time spent pre-warming the cache each client tick, in nanoseconds */
+	private static final long PREWARM_BUDGET = 2000000L;
+
+	/** Matches the literal "\n" sequences used to denote line breaks in translated text */
+	private static final Pattern NEW_LINE = Pattern.compile("\\\\n");
+
+	private final Map<Key, List<String>> cache = new LinkedHashMap<Key, List<String>>(64, 0.75F, true) {
+		private static final long serialVersionUID = 1L;
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<Key, List<String>> eldest) {
+			return this.size() > MAX_ENTRIES;
+		}
+	};
+
+	/** Texts queued for pre-warming */
+	private final Deque<Key> queue = new ArrayDeque<Key>();
+
+	/** Set when resources are reloaded so that the pre-warm queue is rebuilt on the next tick */
+	private boolean prewarmPending;
+
+	private TextLayoutCache() {}
+
+	/**
+	 * Returns the text wrapped to the given width, with the text component's formatting applied
+	 * to each line. The returned list must not be modified.
+	 * @param isUnicode Flag to wrap the text as if rendered in unicode font
+	 */
+	public List<String> getLines(ITextComponent text, int width, boolean isUnicode) {
+		Key key = new Key(text.getStyle().getFormattingCode(), text.getUnformattedText(), width, isUnicode);
+		List<String> lines = this.cache.get(key);
+		if (lines == null) {
+			lines = wrap(Minecraft.getMinecraft().fontRenderer, key);
+			this.cache.put(key, lines);
+		}
+		return lines;
+	}
+
+	/**
+	 * Queues the text to be wrapped during a later client tick, if not already cached
+	 */
+	public void prewarm(ITextComponent text, int width, boolean isUnicode) {
+		this.queue.add(new Key(text.getStyle().getFormattingCode(), text.getUnformattedText(), width, isUnicode));
+	}
+
+	@Override
+	public void onResourceManagerReload(IResourceManager manager) {
+		this.cache.clear();
+		this.queue.clear();
+		this.prewarmPending = true;
+	}
+
+	@SubscribeEvent
+	public void onClientTick(ClientTickEvent event) {
+		if (event.phase != ClientTickEvent.Phase.END) {
+			return;
+		}
+		FontRenderer font = Minecraft.getMinecraft().fontRenderer;
+		if (font == null) {
+			return;
+		}
+		if (this.prewarmPending) {
+			this.prewarmPending = false;
+			GuiSkills.prewarmTextLayouts();
+		}
+		long start = System.nanoTime();
+		while (!this.queue.isEmpty() && System.nanoTime() - start < PREWARM_BUDGET) {
+			Key key = this.queue.poll();
+			if (!this.cache.containsKey(key)) {
+				this.cache.put(key, wrap(font, key));
+			}
+		}
+	}
+
+	private static List<String> wrap(FontRenderer font, Key key) {
+		boolean unicodeFlag = font.getUnicodeFlag();
+		font.setUnicodeFlag(key.isUnicode);
+		List<String> lines = new ArrayList<String>();
+		for (String line : NEW_LINE.split(key.text)) {
+			for (String s : font.listFormattedStringToWidth(line, key.width)) {
+				lines.add(key.formatting + s + TextFormatting.RESET);
+			}
+		}
+		font.setUnicodeFlag(unicodeFlag);
+		return Collections.unmodifiableList(lines);
+	}
+
+	private static final class Key
+	{
+		private final String formatting;
+		private final String text;
+		private final int width;
+		private final boolean isUnicode;
+		private final int hash;
+
+		private Key(String formatting, String text, int width, boolean isUnicode) {
+			this.formatting = formatting;
+			this.text = text;
+			this.width = width;
+			this.isUnicode = isUnicode;
+			this.hash = 31 * (31 * (31 * formatting.hashCode() + text.hashCode()) + width) + (isUnicode ? 1 : 0);
+		}
+
+		@Override
+		public int hashCode() {
+			return this.hash;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (this == o) {
+				return true;
+			} else if (!(o instanceof Key)) {
+				return false;
+			}
+			Key key = (Key) o;
+			return this.width == key.width && this.isUnicode == key.isUnicode && this.text.equals(key.text) && this.formatting.equals(key.formatting);
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.command;
+
+import dynamicswordskills.client.SwordBeamBenchmark;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommand;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ *
+ * Client-side command that runs the {@link SwordBeamBenchmark} scene.
+ *
+ */
+@SideOnly(Side.CLIENT)
+public class CommandBeamBenchmark extends CommandBase
+{
+	public static final ICommand INSTANCE = new CommandBeamBenchmark();
+
+	public CommandBeamBenchmark() {}
+
+	@Override
+	public String getName() {
+		return "dssbeambench";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 0;
+	}
+
+	/**
+	 * dssbeambench <beams> [seconds]
+	 */
+	@Override
+	public String getUsage(ICommandSender player) {
+		return "commands.dssbeambench.usage";
+	}
+
+	@Override
+	public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if (args.length < 1 || args.length > 2) {
+			throw new WrongUsageException(getUsage(sender));
+		}
+		int beams = CommandBase.parseInt(args[0], 1, 10000);
+		int seconds = (args.length < 2 ? 10 : CommandBase.parseInt(args[1], 1, 60));
+		SwordBeamBenchmark.INSTANCE.start(beams, seconds);
+		sender.sendMessage(new TextComponentTranslation("commands.dssbeambench.start", beams, seconds));
+	}
+}
@@ -0,0 +1,82 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.command;
+
+import dynamicswordskills.api.SkillRegistry;
+import dynamicswordskills.entity.SkillPredictor;
+import dynamicswordskills.skills.SkillBase;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommand;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ *
+ * Client-side command that reports the {@link SkillPredictor} results for each predicted skill
+ * this session, e.g. to tell how often predicted activations have to be rolled back.
+ *
+ */
+@SideOnly(Side.CLIENT)
+public class CommandPredictionStats extends CommandBase
+{
+	public static final ICommand INSTANCE = new CommandPredictionStats();
+
+	public CommandPredictionStats() {}
+
+	@Override
+	public String getName() {
+		return "dsspredictions";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 0;
+	}
+
+	/**
+	 * dsspredictions
+	 */
+	@Override
+	public String getUsage(ICommandSender player) {
+		return "commands.dsspredictions.usage";
+	}
+
+	@Override
+	public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if (args.length > 0) {
+			throw new WrongUsageException(getUsage(sender));
+		}
+		boolean found = false;
+		for (SkillBase skill : SkillRegistry.getSortedList(SkillRegistry.SORT_BY_ID)) {
+			int[] stats = SkillPredictor.getStats(skill);
+			if (stats[SkillPredictor.PREDICTED] > 0) {
+				found = true;
+				sender.sendMessage(new TextComponentTranslation("commands.dsspredictions.skill", new TextComponentTranslation(skill.getNameTranslationKey()),
+						stats[SkillPredictor.PREDICTED], stats[SkillPredictor.CONFIRMED], stats[SkillPredictor.REJECTED], stats[SkillPredictor.TIMED_OUT]));
+			}
+		}
+		if (!found) {
+			sender.sendMessage(new TextComponentTranslation("commands.dsspredictions.none"));
+		}
+	}
+}
@@ -0,0 +1,78 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.command;
+
+import java.util.Map;
+
+import dynamicswordskills.network.RateLimiter;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommand;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+/**
+ * 
+ * Reports the number of messages discarded by the {@link RateLimiter}, per message type and per player.
+ *
+ */
+public class CommandRateLimits extends CommandBase
+{
+	public static final ICommand INSTANCE = new CommandRateLimits();
+
+	public CommandRateLimits() {}
+
+	@Override
+	public String getName() {
+		return "dssratelimits";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 2;
+	}
+
+	/**
+	 * dssratelimits
+	 */
+	@Override
+	public String getUsage(ICommandSender player) {
+		return "commands.dssratelimits.usage";
+	}
+
+	@Override
+	public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if (args.length > 0) {
+			throw new WrongUsageException(getUsage(sender));
+		}
+		sender.sendMessage(new TextComponentTranslation("commands.dssratelimits.load", Math.round(RateLimiter.getLoadFactor() * 100.0F)));
+		Map<String, Long> byType = RateLimiter.getDroppedByType();
+		if (byType.isEmpty()) {
+			sender.sendMessage(new TextComponentTranslation("commands.dssratelimits.none"));
+			return;
+		}
+		for (Map.Entry<String, Long> entry : byType.entrySet()) {
+			sender.sendMessage(new TextComponentTranslation("commands.dssratelimits.type", entry.getKey(), entry.getValue()));
+		}
+		for (Map.Entry<String, Long> entry : RateLimiter.getDroppedByPlayer().entrySet()) {
+			sender.sendMessage(new TextComponentTranslation("commands.dssratelimits.player", entry.getKey(), entry.getValue()));
+		}
+	}
+}
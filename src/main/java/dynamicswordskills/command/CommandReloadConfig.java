@@ -0,0 +1,80 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.command;
+
+import dynamicswordskills.loot.OrbDropTable;
+import dynamicswordskills.network.PacketDispatcher;
+import dynamicswordskills.network.client.SyncConfigPacket;
+import dynamicswordskills.ref.Config;
+import dynamicswordskills.util.CombatLog;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommand;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+/**
+ * 
+ * Reloads the server settings and skill orb drops from the config directory without restarting,
+ * then sends the updated settings to all players.
+ *
+ * Settings marked as requiring a restart, such as loot table weights, are read but have no effect until then.
+ *
+ */
+public class CommandReloadConfig extends CommandBase
+{
+	public static final ICommand INSTANCE = new CommandReloadConfig();
+
+	public CommandReloadConfig() {}
+
+	@Override
+	public String getName() {
+		return "dssreload";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 3;
+	}
+
+	/**
+	 * dssreload
+	 */
+	@Override
+	public String getUsage(ICommandSender player) {
+		return "commands.dssreload.usage";
+	}
+
+	@Override
+	public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if (args.length > 0) {
+			throw new WrongUsageException(getUsage(sender));
+		}
+		Config.config.load();
+		Config.refreshServer();
+		Config.registerWeapons();
+		CombatLog.refresh();
+		if (!OrbDropTable.load(Config.config.getConfigFile().getParentFile())) {
+			sender.sendMessage(new TextComponentTranslation("commands.dssreload.failure.drops", OrbDropTable.FILE_NAME));
+		}
+		PacketDispatcher.sendToAll(new SyncConfigPacket());
+		sender.sendMessage(new TextComponentTranslation("commands.dssreload.success"));
+	}
+}
@@ -0,0 +1,90 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.command;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+import dynamicswordskills.network.PacketDispatcher;
+import dynamicswordskills.util.TickScheduler;
+import dynamicswordskills.util.TickScheduler.Priority;
+import net.minecraft.command.CommandBase;
+import net.minecraft.command.CommandException;
+import net.minecraft.command.ICommand;
+import net.minecraft.command.ICommandSender;
+import net.minecraft.command.WrongUsageException;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.util.text.TextComponentTranslation;
+
+/**
+ * 
+ * Reports the server's recent tick times, the {@link TickScheduler} backlog, and the number of each
+ * type of message the server has sent since it started, e.g. to measure the server and network cost of each skill.
+ *
+ */
+public class CommandStats extends CommandBase
+{
+	public static final ICommand INSTANCE = new CommandStats();
+
+	public CommandStats() {}
+
+	@Override
+	public String getName() {
+		return "dssstats";
+	}
+
+	@Override
+	public int getRequiredPermissionLevel() {
+		return 2;
+	}
+
+	/**
+	 * dssstats
+	 */
+	@Override
+	public String getUsage(ICommandSender player) {
+		return "commands.dssstats.usage";
+	}
+
+	@Override
+	public void execute(MinecraftServer server, ICommandSender sender, String[] args) throws CommandException {
+		if (args.length > 0) {
+			throw new WrongUsageException(getUsage(sender));
+		}
+		// Times are in nanoseconds; slots for ticks that have not yet run since startup are still 0
+		long total = 0, worst = 0;
+		int ticks = 0;
+		for (long time : server.tickTimeArray) {
+			if (time > 0) {
+				total += time;
+				worst = Math.max(worst, time);
+				++ticks;
+			}
+		}
+		double mean = (ticks == 0 ? 0.0D : (double) total / ticks);
+		sender.sendMessage(new TextComponentTranslation("commands.dssstats.tick", String.format("%.2f", mean * 1.0E-6D), String.format("%.2f", worst * 1.0E-6D), ticks));
+		sender.sendMessage(new TextComponentTranslation("commands.dssstats.scheduler", TickScheduler.getBacklog(Priority.COMBAT), TickScheduler.getBacklog(Priority.DEFERRED), TickScheduler.getMaxBacklog(), TickScheduler.getTotalDelay()));
+		Map<String, Long> counts = new TreeMap<String, Long>(PacketDispatcher.getSentCounts());
+		if (counts.isEmpty()) {
+			sender.sendMessage(new TextComponentTranslation("commands.dssstats.none"));
+		}
+		for (Map.Entry<String, Long> entry : counts.entrySet()) {
+			sender.sendMessage(new TextComponentTranslation("commands.dssstats.type", entry.getKey(), entry.getValue()));
+		}
+	}
+}
@@ -27,5 +27,8 @@ public class DSSCommands
 	public static void registerCommands(FMLServerStartingEvent event) {
 		event.registerServerCommand(CommandGrantSkill.INSTANCE);
 		event.registerServerCommand(CommandRemoveSkill.INSTANCE);
+		event.registerServerCommand(CommandStats.INSTANCE);
+		event.registerServerCommand(CommandRateLimits.INSTANCE);
+		event.registerServerCommand(CommandReloadConfig.INSTANCE);
 	}
 }
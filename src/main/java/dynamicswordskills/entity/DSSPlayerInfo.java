@@ -19,6 +19,7 @@ package dynamicswordskills.entity;
 
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.IdentityHashMap;
 import java.util.Map;
 import java.util.Set;
 
@@ -44,6 +45,11 @@ import dynamicswordskills.skills.MortalDraw;
 import dynamicswordskills.skills.SkillActive;
 import dynamicswordskills.skills.SkillBase;
 import dynamicswordskills.skills.Skills;
+import dynamicswordskills.util.CombatLog;
+import dynamicswordskills.util.SkillProviderCache;
+import dynamicswordskills.util.TickScheduler;
+import dynamicswordskills.util.TickScheduler.Priority;
+import dynamicswordskills.util.TimingWheel;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.settings.KeyBinding;
 import net.minecraft.entity.player.EntityPlayer;
@@ -52,7 +58,6 @@ import net.minecraft.item.ItemStack;
 import net.minecraft.nbt.NBTTagCompound;
 import net.minecraft.nbt.NBTTagList;
 import net.minecraft.nbt.NBTTagString;
-import net.minecraft.util.math.MathHelper;
 import net.minecraftforge.common.capabilities.Capability.IStorage;
 import net.minecraftforge.common.util.Constants;
 import net.minecraftforge.event.entity.living.LivingAttackEvent;
@@ -70,15 +75,18 @@ public class DSSPlayerInfo
 
 	private final EntityPlayer player;
 
-	/** Time remaining until player may perform another left-click action, such as an attack */
-	private int attackTime;
+	/** Expires when the player may perform another left-click action, such as an attack */
+	private TimingWheel.Timer attackTimer;
 
-	/** Time remaining until player may perform another right-click action, such as blocking with a shield */
-	private int useItemCooldown;
+	/** Expires when the player may perform another right-click action, such as blocking with a shield */
+	private TimingWheel.Timer useItemTimer;
 
 	/** Stores information on the player's skills */
 	private final Map<Byte, SkillBase> skills;
 
+	/** Incremented each time a skill is added to or removed from {@link #skills} */
+	private int skillsVersion;
+
 	/** List of user-disabled skill IDs */
 	private Set<Byte> disabledSkillIds = Sets.<Byte>newHashSet();
 
@@ -100,6 +108,12 @@ public class DSSPlayerInfo
 	/** A dummy version of Basic Sword skill provided by an ISkillProvider when the player's skill level is 0 */
 	private SkillBase dummySwordSkill = null;
 
+	/** Classification of the player's hotbar slots, updated only when slot contents change */
+	private final HotbarSlotIndex hotbarIndex = new HotbarSlotIndex();
+
+	/** Client-side record of skill activations awaiting the server's confirmation */
+	private final SkillPredictor skillPredictor;
+
 	/**
 	 * Currently animating skill that {@link SkillActive#hasAnimation() has an animation};
 	 * it may or may not currently be {@link SkillActive#isAnimating() animating}
@@ -107,6 +121,14 @@ public class DSSPlayerInfo
 	@SideOnly(Side.CLIENT)
 	private SkillActive animatingSkill;
 
+	/** Skills that {@link SkillActive#canListenForKey can listen} for each key, filled in as each key is first used */
+	@SideOnly(Side.CLIENT)
+	private Map<KeyBinding, SkillActive[]> keyListeners;
+
+	/** Value of {@link #skillsVersion} when {@link #keyListeners} was last cleared */
+	@SideOnly(Side.CLIENT)
+	private int keyListenersVersion;
+
 	/** Whether the player has received the starting bonus gear or not yet */
 	private boolean receivedGear = false;
 
@@ -118,6 +140,7 @@ public class DSSPlayerInfo
 
 	public DSSPlayerInfo(EntityPlayer player) {
 		this.player = player;
+		this.skillPredictor = new SkillPredictor(player);
 		this.skills = new HashMap<Byte, SkillBase>(SkillRegistry.getValues().size());
 	}
 
@@ -125,14 +148,28 @@ public class DSSPlayerInfo
 	 * True if the player can perform a left-click action (i.e. the action timer is zero)
 	 */
 	public boolean canAttack() {
-		return attackTime == 0 || player.capabilities.isCreativeMode;
+		return !TimingWheel.isPending(attackTimer) || player.capabilities.isCreativeMode;
+	}
+
+	/**
+	 * Returns the index of weapons, swords, and skill providers in the player's hotbar
+	 */
+	public HotbarSlotIndex getHotbarIndex() {
+		return hotbarIndex;
+	}
+
+	/**
+	 * Returns the client-side predictor for skills that {@link SkillActive#allowPrediction() allow prediction}
+	 */
+	public SkillPredictor getSkillPredictor() {
+		return skillPredictor;
 	}
 
 	/**
 	 * Returns the current amount of time remaining before a left-click action may be performed
 	 */
 	public int getAttackTime() {
-		return attackTime;
+		return TimingWheel.getRemaining(attackTimer);
 	}
 
 	/**
@@ -140,21 +177,25 @@ public class DSSPlayerInfo
 	 * no less than the current value and no more than MAX_ATTACK_DELAY.
 	 */
 	public void setAttackCooldown(int ticks) {
-		this.attackTime = MathHelper.clamp(ticks, attackTime, MAX_CLICK_COOLDOWN);
+		ticks = Math.min(ticks, MAX_CLICK_COOLDOWN);
+		if (ticks > getAttackTime()) {
+			TimingWheel.cancel(attackTimer);
+			attackTimer = TimingWheel.get(player.getEntityWorld()).schedule(ticks, null);
+		}
 	}
 
 	/**
 	 * True if the player can perform a right-click action (i.e. the action timer is zero)
 	 */
 	public boolean canUseItem() {
-		return useItemCooldown == 0 || player.capabilities.isCreativeMode;
+		return !TimingWheel.isPending(useItemTimer) || player.capabilities.isCreativeMode;
 	}
 
 	/**
 	 * Returns the current amount of time remaining before a right-click action may be performed
 	 */
 	public int getUseItemCooldown() {
-		return useItemCooldown;
+		return TimingWheel.getRemaining(useItemTimer);
 	}
 
 	/**
@@ -162,7 +203,11 @@ public class DSSPlayerInfo
 	 * no less than the current value and no more than MAX_ATTACK_DELAY.
 	 */
 	public void setUseItemCooldown(int ticks) {
-		this.useItemCooldown = MathHelper.clamp(ticks, useItemCooldown, MAX_CLICK_COOLDOWN);
+		ticks = Math.min(ticks, MAX_CLICK_COOLDOWN);
+		if (ticks > getUseItemCooldown()) {
+			TimingWheel.cancel(useItemTimer);
+			useItemTimer = TimingWheel.get(player.getEntityWorld()).schedule(ticks, null);
+		}
 	}
 
 	/**
@@ -205,6 +250,7 @@ public class DSSPlayerInfo
 		skills.put(dummy.getId(), dummy);
 		validateSkills();
 		skills.remove(dummy.getId());
+		skillsVersion++;
 		if (player instanceof EntityPlayerMP) {
 			PacketDispatcher.sendTo(new SyncSkillPacket(dummy), (EntityPlayerMP) player);
 		}
@@ -220,6 +266,7 @@ public class DSSPlayerInfo
 		}
 		validateSkills();
 		skills.clear();
+		skillsVersion++;
 		if (player instanceof EntityPlayerMP) {
 			PacketDispatcher.sendTo(new SyncPlayerInfoPacket(this).setReset(), (EntityPlayerMP) player);
 		}
@@ -340,14 +387,12 @@ public class DSSPlayerInfo
 	@SideOnly(Side.CLIENT)
 	public boolean onKeyPressed(Minecraft mc, KeyBinding key) {
 		boolean isLockedOn = (targetingSkill != null && targetingSkill.isLockedOn());
-		for (SkillBase skill : skills.values()) {
+		for (SkillActive skill : getKeyListeners(mc, key)) {
 			if (Config.isSkillDisabled(player, skill)) {
 				continue;
 			}
-			if (skill instanceof SkillActive && ((SkillActive) skill).isKeyListener(mc, key, isLockedOn)) {
-				if (((SkillActive) skill).keyPressed(mc, key, player)) {
-					return true;
-				}
+			if (skill.isKeyListener(mc, key, isLockedOn) && skill.keyPressed(mc, key, player)) {
+				return true;
 			}
 		}
 		if (itemSkill instanceof SkillActive && ((SkillActive) itemSkill).isKeyListener(mc, key, isLockedOn) && ((SkillActive) itemSkill).keyPressed(mc, key, player)) {
@@ -365,9 +410,9 @@ public class DSSPlayerInfo
 	@SideOnly(Side.CLIENT)
 	public void onKeyReleased(Minecraft mc, KeyBinding key) {
 		boolean isLockedOn = (targetingSkill != null && targetingSkill.isLockedOn());
-		for (SkillBase skill : skills.values()) {
-			if (skill instanceof SkillActive && ((SkillActive) skill).isKeyListener(mc, key, isLockedOn)) {
-				((SkillActive) skill).keyReleased(mc, key, player);
+		for (SkillActive skill : getKeyListeners(mc, key)) {
+			if (skill.isKeyListener(mc, key, isLockedOn)) {
+				skill.keyReleased(mc, key, player);
 			}
 		}
 		if (itemSkill instanceof SkillActive && ((SkillActive) itemSkill).isKeyListener(mc, key, isLockedOn)) {
@@ -378,6 +423,26 @@ public class DSSPlayerInfo
 		}
 	}
 
+	/**
+	 * Returns the player's skills that {@link SkillActive#canListenForKey can listen} for the key, in
+	 * the same order as {@link #skills}; the table is cleared whenever the player's skills change.
+	 */
+	@SideOnly(Side.CLIENT)
+	private SkillActive[] getKeyListeners(Minecraft mc, KeyBinding key) {
+		if (keyListeners == null || keyListenersVersion != skillsVersion) {
+			keyListeners = new IdentityHashMap<KeyBinding, SkillActive[]>();
+			keyListenersVersion = skillsVersion;
+		}
+		SkillActive[] listeners = keyListeners.get(key);
+		if (listeners == null) {
+			listeners = skills.values().stream()
+					.filter(s -> s instanceof SkillActive && ((SkillActive) s).canListenForKey(mc, key))
+					.toArray(SkillActive[]::new);
+			keyListeners.put(key, listeners);
+		}
+		return listeners;
+	}
+
 	/**
 	 * Called from LivingAttackEvent to trigger {@link SkillActive#onAttack} for each
 	 * currently active skill, potentially canceling the event. If the event is canceled, it
@@ -427,18 +492,26 @@ public class DSSPlayerInfo
 			if (event.isCanceled() || event.getAmount() <= 0.0F) {
 				return;
 			} else if (skill instanceof SkillActive && ((SkillActive) skill).isActive()) {
-				float amount = ((SkillActive) skill).onImpact(player, event.getEntityLiving(), event.getAmount());
-				event.setAmount(amount);
+				applyImpact((SkillActive) skill, event);
 			}
 		}
 		if (!event.isCanceled() && event.getAmount() > 0.0F && itemSkill instanceof SkillActive && ((SkillActive) itemSkill).isActive()) {
-			event.setAmount(((SkillActive) itemSkill).onImpact(player, event.getEntityLiving(), event.getAmount()));
+			applyImpact((SkillActive) itemSkill, event);
 		}
 		if (!event.isCanceled() && event.getAmount() > 0.0F && dummySwordSkill instanceof SkillActive && ((SkillActive) dummySwordSkill).isActive()) {
-			event.setAmount(((SkillActive) dummySwordSkill).onImpact(player, event.getEntityLiving(), event.getAmount()));
+			applyImpact((SkillActive) dummySwordSkill, event);
 		}
 	}
 
+	/**
+	 * Sets the event's damage to the result of the skill's {@link SkillActive#onImpact onImpact} and records it in the {@link CombatLog}
+	 */
+	private void applyImpact(SkillActive skill, LivingHurtEvent event) {
+		float amount = skill.onImpact(player, event.getEntityLiving(), event.getAmount());
+		CombatLog.logHit(player, skill, event.getEntityLiving(), event.getAmount(), amount);
+		event.setAmount(amount);
+	}
+
 	/**
 	 * Calls {@link SkillActive#postImpact} for each currently active skill,
 	 * as well as calling {@link IComboSkill#onHurtTarget} for the current ICombo.
@@ -521,22 +594,21 @@ public class DSSPlayerInfo
 	private boolean retrieveDummySwordSkill() {
 		int swordSlot = MortalDraw.getSwordSlot(player);
 		if (swordSlot > -1) {
-			ItemStack stack = player.inventory.getStackInSlot(swordSlot);
-			if (!stack.isEmpty() && stack.getItem() instanceof ISkillProvider) {
+			SkillProviderCache.Entry info = SkillProviderCache.get(player.inventory.getStackInSlot(swordSlot));
+			if (info != null) {
 				boolean flag = false;
 				boolean needsDummy = (getTrueSkillLevel(Skills.swordBasic) < 1);
-				if (needsDummy && ((ISkillProvider) stack.getItem()).grantsBasicSwordSkill(stack)) {
+				if (needsDummy && info.grantsBasicSwordSkill()) {
 					flag = true;
 					if (dummySwordSkill == null) {
 						dummySwordSkill = SkillBase.createLeveledSkill(Skills.swordBasic, (byte) 1);
 					}
 				}
 				byte plvl = getTrueSkillLevel(Skills.mortalDraw);
-				SkillBase skill = SkillBase.getSkillFromItem(stack, (ISkillProvider) stack.getItem());
-				if (Skills.mortalDraw.is(skill) && skill.getLevel() > plvl) {
+				if (info.provides(Skills.mortalDraw) && info.getLevel() > plvl) {
 					flag = true;
-					if (itemSkill == null || !skill.equals(itemSkill)) {
-						itemSkill = skill;
+					if (!info.matches(itemSkill)) {
+						itemSkill = info.createSkill();
 					}
 				}
 				// Found item is providing targeting skill but not mortal draw while held item is null
@@ -680,6 +752,7 @@ public class DSSPlayerInfo
 		SkillBase instance = skills.containsKey(id) ? (SkillBase) skills.get(id) : skill.newInstance();
 		if (instance.grantSkill(player, targetLevel)) {
 			skills.put(id, instance);
+			skillsVersion++;
 			return true;
 		} else {
 			return false;
@@ -760,6 +833,7 @@ public class DSSPlayerInfo
 			} else {
 				skills.remove(skill.getId());
 			}
+			skillsVersion++;
 		}
 	}
 
@@ -792,11 +866,8 @@ public class DSSPlayerInfo
 	 */
 	public void onUpdate() {
 		updateISkillProvider();
-		if (attackTime > 0) {
-			--attackTime;
-		}
-		if (useItemCooldown > 0) {
-			--useItemCooldown;
+		if (player.getEntityWorld().isRemote) {
+			skillPredictor.onUpdate();
 		}
 		if (itemSkill != null) {
 			itemSkill.onUpdate(player);
@@ -833,17 +904,17 @@ public class DSSPlayerInfo
 				return;
 			}
 			lastCheckedStack = stack;
-			ISkillProvider provider = (ISkillProvider) stack.getItem();
-			SkillBase skill = SkillBase.getSkillFromItem(stack, provider);
-			if (itemSkill == null || !itemSkill.equals(skill)) {
-				if (skill.getLevel() > getTrueSkillLevel(skill)) {
-					itemSkill = skill;
+			SkillProviderCache.Entry info = SkillProviderCache.get(stack);
+			SkillBase skill = info.getSkill();
+			if (!info.matches(itemSkill)) {
+				if (skill != null && info.getLevel() > getTrueSkillLevel(skill)) {
+					itemSkill = info.createSkill();
 				} else {
 					itemSkill = null;
 				}
 			}
-			if (provider.grantsBasicSwordSkill(stack)) {
-				if (dummySwordSkill == null && !skill.is(Skills.swordBasic) && getTrueSkillLevel(Skills.swordBasic) < 1) {
+			if (info.grantsBasicSwordSkill()) {
+				if (dummySwordSkill == null && !Skills.swordBasic.is(skill) && getTrueSkillLevel(Skills.swordBasic) < 1) {
 					dummySwordSkill = SkillBase.createLeveledSkill(Skills.swordBasic, (byte) 1);
 				}
 			} else if (dummySwordSkill != null) {
@@ -885,9 +956,16 @@ public class DSSPlayerInfo
 	 * Call each time the player joins the world to sync data to the client
 	 */
 	public void onJoinWorld() {
-		validateSkills();
 		if (player instanceof EntityPlayerMP) {
-			PacketDispatcher.sendTo(new SyncPlayerInfoPacket(this), (EntityPlayerMP) player);
+			TickScheduler.schedule(Priority.DEFERRED, () -> {
+				// player may have disconnected or respawned as a new entity in the meantime
+				if (!player.isDead && !((EntityPlayerMP) player).hasDisconnected()) {
+					validateSkills();
+					PacketDispatcher.sendTo(new SyncPlayerInfoPacket(this), (EntityPlayerMP) player);
+				}
+			});
+		} else {
+			validateSkills();
 		}
 	}
 
@@ -941,6 +1019,7 @@ public class DSSPlayerInfo
 				skills.put(skill.getId(), skill);
 			}
 		}
+		skillsVersion++;
 		receivedGear = compound.getBoolean("receivedGear");
 		// User-disabled skills
 		disabledSkillIds.clear();
@@ -0,0 +1,118 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.entity;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.util.math.Vec3d;
+
+/**
+ *
+ * Server-side ring buffer of each living entity's recent positions, allowing attacks
+ * sent by high-latency clients to be validated against where the client actually saw
+ * the target rather than where the target is by the time the packet arrives.
+ *
+ * Only accessed from the server thread.
+ *
+ */
+public class EntityPositionHistory
+{
+	/** Number of ticks of history kept for each entity; must be a power of 2 */
+	private static final int SIZE = 16;
+
+	private static final int MASK = SIZE - 1;
+
+	/** Number of ticks the client renders other entities behind their latest synced position */
+	private static final int INTERPOLATION_TICKS = 3;
+
+	private static final Map<Entity, EntityPositionHistory> HISTORY = new WeakHashMap<Entity, EntityPositionHistory>();
+
+	private final double[] posX = new double[SIZE];
+	private final double[] posY = new double[SIZE];
+	private final double[] posZ = new double[SIZE];
+
+	/** World time at which each position was recorded */
+	private final long[] time = new long[SIZE];
+
+	private EntityPositionHistory() {
+		Arrays.fill(time, Long.MIN_VALUE);
+	}
+
+	/**
+	 * Records the entity's current position; call once per tick on the server only
+	 */
+	public static void record(Entity entity) {
+		EntityPositionHistory history = HISTORY.get(entity);
+		if (history == null) {
+			history = new EntityPositionHistory();
+			HISTORY.put(entity, history);
+		}
+		long tick = entity.getEntityWorld().getTotalWorldTime();
+		int i = (int)(tick & MASK);
+		history.posX[i] = entity.posX;
+		history.posY[i] = entity.posY;
+		history.posZ[i] = entity.posZ;
+		history.time[i] = tick;
+	}
+
+	/**
+	 * Returns true if the target is within range and line of sight of the player, either
+	 * now or at the time the client reports having seen it. The amount of rewind allowed is
+	 * capped by the player's measured latency so that clients can not extend their reach.
+	 * @param clientTime The client's world time when the attack was made
+	 */
+	public static boolean canReach(EntityPlayer player, Entity target, double range, long clientTime) {
+		double rangeSq = range * range;
+		if (player.getDistanceSq(target) <= rangeSq && player.canEntityBeSeen(target)) {
+			return true;
+		}
+		EntityPositionHistory history = HISTORY.get(target);
+		if (history == null) {
+			return false;
+		}
+		long now = player.getEntityWorld().getTotalWorldTime();
+		int latency = (player instanceof EntityPlayerMP ? ((EntityPlayerMP) player).ping / 50 : 0);
+		long oldest = now - Math.min(MASK, latency + INTERPOLATION_TICKS + 1);
+		long start = Math.max(oldest, clientTime - INTERPOLATION_TICKS);
+		long end = Math.min(now, clientTime + 1);
+		for (long tick = end; tick >= start; --tick) {
+			int i = (int)(tick & MASK);
+			if (history.time[i] == tick && history.canReach(i, player, target, rangeSq)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private boolean canReach(int i, EntityPlayer player, Entity target, double rangeSq) {
+		double dx = player.posX - posX[i];
+		double dy = player.posY - posY[i];
+		double dz = player.posZ - posZ[i];
+		if (dx * dx + dy * dy + dz * dz > rangeSq) {
+			return false;
+		}
+		Vec3d eyes = new Vec3d(player.posX, player.posY + (double) player.getEyeHeight(), player.posZ);
+		Vec3d seen = new Vec3d(posX[i], posY[i] + (double) target.getEyeHeight(), posZ[i]);
+		return player.getEntityWorld().rayTraceBlocks(eyes, seen, false, true, false) == null;
+	}
+}
@@ -0,0 +1,133 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.entity;
+
+import dynamicswordskills.skills.Skills;
+import dynamicswordskills.util.PlayerUtils;
+import dynamicswordskills.util.SkillProviderCache;
+import dynamicswordskills.util.WeaponCache;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.InventoryPlayer;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ *
+ * Per-player classification of the hotbar slots as weapons, swords, and skill providers.
+ *
+ * Each slot is only re-classified when the stack in it changes, i.e. a different ItemStack
+ * instance (as happens for every slot sync or swap), or a different item, damage, or NBT tag,
+ * so that per-tick lookups such as {@link #getSwordSlot} never query the weapon registry.
+ *
+ */
+public class HotbarSlotIndex
+{
+	/** Slot flags */
+	public static final int WEAPON = 1, SWORD = 2, MORTAL_DRAW_PROVIDER = 4, BASIC_SWORD_PROVIDER = 8;
+
+	private static final int SIZE = InventoryPlayer.getHotbarSize();
+
+	/** Stack information as of the last time each slot was classified */
+	private final ItemStack[] stacks = new ItemStack[SIZE];
+	private final Item[] items = new Item[SIZE];
+	private final int[] damage = new int[SIZE];
+	private final NBTTagCompound[] tags = new NBTTagCompound[SIZE];
+
+	/** Classification flags for each slot */
+	private final int[] flags = new int[SIZE];
+
+	/** Forces every slot to be re-classified during the next update */
+	private boolean invalid = true;
+
+	/** {@link WeaponCache#getGeneration()} as of the last update */
+	private int weaponGeneration;
+
+	/**
+	 * Flags every slot for re-classification, e.g. when the weapon registry changes
+	 */
+	public void invalidate() {
+		invalid = true;
+	}
+
+	/**
+	 * Re-classifies any hotbar slots whose contents have changed since the last update
+	 * @return true if any slot was re-classified
+	 */
+	public boolean update(EntityPlayer player) {
+		return update(player.inventory);
+	}
+
+	boolean update(InventoryPlayer inventory) {
+		boolean changed = false;
+		if (weaponGeneration != WeaponCache.getGeneration()) {
+			weaponGeneration = WeaponCache.getGeneration();
+			invalid = true;
+		}
+		for (int i = 0; i < SIZE; ++i) {
+			ItemStack stack = inventory.getStackInSlot(i);
+			if (invalid || stack != stacks[i] || stack.getItem() != items[i] || stack.getItemDamage() != damage[i] || stack.getTagCompound() != tags[i]) {
+				stacks[i] = stack;
+				items[i] = stack.getItem();
+				damage[i] = stack.getItemDamage();
+				tags[i] = stack.getTagCompound();
+				flags[i] = classify(stack);
+				changed = true;
+			}
+		}
+		invalid = false;
+		return changed;
+	}
+
+	private static int classify(ItemStack stack) {
+		if (stack.isEmpty()) {
+			return 0;
+		}
+		int i = (PlayerUtils.isWeapon(stack) ? WEAPON : 0) | (PlayerUtils.isSword(stack) ? SWORD : 0);
+		SkillProviderCache.Entry info = SkillProviderCache.get(stack);
+		if (info != null) {
+			i |= (info.provides(Skills.mortalDraw) ? MORTAL_DRAW_PROVIDER : 0);
+			i |= (info.provides(Skills.swordBasic) || info.grantsBasicSwordSkill() ? BASIC_SWORD_PROVIDER : 0);
+		}
+		return i;
+	}
+
+	/**
+	 * Returns the classification flags for the hotbar slot as of the last {@link #update}
+	 */
+	public int getFlags(int slot) {
+		return (slot > -1 && slot < SIZE ? flags[slot] : 0);
+	}
+
+	/**
+	 * Updates the index and returns the first Mortal Draw-eligible hotbar slot
+	 * @param allowSwords True if any sword is eligible, i.e. the player knows Mortal Draw
+	 * @param needsDummy  True if the slot must also provide Basic Sword skill
+	 * @return 0-8 or -1 if no eligible sword was found
+	 */
+	public int getSwordSlot(EntityPlayer player, boolean allowSwords, boolean needsDummy) {
+		update(player);
+		for (int i = 0; i < SIZE; ++i) {
+			int f = flags[i];
+			if (((allowSwords && (f & SWORD) != 0) || (f & MORTAL_DRAW_PROVIDER) != 0) && (!needsDummy || (f & BASIC_SWORD_PROVIDER) != 0)) {
+				return i;
+			}
+		}
+		return -1;
+	}
+}
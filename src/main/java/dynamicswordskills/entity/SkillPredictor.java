@@ -0,0 +1,186 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.entity;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import dynamicswordskills.DynamicSwordSkills;
+import dynamicswordskills.api.SkillRegistry;
+import dynamicswordskills.network.PacketDispatcher;
+import dynamicswordskills.network.bidirectional.ActivateSkillPacket;
+import dynamicswordskills.network.client.SkillPredictionPacket;
+import dynamicswordskills.skills.SkillActive;
+import dynamicswordskills.skills.SkillBase;
+import net.minecraft.entity.player.EntityPlayer;
+
+/**
+ *
+ * Client-side bookkeeping for skills that {@link SkillActive#allowPrediction() allow prediction}.
+ *
+ * A predicted skill is activated on the client at the same time its {@link ActivateSkillPacket}
+ * is sent, tagged with a sequence number; the server answers each sequence number with a
+ * {@link SkillPredictionPacket}, and any activation the server rejected is rolled back.
+ *
+ * Misprediction counts are kept for each skill for the entire session; see {@link #getStats}
+ * and the /dsspredictions command.
+ *
+ */
+public class SkillPredictor
+{
+	/** Maximum number of predictions awaiting a response from the server */
+	private static final int MAX_PENDING = 8;
+
+	/** Number of ticks after which an unanswered prediction is treated as rejected */
+	private static final int TIMEOUT = 100;
+
+	/** Indices into each skill's stats array */
+	public static final int PREDICTED = 0, CONFIRMED = 1, REJECTED = 2, TIMED_OUT = 3;
+
+	/** Prediction results for each skill id, shared by all predictors */
+	private static final Map<Byte, int[]> STATS = new HashMap<Byte, int[]>();
+
+	private final EntityPlayer player;
+
+	/** The last sequence number used; 0 is reserved for unpredicted activations */
+	private int lastSequence;
+
+	/** Sequence number of each pending prediction, or 0 if the slot is empty */
+	private final int[] sequences = new int[MAX_PENDING];
+
+	private final byte[] skillIds = new byte[MAX_PENDING];
+
+	/** Number of ticks each prediction has been waiting for a response */
+	private final int[] ages = new int[MAX_PENDING];
+
+	public SkillPredictor(EntityPlayer player) {
+		this.player = player;
+	}
+
+	/**
+	 * Sends the activation packet to the server and immediately activates the skill on the client;
+	 * call only on the client, and only for skills that {@link SkillActive#allowPrediction() allow prediction}.
+	 * If no prediction slot is available, the server's response is awaited as for any other skill.
+	 * @return The result of the client-side {@link DSSPlayerInfo#activateSkill(SkillBase, boolean)}
+	 */
+	public boolean predict(SkillActive skill, boolean wasTriggered) {
+		int slot = getFreeSlot();
+		if (slot < 0) {
+			PacketDispatcher.sendToServer(new ActivateSkillPacket(skill, wasTriggered));
+			return true;
+		}
+		int sequence = nextSequence();
+		PacketDispatcher.sendToServer(new ActivateSkillPacket(skill, wasTriggered, sequence));
+		if (!DSSPlayerInfo.get(player).activateSkill(skill, wasTriggered)) {
+			// Server will most likely reject it as well; if not, its ActivateSkillPacket activates the skill as usual
+			return false;
+		}
+		sequences[slot] = sequence;
+		skillIds[slot] = skill.getId();
+		ages[slot] = 0;
+		getStats(skill.getId())[PREDICTED]++;
+		return true;
+	}
+
+	/**
+	 * Returns true if the skill has an activation awaiting the server's response,
+	 * in which case any unsequenced {@link ActivateSkillPacket} for it should be ignored
+	 */
+	public boolean isPending(byte skillId) {
+		for (int i = 0; i < MAX_PENDING; ++i) {
+			if (sequences[i] != 0 && skillIds[i] == skillId) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Applies the server's response to a predicted activation, rolling it back if rejected
+	 */
+	public void reconcile(int sequence, boolean accepted) {
+		for (int i = 0; i < MAX_PENDING; ++i) {
+			if (sequences[i] == sequence) {
+				sequences[i] = 0;
+				if (accepted) {
+					getStats(skillIds[i])[CONFIRMED]++;
+				} else {
+					rollback(skillIds[i], REJECTED);
+				}
+				return;
+			}
+		}
+		// Prediction already timed out; nothing left to reconcile
+	}
+
+	/**
+	 * Call every tick on the client to expire predictions the server never answered
+	 */
+	public void onUpdate() {
+		for (int i = 0; i < MAX_PENDING; ++i) {
+			if (sequences[i] != 0 && ++ages[i] > TIMEOUT) {
+				sequences[i] = 0;
+				rollback(skillIds[i], TIMED_OUT);
+			}
+		}
+	}
+
+	private void rollback(byte skillId, int reason) {
+		int[] stats = getStats(skillId);
+		stats[reason]++;
+		SkillActive skill = DSSPlayerInfo.get(player).getActiveSkill(SkillRegistry.getSkillById(skillId));
+		if (skill != null) {
+			skill.rollback(player);
+		}
+		DynamicSwordSkills.logger.debug(String.format("Mispredicted activation of skill ID %d (%s): %d predicted, %d confirmed, %d rejected, %d timed out",
+				skillId, (reason == REJECTED ? "rejected" : "timed out"), stats[PREDICTED], stats[CONFIRMED], stats[REJECTED], stats[TIMED_OUT]));
+	}
+
+	private int getFreeSlot() {
+		for (int i = 0; i < MAX_PENDING; ++i) {
+			if (sequences[i] == 0) {
+				return i;
+			}
+		}
+		return -1;
+	}
+
+	private int nextSequence() {
+		if (++lastSequence <= 0) {
+			lastSequence = 1;
+		}
+		return lastSequence;
+	}
+
+	private static int[] getStats(byte skillId) {
+		int[] stats = STATS.get(skillId);
+		if (stats == null) {
+			stats = new int[4];
+			STATS.put(skillId, stats);
+		}
+		return stats;
+	}
+
+	/**
+	 * Returns a copy of the skill's prediction counters for this session, indexed by
+	 * {@link #PREDICTED}, {@link #CONFIRMED}, {@link #REJECTED}, and {@link #TIMED_OUT}
+	 */
+	public static int[] getStats(SkillBase skill) {
+		return getStats(skill.getId()).clone();
+	}
+}
@@ -29,6 +29,7 @@ import dynamicswordskills.api.ISkillInfusionFuelItem;
 import dynamicswordskills.api.ItemGrantSkill;
 import dynamicswordskills.api.SkillRegistry;
 import dynamicswordskills.skills.SkillBase;
+import dynamicswordskills.util.SkillSampler;
 import net.minecraft.client.renderer.block.model.ModelResourceLocation;
 import net.minecraft.creativetab.CreativeTabs;
 import net.minecraft.item.ItemStack;
@@ -43,12 +44,16 @@ public class ItemSkillOrb extends ItemGrantSkill implements IModItem, ISkillInfu
 {
 	private final BiMap<Integer, ResourceLocation> skill_id_map;
 
+	/** Selects from among the skills that have an orb */
+	private final SkillSampler sampler;
+
 	public ItemSkillOrb(BiMap<Integer, ResourceLocation> skill_id_map) {
 		super();
 		if (skill_id_map == null || skill_id_map.isEmpty()) {
 			throw new IllegalArgumentException("Skill orb items require a valid ID map with at least one entry");
 		}
 		this.skill_id_map = skill_id_map;
+		this.sampler = new SkillSampler(s -> skill_id_map.containsValue(s.getRegistryName()));
 		setMaxDamage(0);
 		setHasSubtypes(true);
 		setCreativeTab(DynamicSwordSkills.tabSkills);
@@ -82,7 +87,7 @@ public class ItemSkillOrb extends ItemGrantSkill implements IModItem, ISkillInfu
 
 	@Override
 	public SkillBase getRandomSkill(Random rand) {
-		return getSkillFromDamage(rand.nextInt(skill_id_map.size()));
+		return sampler.sample(rand);
 	}
 
 	@Override
@@ -0,0 +1,262 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.loot;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Random;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+
+import dynamicswordskills.DynamicSwordSkills;
+import dynamicswordskills.api.SkillRegistry;
+import dynamicswordskills.ref.ModInfo;
+import dynamicswordskills.skills.SkillBase;
+import dynamicswordskills.skills.Skills;
+import dynamicswordskills.util.AliasTable;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityList;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.util.JsonUtils;
+import net.minecraft.util.ResourceLocation;
+
+/**
+ *
+ * Skill orb drop rules for specific mobs, loaded from {@value #FILE_NAME} in the config directory;
+ * the file is created with the default rules if it does not exist.
+ *
+ * Each rule names a mob either by its entity registry name, e.g. "minecraft:zombie", or by its
+ * class name, and applies to that mob and every subclass without a more specific rule of its own,
+ * so modded mobs extending e.g. EntityZombie drop the same orbs as zombies unless configured otherwise.
+ *
+ * The rule for each entity class is resolved by walking its superclass chain the first time
+ * a mob of that class dies, after which looking up the rule costs no more than a field read.
+ *
+ */
+public final class OrbDropTable
+{
+	public static final String FILE_NAME = ModInfo.ID + "_orb_drops.json";
+
+	private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+	private static volatile OrbDropTable instance = new OrbDropTable(ImmutableMap.<Class<?>, Rule>of());
+
+	/** Rules as configured, keyed by the exact class to which each applies */
+	private final Map<Class<?>, Rule> rules;
+
+	/** Rule for each entity class, including inherited rules; {@link Rule#NONE} if no rule applies */
+	private final ClassValue<Rule> resolved = new ClassValue<Rule>() {
+		@Override
+		protected Rule computeValue(Class<?> type) {
+			for (Class<?> c = type; c != null && Entity.class.isAssignableFrom(c); c = c.getSuperclass()) {
+				Rule rule = OrbDropTable.this.rules.get(c);
+				if (rule != null) {
+					return rule;
+				}
+			}
+			return Rule.NONE;
+		}
+	};
+
+	private OrbDropTable(Map<Class<?>, Rule> rules) {
+		this.rules = rules;
+	}
+
+	/**
+	 * Returns the drop rule for the mob, or null if it has none
+	 */
+	@Nullable
+	public static Rule getRule(EntityLivingBase mob) {
+		Rule rule = instance.resolved.get(mob.getClass());
+		return (rule == Rule.NONE ? null : rule);
+	}
+
+	/**
+	 * Loads the drop rules from the config directory, writing the default rules first if the file does not exist;
+	 * the new rules replace the previous ones only if the file could be read.
+	 * @return false if the file could not be read
+	 */
+	public static boolean load(File configDir) {
+		File file = new File(configDir, FILE_NAME);
+		if (!file.exists()) {
+			try (Writer writer = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8)) {
+				GSON.toJson(getDefaults(), writer);
+			} catch (IOException e) {
+				DynamicSwordSkills.logger.error("Failed to write default skill orb drops to " + file, e);
+				return false;
+			}
+		}
+		JsonObject json;
+		try (Reader reader = Files.newBufferedReader(file.toPath(), StandardCharsets.UTF_8)) {
+			json = JsonUtils.fromJson(GSON, reader, JsonObject.class);
+		} catch (IOException | JsonParseException e) {
+			DynamicSwordSkills.logger.error("Failed to read skill orb drops from " + file, e);
+			return false;
+		}
+		Map<Class<?>, Rule> rules = new HashMap<Class<?>, Rule>();
+		JsonArray drops = JsonUtils.getJsonArray(json, "drops", new JsonArray());
+		for (JsonElement element : drops) {
+			try {
+				JsonObject entry = JsonUtils.getJsonObject(element, "drop");
+				Class<?> mobClass = getMobClass(entry);
+				if (mobClass == null) {
+					continue;
+				} else if (rules.containsKey(mobClass)) {
+					DynamicSwordSkills.logger.warn("Skipping duplicate skill orb drop for " + mobClass.getName());
+					continue;
+				}
+				rules.put(mobClass, Rule.fromJson(entry));
+			} catch (JsonParseException e) {
+				DynamicSwordSkills.logger.warn("Skipping invalid skill orb drop entry " + element + ": " + e.getMessage());
+			}
+		}
+		instance = new OrbDropTable(ImmutableMap.copyOf(rules));
+		DynamicSwordSkills.logger.info("Loaded " + rules.size() + " skill orb drop rules from " + file.getName());
+		return true;
+	}
+
+	/**
+	 * Returns the class named by the entry's "entity" registry name or "class" name, or null if not found
+	 */
+	@Nullable
+	private static Class<?> getMobClass(JsonObject entry) {
+		if (entry.has("entity")) {
+			String name = JsonUtils.getString(entry, "entity");
+			Class<? extends Entity> mobClass = EntityList.getClass(new ResourceLocation(name));
+			if (mobClass == null) {
+				DynamicSwordSkills.logger.warn("Skipping skill orb drop for unknown entity '" + name + "'");
+			}
+			return mobClass;
+		}
+		String name = JsonUtils.getString(entry, "class");
+		try {
+			Class<?> mobClass = Class.forName(name, false, OrbDropTable.class.getClassLoader());
+			if (EntityLivingBase.class.isAssignableFrom(mobClass)) {
+				return mobClass;
+			}
+			DynamicSwordSkills.logger.warn("Skipping skill orb drop for " + name + ": not a living entity class");
+		} catch (ClassNotFoundException e) {
+			DynamicSwordSkills.logger.warn("Skipping skill orb drop for unknown class '" + name + "'");
+		}
+		return null;
+	}
+
+	private static JsonObject getDefaults() {
+		Map<String, SkillBase> defaults = new LinkedHashMap<String, SkillBase>();
+		defaults.put("minecraft:zombie", Skills.swordBasic);
+		defaults.put("minecraft:skeleton", Skills.swordBasic);
+		defaults.put("minecraft:enderman", Skills.dodge);
+		defaults.put("minecraft:silverfish", Skills.backSlice);
+		defaults.put("minecraft:slime", Skills.dash);
+		defaults.put("minecraft:horse", Skills.dash);
+		defaults.put("minecraft:zombie_pigman", Skills.parry);
+		defaults.put("minecraft:ocelot", Skills.mortalDraw);
+		defaults.put("minecraft:spider", Skills.endingBlow);
+		defaults.put("minecraft:cave_spider", Skills.leapingBlow);
+		defaults.put("minecraft:magma_cube", Skills.leapingBlow);
+		defaults.put("minecraft:blaze", Skills.spinAttack);
+		defaults.put("minecraft:bat", Skills.risingCut);
+		defaults.put("minecraft:creeper", Skills.armorBreak);
+		defaults.put("minecraft:villager_golem", Skills.swordBreak);
+		defaults.put("minecraft:ghast", Skills.superSpinAttack);
+		defaults.put("minecraft:witch", Skills.swordBeam);
+		JsonArray drops = new JsonArray();
+		for (Map.Entry<String, SkillBase> entry : defaults.entrySet()) {
+			JsonObject drop = new JsonObject();
+			drop.addProperty("entity", entry.getKey());
+			JsonObject skills = new JsonObject();
+			skills.addProperty(entry.getValue().getRegistryName().toString(), 1);
+			drop.add("skills", skills);
+			drops.add(drop);
+		}
+		JsonObject json = new JsonObject();
+		json.addProperty("_comment", "Each drop names an 'entity' registry name or a 'class' name and applies to subclasses without a drop of their own."
+				+ " 'skills' maps skill registry names to relative weights; the optional 'chance' replaces the configured drop chance of each orb.");
+		json.add("drops", drops);
+		return json;
+	}
+
+	/**
+	 *
+	 * Skill orbs that a specific type of mob may drop
+	 *
+	 */
+	public static final class Rule
+	{
+		/** Placeholder for classes with no rule, as {@link ClassValue} cannot hold null values */
+		private static final Rule NONE = new Rule(AliasTable.<SkillBase>empty(), -1.0F);
+
+		private final AliasTable<SkillBase> skills;
+
+		/** Chance of dropping an orb, or a negative value to use each orb's configured drop chance */
+		private final float chance;
+
+		private Rule(AliasTable<SkillBase> skills, float chance) {
+			this.skills = skills;
+			this.chance = chance;
+		}
+
+		private static Rule fromJson(JsonObject json) {
+			float chance = JsonUtils.getFloat(json, "chance", -1.0F);
+			if (chance > 1.0F) {
+				throw new JsonParseException("Expected chance to be at most 1, was " + chance);
+			}
+			Map<SkillBase, Float> weights = new LinkedHashMap<SkillBase, Float>();
+			for (Map.Entry<String, JsonElement> entry : JsonUtils.getJsonObject(json, "skills").entrySet()) {
+				SkillBase skill = SkillRegistry.get(new ResourceLocation(entry.getKey()));
+				if (skill == null) {
+					DynamicSwordSkills.logger.warn("Ignoring unknown skill '" + entry.getKey() + "' in skill orb drops");
+				} else {
+					weights.put(skill, JsonUtils.getFloat(entry.getValue(), entry.getKey()));
+				}
+			}
+			return new Rule(AliasTable.of(weights.keySet(), weights::get), chance);
+		}
+
+		/**
+		 * Returns a random skill from this rule, or null if it has none
+		 */
+		@Nullable
+		public SkillBase getRandomSkill(Random rand) {
+			return this.skills.sample(rand);
+		}
+
+		/**
+		 * Returns the chance of dropping the given orb, which may not be one of this rule's skills
+		 * @param defaultChance The orb's configured drop chance
+		 */
+		public float getDropChance(float defaultChance) {
+			return (this.chance < 0.0F ? defaultChance : this.chance);
+		}
+	}
+}
@@ -55,7 +55,7 @@ public abstract class AbstractMessage<T extends AbstractMessage<T>> implements I
 	 * Called on whichever side the message is received;
 	 * for bidirectional packets, be sure to check side
 	 * If {@link #requiresMainThread()} returns true, this method is guaranteed
-	 * to be called on the main Minecraft thread for the side given.
+	 * to be called on the main Minecraft thread for the side given, in order with the vanilla packets.
 	 */
 	protected abstract void process(EntityPlayer player, Side side);
 
@@ -67,6 +67,17 @@ public abstract class AbstractMessage<T extends AbstractMessage<T>> implements I
 		return true;
 	}
 
+	/**
+	 * Called on the network thread as soon as the message has been read, before it is handed
+	 * off to the main thread. Perform only cheap sanity checks here (e.g. id ranges) and resolve
+	 * anything that does not depend on the world, such as registered skill instances; the world
+	 * and player must not be accessed.
+	 * @return False to discard the message without processing it
+	 */
+	protected boolean isValid() {
+		return true;
+	}
+
 	/**
 	 * Whether this message requires the main thread to be processed (i.e. it
 	 * requires that the world, player, and other objects are in a valid state).
@@ -97,6 +108,10 @@ public abstract class AbstractMessage<T extends AbstractMessage<T>> implements I
 	public final IMessage onMessage(T msg, MessageContext ctx) {
 		if (!msg.isValidOnSide(ctx.side)) {
 			throw new RuntimeException("Invalid side " + ctx.side.name() + " for " + msg.getClass().getSimpleName());
+		} else if (ctx.side.isServer() && !RateLimiter.tryAcquire(msg, ctx)) {
+			// discarded; see RateLimiter
+		} else if (!msg.isValid()) {
+			DynamicSwordSkills.logger.debug(String.format("Discarding invalid %s received on side %s", msg.getClass().getSimpleName(), ctx.side.name()));
 		} else if (msg.requiresMainThread()) {
 			checkThreadAndEnqueue(msg, ctx);
 		} else {
@@ -106,20 +121,33 @@ public abstract class AbstractMessage<T extends AbstractMessage<T>> implements I
 	}
 
 	/**
-	 * Ensures that the message is being handled on the main thread
+	 * Ensures that the message is processed on the main thread: immediately if already called from it,
+	 * as vanilla does for its own packets, otherwise as a scheduled task so that it stays in order with
+	 * the vanilla packets received on the same connection
 	 */
 	private static final <T extends AbstractMessage<T>> void checkThreadAndEnqueue(final AbstractMessage<T> msg, final MessageContext ctx) {
 		IThreadListener thread = DynamicSwordSkills.proxy.getThreadFromContext(ctx);
-		if (!thread.isCallingFromMinecraftThread()) {
+		if (thread.isCallingFromMinecraftThread()) {
+			processOnMainThread(msg, ctx);
+		} else {
 			thread.addScheduledTask(new Runnable() {
 				@Override
 				public void run() {
-					msg.process(DynamicSwordSkills.proxy.getPlayerEntity(ctx), ctx.side);
+					processOnMainThread(msg, ctx);
 				}
 			});
 		}
 	}
 
+	private static void processOnMainThread(AbstractMessage<?> msg, MessageContext ctx) {
+		EntityPlayer player = DynamicSwordSkills.proxy.getPlayerEntity(ctx);
+		if (player == null) {
+			DynamicSwordSkills.logger.debug(String.format("Discarding %s received without a valid player", msg.getClass().getSimpleName()));
+			return;
+		}
+		msg.process(player, ctx.side);
+	}
+
 	/**
 	 * Messages that can only be sent from the server to the client should use this class
 	 */
@@ -17,12 +17,20 @@
 
 package dynamicswordskills.network;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.MapMaker;
+
 import dynamicswordskills.network.bidirectional.*;
 import dynamicswordskills.network.client.*;
 import dynamicswordskills.network.server.*;
 import dynamicswordskills.ref.ModInfo;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraftforge.common.MinecraftForge;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import net.minecraftforge.fml.common.network.NetworkRegistry;
 import net.minecraftforge.fml.common.network.simpleimpl.IMessage;
@@ -41,6 +49,9 @@ public class PacketDispatcher
 
 	private static final SimpleNetworkWrapper dispatcher = NetworkRegistry.INSTANCE.newSimpleChannel(ModInfo.CHANNEL);
 
+	/** Number of times each message type has been sent by the server since it started */
+	private static final ConcurrentMap<Class<?>, AtomicLong> sent = new MapMaker().makeMap();
+
 	/**
 	 *  Registers all packets and handlers - call this during {@link FMLPreInitializationEvent}
 	 */
@@ -54,6 +65,7 @@ public class PacketDispatcher
 		// Packets handled on CLIENT
 		registerMessage(EndingBlowPacket.class);
 		registerMessage(MortalDrawPacket.class);
+		registerMessage(SkillPredictionPacket.class);
 		registerMessage(SyncConfigPacket.class);
 		registerMessage(SyncPlayerInfoPacket.class);
 		registerMessage(SyncSkillPacket.class);
@@ -64,10 +76,13 @@ public class PacketDispatcher
 		registerMessage(ApplySkillModifierPacket.class);
 		registerMessage(DashImpactPacket.class);
 		registerMessage(EndComboPacket.class);
+		registerMessage(MultiReachAttackPacket.class);
 		registerMessage(OpenGuiPacket.class);
 		registerMessage(ReachAttackSkillPacket.class);
 		registerMessage(SyncDisabledSkillsPacket.class);
 		registerMessage(TargetIdPacket.class);
+
+		MinecraftForge.EVENT_BUS.register(new RateLimiter.TickHandler());
 	}
 
 	/**
@@ -84,11 +99,35 @@ public class PacketDispatcher
 		}
 	}
 
+	private static void countSent(IMessage message) {
+		sent.computeIfAbsent(message.getClass(), k -> new AtomicLong()).incrementAndGet();
+	}
+
+	/**
+	 * Resets the sent message counts; call when the server starts
+	 */
+	public static void resetSentCounts() {
+		sent.clear();
+	}
+
+	/**
+	 * Returns the number of times each message type has been sent by the server, by simple class name;
+	 * broadcasts are counted once regardless of the number of recipients
+	 */
+	public static Map<String, Long> getSentCounts() {
+		Map<String, Long> map = new HashMap<String, Long>();
+		for (Map.Entry<Class<?>, AtomicLong> entry : sent.entrySet()) {
+			map.put(entry.getKey().getSimpleName(), entry.getValue().get());
+		}
+		return map;
+	}
+
 	/**
 	 * Send this message to the specified player's client-side counterpart.
 	 * See {@link SimpleNetworkWrapper#sendTo(IMessage, EntityPlayerMP)}
 	 */
 	public static final void sendTo(IMessage message, EntityPlayerMP player) {
+		PacketDispatcher.countSent(message);
 		PacketDispatcher.dispatcher.sendTo(message, player);
 	}
 
@@ -97,6 +136,7 @@ public class PacketDispatcher
 	 * See {@link SimpleNetworkWrapper#sendToAll(IMessage)}
 	 */
 	public static void sendToAll(IMessage message) {
+		PacketDispatcher.countSent(message);
 		PacketDispatcher.dispatcher.sendToAll(message);
 	}
 
@@ -105,6 +145,7 @@ public class PacketDispatcher
 	 * See {@link SimpleNetworkWrapper#sendToAllAround(IMessage, NetworkRegistry.TargetPoint)}
 	 */
 	public static final void sendToAllAround(IMessage message, NetworkRegistry.TargetPoint point) {
+		PacketDispatcher.countSent(message);
 		PacketDispatcher.dispatcher.sendToAllAround(message, point);
 	}
 
@@ -129,6 +170,7 @@ public class PacketDispatcher
 	 * See {@link SimpleNetworkWrapper#sendToDimension(IMessage, int)}
 	 */
 	public static final void sendToDimension(IMessage message, int dimensionId) {
+		PacketDispatcher.countSent(message);
 		PacketDispatcher.dispatcher.sendToDimension(message, dimensionId);
 	}
 
@@ -0,0 +1,255 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.network;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.google.common.collect.MapMaker;
+
+import dynamicswordskills.DynamicSwordSkills;
+import dynamicswordskills.network.bidirectional.ActivateSkillPacket;
+import dynamicswordskills.network.bidirectional.DeactivateSkillPacket;
+import dynamicswordskills.network.bidirectional.PlaySoundPacket;
+import dynamicswordskills.network.server.AddExhaustionPacket;
+import dynamicswordskills.network.server.ApplySkillModifierPacket;
+import dynamicswordskills.network.server.DashImpactPacket;
+import dynamicswordskills.network.server.EndComboPacket;
+import dynamicswordskills.network.server.MultiReachAttackPacket;
+import dynamicswordskills.network.server.OpenGuiPacket;
+import dynamicswordskills.network.server.ReachAttackSkillPacket;
+import dynamicswordskills.network.server.SyncDisabledSkillsPacket;
+import dynamicswordskills.network.server.TargetIdPacket;
+import dynamicswordskills.ref.Config;
+import net.minecraft.network.NetHandlerPlayServer;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
+import net.minecraftforge.fml.common.network.simpleimpl.MessageContext;
+
+/**
+ * 
+ * Per-player token buckets limiting how often each type of message may be sent to the server,
+ * checked on the network thread before the message is handed off to the main thread.
+ * 
+ * Each bucket refills at the rate set in the config, scaled down while the server is running
+ * behind so that a struggling server accepts proportionally less work from each player.
+ * Messages that find their bucket empty are discarded and counted; offenders are logged
+ * at most once every {@link #WARNING_INTERVAL} per player.
+ *
+ */
+public class RateLimiter
+{
+	/** Default messages per second allowed for each server-bound message type */
+	private static final Map<Class<? extends AbstractMessage<?>>, Integer> DEFAULT_LIMITS = new LinkedHashMap<Class<? extends AbstractMessage<?>>, Integer>();
+
+	static {
+		DEFAULT_LIMITS.put(ActivateSkillPacket.class, 20);
+		DEFAULT_LIMITS.put(AddExhaustionPacket.class, 10);
+		DEFAULT_LIMITS.put(ApplySkillModifierPacket.class, 20);
+		DEFAULT_LIMITS.put(DashImpactPacket.class, 5);
+		DEFAULT_LIMITS.put(DeactivateSkillPacket.class, 20);
+		DEFAULT_LIMITS.put(EndComboPacket.class, 10);
+		DEFAULT_LIMITS.put(MultiReachAttackPacket.class, 20);
+		DEFAULT_LIMITS.put(OpenGuiPacket.class, 5);
+		DEFAULT_LIMITS.put(PlaySoundPacket.class, 10);
+		DEFAULT_LIMITS.put(ReachAttackSkillPacket.class, 40);
+		DEFAULT_LIMITS.put(SyncDisabledSkillsPacket.class, 5);
+		DEFAULT_LIMITS.put(TargetIdPacket.class, 20);
+	}
+
+	/** Minimum time between warnings about the same player, in nanoseconds */
+	private static final long WARNING_INTERVAL = 10000000000L;
+
+	/** Target milliseconds per tick */
+	private static final float TICK_TIME = 50.0F;
+
+	/** Lowest fraction of the configured rates allowed while the server is lagging */
+	private static final float MIN_LOAD_FACTOR = 0.25F;
+
+	/** Fraction of the configured rates currently allowed, based on the average tick time */
+	private static volatile float loadFactor = 1.0F;
+
+	private static final ConcurrentMap<NetHandlerPlayServer, PlayerLimits> PLAYERS = new MapMaker().weakKeys().makeMap();
+
+	/** Total messages discarded for each message type since the server started */
+	private static final ConcurrentMap<Class<?>, AtomicLong> DROPPED = new MapMaker().makeMap();
+
+	/**
+	 * Returns the default rate limits, in messages per second, used to generate the config
+	 */
+	public static Map<Class<? extends AbstractMessage<?>>, Integer> getDefaultLimits() {
+		return Collections.unmodifiableMap(DEFAULT_LIMITS);
+	}
+
+	/**
+	 * Consumes one token from the sending player's bucket for the message type;
+	 * call only for messages received on the server
+	 * @return false if the message should be discarded
+	 */
+	static boolean tryAcquire(AbstractMessage<?> msg, MessageContext ctx) {
+		if (!Config.isRateLimitEnabled()) {
+			return true;
+		}
+		int limit = Config.getRateLimit(msg.getClass());
+		if (limit < 1) {
+			return true;
+		}
+		NetHandlerPlayServer handler = ctx.getServerHandler();
+		PlayerLimits limits = PLAYERS.get(handler);
+		if (limits == null) {
+			limits = new PlayerLimits();
+			PlayerLimits previous = PLAYERS.putIfAbsent(handler, limits);
+			if (previous != null) {
+				limits = previous;
+			}
+		}
+		if (limits.tryAcquire(msg.getClass(), limit)) {
+			return true;
+		}
+		DROPPED.computeIfAbsent(msg.getClass(), k -> new AtomicLong()).incrementAndGet();
+		if (limits.shouldWarn()) {
+			DynamicSwordSkills.logger.warn(String.format("%s exceeded the rate limit for %s; %d messages discarded so far", handler.player.getName(), msg.getClass().getSimpleName(), limits.getDropped()));
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the fraction of the configured rates currently allowed
+	 */
+	public static float getLoadFactor() {
+		return loadFactor;
+	}
+
+	/**
+	 * Returns the number of messages discarded for each message type, by simple class name
+	 */
+	public static Map<String, Long> getDroppedByType() {
+		Map<String, Long> map = new HashMap<String, Long>();
+		for (Map.Entry<Class<?>, AtomicLong> entry : DROPPED.entrySet()) {
+			map.put(entry.getKey().getSimpleName(), entry.getValue().get());
+		}
+		return map;
+	}
+
+	/**
+	 * Returns the number of messages discarded for each connected player who has exceeded a limit, by name
+	 */
+	public static Map<String, Long> getDroppedByPlayer() {
+		Map<String, Long> map = new HashMap<String, Long>();
+		for (Map.Entry<NetHandlerPlayServer, PlayerLimits> entry : PLAYERS.entrySet()) {
+			long dropped = entry.getValue().getDropped();
+			if (dropped > 0) {
+				map.put(entry.getKey().player.getName(), dropped);
+			}
+		}
+		return map;
+	}
+
+	private static final class PlayerLimits
+	{
+		/** Buckets are only touched by the connection's network thread */
+		private final Map<Class<?>, Bucket> buckets = new HashMap<Class<?>, Bucket>();
+
+		private final AtomicLong dropped = new AtomicLong();
+
+		private long lastWarning;
+
+		private boolean tryAcquire(Class<?> type, int limit) {
+			Bucket bucket = buckets.get(type);
+			if (bucket == null) {
+				bucket = new Bucket(limit * Config.getRateLimitBurst());
+				buckets.put(type, bucket);
+			}
+			if (bucket.tryAcquire(limit, Config.getRateLimitBurst())) {
+				return true;
+			}
+			dropped.incrementAndGet();
+			return false;
+		}
+
+		private long getDropped() {
+			return dropped.get();
+		}
+
+		private boolean shouldWarn() {
+			long now = System.nanoTime();
+			if (lastWarning == 0 || now - lastWarning > WARNING_INTERVAL) {
+				lastWarning = now;
+				return true;
+			}
+			return false;
+		}
+	}
+
+	private static final class Bucket
+	{
+		private double tokens;
+
+		private long lastRefill = System.nanoTime();
+
+		private Bucket(double tokens) {
+			this.tokens = tokens;
+		}
+
+		/**
+		 * @param limit Tokens added per second before scaling by the current load factor
+		 * @param burst Number of seconds' worth of tokens the bucket may hold
+		 */
+		private boolean tryAcquire(int limit, int burst) {
+			long now = System.nanoTime();
+			double rate = limit * loadFactor;
+			tokens = Math.min(limit * burst, tokens + (now - lastRefill) * 1.0E-9D * rate);
+			lastRefill = now;
+			if (tokens < 1.0D) {
+				return false;
+			}
+			tokens -= 1.0D;
+			return true;
+		}
+	}
+
+	/**
+	 * Recalculates the load factor from the server's average tick time once per second
+	 */
+	public static class TickHandler
+	{
+		private int ticks;
+
+		@SubscribeEvent
+		public void onServerTick(ServerTickEvent event) {
+			if (event.phase == Phase.END && ++ticks % 20 == 0) {
+				MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+				if (server != null) {
+					long total = 0;
+					for (long time : server.tickTimeArray) {
+						total += time;
+					}
+					float mspt = (float)(total / server.tickTimeArray.length) * 1.0E-6F;
+					loadFactor = (mspt <= TICK_TIME ? 1.0F : Math.max(MIN_LOAD_FACTOR, TICK_TIME / mspt));
+				}
+			}
+		}
+	}
+}
@@ -22,10 +22,14 @@ import java.io.IOException;
 import dynamicswordskills.DynamicSwordSkills;
 import dynamicswordskills.api.SkillRegistry;
 import dynamicswordskills.entity.DSSPlayerInfo;
+import dynamicswordskills.entity.SkillPredictor;
 import dynamicswordskills.network.AbstractMessage;
+import dynamicswordskills.network.PacketDispatcher;
+import dynamicswordskills.network.client.SkillPredictionPacket;
 import dynamicswordskills.skills.SkillActive;
 import dynamicswordskills.skills.SkillBase;
 import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.network.PacketBuffer;
 import net.minecraftforge.fml.relauncher.Side;
 
@@ -40,37 +44,64 @@ public class ActivateSkillPacket extends AbstractMessage<ActivateSkillPacket>
 
 	private boolean wasTriggered = false;
 
+	/** Client's prediction sequence number, or 0 if the activation was not predicted; see {@link SkillPredictor} */
+	private int sequence;
+
+	/** Registered skill for the id received, resolved on the network thread */
+	private SkillBase registeredSkill;
+
 	public ActivateSkillPacket() {}
 
 	/**
 	 * See {@link DSSPlayerInfo#activateSkill(SkillBase, boolean)}
 	 */
 	public ActivateSkillPacket(SkillBase skill, boolean wasTriggered) {
+		this(skill, wasTriggered, 0);
+	}
+
+	/**
+	 * Client-to-server activation already predicted by the client; the server answers with a {@link SkillPredictionPacket}
+	 */
+	public ActivateSkillPacket(SkillBase skill, boolean wasTriggered, int sequence) {
 		this.id = skill.getId();
 		this.wasTriggered = wasTriggered;
+		this.sequence = sequence;
 	}
 
 	@Override
 	protected void read(PacketBuffer buffer) throws IOException {
 		id = buffer.readByte();
 		wasTriggered = buffer.readBoolean();
+		sequence = buffer.readVarInt();
 	}
 
 	@Override
 	protected void write(PacketBuffer buffer) throws IOException {
 		buffer.writeByte(id);
 		buffer.writeBoolean(wasTriggered);
+		buffer.writeVarInt(sequence);
+	}
+
+	@Override
+	protected boolean isValid() {
+		registeredSkill = SkillRegistry.getSkillById(id);
+		return registeredSkill != null;
 	}
 
 	@Override
 	protected void process(EntityPlayer player, Side side) {
-		// handled identically on both sides
 		DSSPlayerInfo info = DSSPlayerInfo.get(player);
-		SkillBase skill = info.getPlayerSkill(SkillRegistry.getSkillById(id));
-		if (skill instanceof SkillActive) {
-			info.activateSkill(skill, wasTriggered);
-		} else {
+		SkillBase skill = info.getPlayerSkill(registeredSkill);
+		boolean activated = false;
+		if (!(skill instanceof SkillActive)) {
 			DynamicSwordSkills.logger.warn(String.format("Skill ID %d was not valid for %s while processing ActivateSkillPacket", id, player));
+		} else if (side.isClient() && info.getSkillPredictor().isPending(id)) {
+			// already activated by the client's prediction
+		} else {
+			activated = info.activateSkill(skill, wasTriggered);
+		}
+		if (side.isServer() && sequence != 0) {
+			PacketDispatcher.sendTo(new SkillPredictionPacket(sequence, activated), (EntityPlayerMP) player);
 		}
 	}
 }
@@ -38,6 +38,9 @@ public class DeactivateSkillPacket extends AbstractMessage<DeactivateSkillPacket
 {
 	private byte id;
 
+	/** Registered skill for the id received, resolved on the network thread */
+	private SkillBase registeredSkill;
+
 	public DeactivateSkillPacket() {}
 
 	public DeactivateSkillPacket(SkillActive skill) {
@@ -54,10 +57,16 @@ public class DeactivateSkillPacket extends AbstractMessage<DeactivateSkillPacket
 		buffer.writeByte(id);
 	}
 
+	@Override
+	protected boolean isValid() {
+		registeredSkill = SkillRegistry.getSkillById(id);
+		return registeredSkill != null;
+	}
+
 	@Override
 	protected void process(EntityPlayer player, Side side) {
 		// handled identically on both sides
-		SkillBase skill = DSSPlayerInfo.get(player).getPlayerSkill(SkillRegistry.getSkillById(id));
+		SkillBase skill = DSSPlayerInfo.get(player).getPlayerSkill(registeredSkill);
 		if (skill instanceof SkillActive) {
 			((SkillActive) skill).deactivate(player);
 		} else {
@@ -22,11 +22,14 @@ import java.io.IOException;
 import org.apache.commons.lang3.Validate;
 
 import dynamicswordskills.network.AbstractMessage;
+import dynamicswordskills.util.TickScheduler;
+import dynamicswordskills.util.TickScheduler.Priority;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.network.PacketBuffer;
 import net.minecraft.util.SoundCategory;
 import net.minecraft.util.SoundEvent;
+import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
 
 /**
@@ -93,13 +96,19 @@ public class PlaySoundPacket extends AbstractMessage<PlaySoundPacket>
 		buffer.writeDouble(z);
 	}
 
+	@Override
+	protected boolean isValid() {
+		return sound != null && Float.isFinite(volume) && Float.isFinite(pitch) && Double.isFinite(x) && Double.isFinite(y) && Double.isFinite(z);
+	}
+
 	@Override
 	protected void process(EntityPlayer player, Side side) {
 		if (side.isClient()) {
 			player.playSound(sound, volume, pitch);
 		} else {
 			// pass 'null' player so they will hear the sound, too
-			player.getEntityWorld().playSound(null, x, y, z, sound, category, volume, pitch);
+			final World world = player.getEntityWorld();
+			TickScheduler.schedule(Priority.COMBAT, () -> world.playSound(null, x, y, z, sound, category, volume, pitch));
 		}
 	}
 }
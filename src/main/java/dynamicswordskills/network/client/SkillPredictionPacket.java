@@ -0,0 +1,64 @@
+/**
+    Copyright (C) <2019> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.network.client;
+
+import java.io.IOException;
+
+import dynamicswordskills.entity.DSSPlayerInfo;
+import dynamicswordskills.entity.SkillPredictor;
+import dynamicswordskills.network.AbstractMessage.AbstractClientMessage;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.network.PacketBuffer;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ * 
+ * Sent in response to each sequenced ActivateSkillPacket to confirm or reject the client's prediction
+ * (see {@link SkillPredictor})
+ *
+ */
+public class SkillPredictionPacket extends AbstractClientMessage<SkillPredictionPacket>
+{
+	private int sequence;
+
+	private boolean accepted;
+
+	public SkillPredictionPacket() {}
+
+	public SkillPredictionPacket(int sequence, boolean accepted) {
+		this.sequence = sequence;
+		this.accepted = accepted;
+	}
+
+	@Override
+	protected void read(PacketBuffer buffer) throws IOException {
+		this.sequence = buffer.readVarInt();
+		this.accepted = buffer.readBoolean();
+	}
+
+	@Override
+	protected void write(PacketBuffer buffer) throws IOException {
+		buffer.writeVarInt(sequence);
+		buffer.writeBoolean(accepted);
+	}
+
+	@Override
+	protected void process(EntityPlayer player, Side side) {
+		DSSPlayerInfo.get(player).getSkillPredictor().reconcile(sequence, accepted);
+	}
+}
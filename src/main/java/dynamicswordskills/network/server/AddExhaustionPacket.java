@@ -31,6 +31,9 @@ import dynamicswordskills.network.AbstractMessage.AbstractServerMessage;
  */
 public class AddExhaustionPacket extends AbstractServerMessage<AddExhaustionPacket>
 {
+	/** Largest amount any one packet may add; vanilla caps the food exhaustion level at the same value */
+	private static final float MAX_EXHAUSTION = 40.0F;
+
 	private float amount;
 
 	public AddExhaustionPacket() {}
@@ -49,6 +52,11 @@ public class AddExhaustionPacket extends AbstractServerMessage<AddExhaustionPack
 		buffer.writeFloat(amount);
 	}
 
+	@Override
+	protected boolean isValid() {
+		return amount >= 0.0F && amount <= MAX_EXHAUSTION;
+	}
+
 	@Override
 	protected void process(EntityPlayer player, Side side) {
 		player.addExhaustion(amount);
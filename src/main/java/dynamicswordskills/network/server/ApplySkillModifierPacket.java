@@ -42,6 +42,9 @@ public class ApplySkillModifierPacket extends AbstractServerMessage<ApplySkillMo
 
 	private byte modifierId;
 
+	/** Registered skill and modifier for the ids received, resolved on the network thread */
+	private SkillBase registeredSkill, registeredModifier;
+
 	public ApplySkillModifierPacket() {}
 
 	public <T extends SkillActive & IModifiableSkill, M extends SkillBase & ISkillModifier> ApplySkillModifierPacket(T skill, M modifier) {
@@ -61,11 +64,18 @@ public class ApplySkillModifierPacket extends AbstractServerMessage<ApplySkillMo
 		buffer.writeByte(this.modifierId);
 	}
 
+	@Override
+	protected boolean isValid() {
+		registeredSkill = SkillRegistry.getSkillById(this.skillId);
+		registeredModifier = SkillRegistry.getSkillById(this.modifierId);
+		return registeredSkill instanceof IModifiableSkill && registeredModifier instanceof ISkillModifier;
+	}
+
 	@Override
 	protected void process(EntityPlayer player, Side side) {
 		DSSPlayerInfo skills = DSSPlayerInfo.get(player);
-		SkillActive skill = skills.getActiveSkill(SkillRegistry.getSkillById(this.skillId));
-		SkillBase refMod = SkillRegistry.getSkillById(this.modifierId);
+		SkillActive skill = skills.getActiveSkill(registeredSkill);
+		SkillBase refMod = registeredModifier;
 		SkillBase modifier = skills.getPlayerSkill(refMod);
 		if (skill instanceof IModifiableSkill && skill.isActive() && modifier instanceof ISkillModifier && modifier.getLevel() > 0) {
 			if (!((IModifiableSkill) skill).getSkillModifiers().contains(refMod)) {
@@ -82,6 +82,11 @@ public class DashImpactPacket extends AbstractServerMessage<DashImpactPacket>
 		}
 	}
 
+	@Override
+	protected boolean isValid() {
+		return hitType >= 0 && hitType < RayTraceResult.Type.values().length && entityId >= 0;
+	}
+
 	@Override
 	protected void process(EntityPlayer player, Side side) {
 		Dash dash = (Dash) DSSPlayerInfo.get(player).getActiveSkill(Skills.dash);
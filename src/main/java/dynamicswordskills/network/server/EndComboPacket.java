@@ -40,6 +40,9 @@ public class EndComboPacket extends AbstractServerMessage<EndComboPacket>
 	/** Id of skill that implements {@link IComboSkill} */
 	private byte id;
 
+	/** Registered skill for the id received, resolved on the network thread */
+	private SkillBase registeredSkill;
+
 	public EndComboPacket() {}
 
 	public EndComboPacket(SkillBase skill) {
@@ -56,9 +59,15 @@ public class EndComboPacket extends AbstractServerMessage<EndComboPacket>
 		buffer.writeByte(id);
 	}
 
+	@Override
+	protected boolean isValid() {
+		registeredSkill = SkillRegistry.getSkillById(id);
+		return registeredSkill != null;
+	}
+
 	@Override
 	protected void process(EntityPlayer player, Side side) {
-		SkillBase skill = DSSPlayerInfo.get(player).getPlayerSkill(SkillRegistry.getSkillById(id));
+		SkillBase skill = DSSPlayerInfo.get(player).getPlayerSkill(registeredSkill);
 		if (skill instanceof IComboSkill) {
 			if (((IComboSkill) skill).isComboInProgress()) {
 				((IComboSkill) skill).getCombo().endCombo(player);
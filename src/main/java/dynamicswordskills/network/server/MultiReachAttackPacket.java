@@ -0,0 +1,155 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.network.server;
+
+import java.io.IOException;
+import java.util.List;
+
+import dynamicswordskills.api.SkillRegistry;
+import dynamicswordskills.entity.DSSPlayerInfo;
+import dynamicswordskills.entity.DirtyEntityAccessor;
+import dynamicswordskills.entity.EntityPositionHistory;
+import dynamicswordskills.network.AbstractMessage.AbstractServerMessage;
+import dynamicswordskills.skills.IReachAttackSkill;
+import dynamicswordskills.skills.SkillActive;
+import dynamicswordskills.skills.SkillBase;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.network.PacketBuffer;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraftforge.fml.relauncher.Side;
+
+/**
+ *
+ * Processes all of an {@link IReachAttackSkill}'s attacks for a single client tick on the server.
+ *
+ */
+public class MultiReachAttackPacket extends AbstractServerMessage<MultiReachAttackPacket>
+{
+	/** Maximum number of targets allowed per packet */
+	public static final int MAX_TARGETS = 64;
+
+	/** Extra distance allowed by the pre-filter for targets that have moved since the client saw them */
+	private static final double MAX_DRIFT = 8.0D;
+
+	/** The currently active reach attack skill */
+	private byte skillId;
+
+	/** The client's world time when the attacks were made, used for lag-compensated validation */
+	private long worldTime;
+
+	/** Entity IDs of each target */
+	private int[] entityIds;
+
+	/** Registered skill for the id received, resolved on the network thread */
+	private SkillBase registeredSkill;
+
+	public MultiReachAttackPacket() {}
+
+	/**
+	 * @param targets At most {@link #MAX_TARGETS} targets
+	 * @throws IllegalArgumentException if there are too many targets
+	 */
+	public MultiReachAttackPacket(SkillBase skill, List<? extends Entity> targets) throws IllegalArgumentException {
+		if (targets.size() > MAX_TARGETS) {
+			throw new IllegalArgumentException("MultiReachAttackPacket allows at most " + MAX_TARGETS + " targets; received " + targets.size());
+		}
+		this.skillId = skill.getId();
+		this.entityIds = new int[targets.size()];
+		for (int i = 0; i < entityIds.length; ++i) {
+			this.entityIds[i] = targets.get(i).getEntityId();
+		}
+		this.worldTime = (targets.isEmpty() ? 0 : targets.get(0).getEntityWorld().getTotalWorldTime());
+	}
+
+	@Override
+	protected void read(PacketBuffer buffer) throws IOException {
+		this.skillId = buffer.readByte();
+		this.worldTime = buffer.readVarLong();
+		int n = buffer.readVarInt();
+		if (n < 0 || n > MAX_TARGETS) {
+			throw new IOException("Invalid number of targets: " + n);
+		}
+		this.entityIds = new int[n];
+		for (int i = 0; i < n; ++i) {
+			this.entityIds[i] = buffer.readVarInt();
+		}
+	}
+
+	@Override
+	protected void write(PacketBuffer buffer) throws IOException {
+		buffer.writeByte(this.skillId);
+		buffer.writeVarLong(this.worldTime);
+		buffer.writeVarInt(this.entityIds.length);
+		for (int id : this.entityIds) {
+			buffer.writeVarInt(id);
+		}
+	}
+
+	@Override
+	protected boolean isValid() {
+		registeredSkill = SkillRegistry.getSkillById(this.skillId);
+		if (!(registeredSkill instanceof IReachAttackSkill)) {
+			return false;
+		}
+		for (int id : entityIds) {
+			if (id < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	protected void process(EntityPlayer player, Side side) {
+		SkillActive skill = DSSPlayerInfo.get(player).getActiveSkill(registeredSkill);
+		if (!(skill instanceof IReachAttackSkill) || !skill.isActive() || player.isSpectator() || entityIds.length == 0) {
+			return;
+		}
+		((EntityPlayerMP) player).markPlayerActive();
+		double range = ((IReachAttackSkill) skill).getAttackRange(player);
+		AxisAlignedBB bounds = player.getEntityBoundingBox().grow(range + MAX_DRIFT);
+		for (int i = 0; i < entityIds.length; ++i) {
+			if (isDuplicate(i)) {
+				continue;
+			}
+			Entity target = player.getEntityWorld().getEntityByID(entityIds[i]);
+			if (target == null || target == player || !bounds.intersects(target.getEntityBoundingBox())) {
+				continue;
+			}
+			if (EntityPositionHistory.canReach(player, target, range, this.worldTime)) {
+				player.attackTargetEntityWithCurrentItem(target);
+				int ticks = ((IReachAttackSkill) skill).getTicksSinceLastSwing(player);
+				if (ticks > 0) {
+					DirtyEntityAccessor.setTicksSinceLastSwing(player, ticks);
+				}
+			}
+		}
+	}
+
+	/** Returns true if the entity id at index i was already processed */
+	private boolean isDuplicate(int i) {
+		for (int j = 0; j < i; ++j) {
+			if (entityIds[j] == entityIds[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
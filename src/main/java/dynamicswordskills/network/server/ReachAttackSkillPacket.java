@@ -22,6 +22,7 @@ import java.io.IOException;
 import dynamicswordskills.api.SkillRegistry;
 import dynamicswordskills.entity.DSSPlayerInfo;
 import dynamicswordskills.entity.DirtyEntityAccessor;
+import dynamicswordskills.entity.EntityPositionHistory;
 import dynamicswordskills.network.AbstractMessage.AbstractServerMessage;
 import dynamicswordskills.skills.IReachAttackSkill;
 import dynamicswordskills.skills.SkillActive;
@@ -45,34 +46,49 @@ public class ReachAttackSkillPacket extends AbstractServerMessage<ReachAttackSki
 	/** Stores the entity's ID until it can be retrieved from the world during handling */
 	private int entityId;
 
+	/** The client's world time when the attack was made, used for lag-compensated validation */
+	private long worldTime;
+
+	/** Registered skill for the id received, resolved on the network thread */
+	private SkillBase registeredSkill;
+
 	public ReachAttackSkillPacket() {}
 
 	public ReachAttackSkillPacket(SkillBase skill, Entity target) {
 		this.skillId = skill.getId();
 		this.entityId = target.getEntityId();
+		this.worldTime = target.getEntityWorld().getTotalWorldTime();
 	}
 
 	@Override
 	protected void read(PacketBuffer buffer) throws IOException {
 		this.skillId = buffer.readByte();
 		this.entityId = buffer.readInt();
+		this.worldTime = buffer.readVarLong();
 	}
 
 	@Override
 	protected void write(PacketBuffer buffer) throws IOException {
 		buffer.writeByte(this.skillId);
 		buffer.writeInt(this.entityId);
+		buffer.writeVarLong(this.worldTime);
+	}
+
+	@Override
+	protected boolean isValid() {
+		registeredSkill = SkillRegistry.getSkillById(this.skillId);
+		return registeredSkill instanceof IReachAttackSkill && this.entityId >= 0;
 	}
 
 	@Override
 	protected void process(EntityPlayer player, Side side) {
 		DSSPlayerInfo skills = DSSPlayerInfo.get(player);
-		SkillActive skill = skills.getActiveSkill(SkillRegistry.getSkillById(this.skillId));
+		SkillActive skill = skills.getActiveSkill(registeredSkill);
 		Entity target = player.getEntityWorld().getEntityByID(this.entityId);
 		if (skill instanceof IReachAttackSkill && skill.isActive() && target != null && !player.isSpectator()) {
 			((EntityPlayerMP) player).markPlayerActive();
 			double range = ((IReachAttackSkill) skill).getAttackRange(player);
-			if (player.canEntityBeSeen(target) && player.getDistanceSq(target) <= (range * range)) {
+			if (EntityPositionHistory.canReach(player, target, range, this.worldTime)) {
 				player.attackTargetEntityWithCurrentItem(target);
 				int ticks = ((IReachAttackSkill) skill).getTicksSinceLastSwing(player);
 				if (ticks > 0) {
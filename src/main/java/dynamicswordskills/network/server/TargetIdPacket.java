@@ -28,6 +28,7 @@ import dynamicswordskills.entity.DSSPlayerInfo;
 import dynamicswordskills.network.AbstractMessage.AbstractServerMessage;
 import dynamicswordskills.skills.ILockOnTarget;
 import dynamicswordskills.skills.SkillBase;
+import dynamicswordskills.util.LockOnValidator;
 
 /**
  * 
@@ -78,6 +79,11 @@ public class TargetIdPacket extends AbstractServerMessage<TargetIdPacket>
 		}
 	}
 
+	@Override
+	protected boolean isValid() {
+		return isNull || entityId >= 0;
+	}
+
 	@Override
 	protected void process(EntityPlayer player, Side side) {
 		ILockOnTarget skill = DSSPlayerInfo.get(player).getTargetingSkill();
@@ -86,10 +92,13 @@ public class TargetIdPacket extends AbstractServerMessage<TargetIdPacket>
 				skill.setCurrentTarget(player, null);
 			} else {
 				targetEntity = player.getEntityWorld().getEntityByID(entityId);
-				skill.setCurrentTarget(player, targetEntity);
 				if (targetEntity == null) { // For some reason the target id is sometimes incorrect or out of date
 					DynamicSwordSkills.logger.warn("Invalid target; entity with id " + entityId + " is null");
+				} else if (!LockOnValidator.isValidTarget(player, skill, targetEntity)) {
+					DynamicSwordSkills.logger.warn(player.getName() + " attempted to lock on to invalid target " + targetEntity);
+					targetEntity = null;
 				}
+				skill.setCurrentTarget(player, targetEntity);
 			}
 		}
 	}
@@ -17,16 +17,14 @@
 
 package dynamicswordskills.ref;
 
-import java.util.Arrays;
-import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import javax.annotation.Nullable;
 
-import com.google.common.collect.Lists;
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 
@@ -38,9 +36,8 @@ import dynamicswordskills.client.gui.IGuiOverlay.VALIGN;
 import dynamicswordskills.entity.DSSPlayerInfo;
 import dynamicswordskills.network.client.SyncConfigPacket;
 import dynamicswordskills.skills.SkillBase;
-import dynamicswordskills.skills.Skills;
+import dynamicswordskills.util.WeaponCache;
 import net.minecraft.entity.player.EntityPlayer;
-import net.minecraft.util.ResourceLocation;
 import net.minecraftforge.common.config.Configuration;
 import net.minecraftforge.fml.common.event.FMLPreInitializationEvent;
 import swordskillsapi.api.item.WeaponRegistry;
@@ -49,74 +46,25 @@ public class Config
 {
 	/** Config ID for GuiConfig */
 	public static final String CONFIG_ID = "dss.config";
+
+	/** Weight for skills that do not have their own entry in the config */
+	static final int DEFAULT_SKILL_WEIGHT = 10;
+
 	public static Configuration config;
 	/** Flag set after {@link #postInit()} has been called */
 	private static boolean loaded;
-	/*================== CLIENT SIDE SETTINGS =====================*/
-	/* General client settings */
-	private static boolean enableAdditionalControls;
-	private static boolean enableAutoTarget;
-	private static boolean enableTargetPassive;
-	private static boolean enableTargetPlayer;
-	private static boolean allowVanillaControls;
-	private static boolean requireDoubleTap;
-	private static boolean requireLockOn;
-	/* Skill Manual GUI */
-	private static boolean clickedGroupFilterSound;
-	private static boolean clickedPageSound;
-	private static boolean clickedSkillSound;
-	private static boolean showBannedSkills;
-	private static boolean showPaginationLabels;
-	private static boolean showPlainTextIndex;
-	private static boolean showSkillGroupTooltips;
-	private static boolean showUnknownSkills;
-	private static Map<String, Set<String>> skillGroupLists = Maps.<String, Set<String>>newHashMap();
-	/* Combo HUD */
-	public static int comboHudDisplayTime;
-	private static int comboHudMaxHits;
-	public static HALIGN comboHudXAlign;
-	public static VALIGN comboHudYAlign;
-	public static int comboHudXOffset;
-	public static int comboHudYOffset;
-	/* Ending Blow HUD */
-	public static int endingBlowHudDisplayTime;
-	public static boolean endingBlowHudResult;
-	public static boolean endingBlowHudText;
-	public static HALIGN endingBlowHudXAlign;
-	public static VALIGN endingBlowHudYAlign;
-	public static int endingBlowHudXOffset;
-	public static int endingBlowHudYOffset;
-	/*================== WEAPON REGISTRY =====================*/
-	/** Items that are considered Swords for all intents and purposes */
-	private static String[] swords = new String[0];
-	/** Items that are considered Melee Weapons for all intents and purposes */
-	private static String[] weapons = new String[0];
-	/** Items that are forbidden from being considered as Swords */
-	private static String[] forbidden_swords = new String[0];
-	/** Items that are forbidden from being considered as Melee Weapons */
-	private static String[] forbidden_weapons = new String[0];
-	/*================== SERVER =====================*/
-	/* General server settings */
-	private static boolean backSliceDisarmorPlayer;
-	private static Set<String> bannedSkills = Sets.<String>newHashSet();
-	private static int baseSwingSpeed;
-	private static float parryDisarmTimingBonus;
-	private static float parryDisarmPenalty;
-	private static boolean requireFullHealth;
-	private static boolean risingCutHighJump;
-	private static boolean skillSwordCreative;
-	private static int skillSwordCreativeLevel;
-	private static boolean skillSwordRandom;
-	/* Loot / drops settings */
-	private static boolean bonusOrbEnable;
-	private static int orbLootWeight;
-	private static Map<Integer, Float> orbDropChance;
-	private static boolean orbDropEnable;
-	private static float orbDropGeneralChance;
-	private static float orbDropRandomChance;
-	private static boolean playerDropEnable;
-	private static int playerDropFactor;
-	private static int skillSwordLootWeight;
+
+	/** Client settings, replaced as a whole each time they are refreshed */
+	private static volatile ConfigSnapshot.Client client;
+
+	/** Server settings from the config file, replaced as a whole each time they are refreshed */
+	private static volatile ConfigSnapshot.Server localServer;
+
+	/** Server settings in effect: the {@link #localServer} settings, or those synchronized from a remote server */
+	private static volatile ConfigSnapshot.Server server;
+
+	/** Source of {@link ConfigSnapshot.Server#version} values, as server snapshots may be created on either thread */
+	private static final AtomicInteger serverVersions = new AtomicInteger();
 
 	public static void init(FMLPreInitializationEvent event) {
 		config = new Configuration(event.getSuggestedConfigurationFile());
@@ -126,98 +74,30 @@ public class Config
 	}
 
 	public static void refreshClient() {
-		/* General client settings */
-		enableAdditionalControls = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.enableAdditionalControls", false, "Enables additional WASD-equivalent keybindings for activating skills with e.g. a gamepad").setRequiresMcRestart(true).getBoolean(false);
-		enableAutoTarget = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.enableAutoTarget", true, "Enable auto-targeting when locked on and the current target becomes invalid").getBoolean(true);
-		enableTargetPassive = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.enableTargetPassive", true, "Allow targeting passive mobs with the lock-on mechanic").getBoolean(true);
-		enableTargetPlayer = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.enableTargetPlayer", true, "Allow targeting players with the lock-on mechanic").getBoolean(true);
-		allowVanillaControls = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.enableVanillaControls", true, "Allow vanilla movement keys to be used to activate skills; must be enabled if Additional Controls are disabled").getBoolean(true);
-		if (!enableAdditionalControls && !allowVanillaControls) {
-			DynamicSwordSkills.logger.warn("Both Vanilla and Additional Controls are disabled - Vanilla Controls were automatically enabled");
-			allowVanillaControls = true;
-		}
-		requireDoubleTap = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.requireDoubleTap", true, "Require double-tap for Dodge and Parry (always required when Vanilla Controls are enabled)").getBoolean(true);
-		requireLockOn = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.requireLockOn", false, "Require locking on to activate skills").getBoolean(false);
-		/* Skill Manual GUI */
-		clickedGroupFilterSound = config.get("skillGui", "dss.config.client.skillGui.clickedGroupFilterSound", true, "Play a sound when applying or removing a Skill Group filter").getBoolean(true);
-		clickedPageSound = config.get("skillGui", "dss.config.client.skillGui.clickedPageSound", true, "Play a sound when the page index changes").getBoolean(true);
-		clickedSkillSound = config.get("skillGui", "dss.config.client.skillGui.clickedSkillSound", true, "Play a sound when clicking on a Skill entry").getBoolean(true);
-		showBannedSkills = config.get("skillGui", "dss.config.client.skillGui.showBannedSkills", false, "Display entries in the Skill Manual for skills disabled by the server").getBoolean(false);
-		showPaginationLabels = config.get("skillGui", "dss.config.client.skillGui.showPaginationLabels", true, "Display text labels for 'Prev' and 'Next' page buttons").getBoolean(true);
-		showPlainTextIndex = config.get("skillGui", "dss.config.client.skillGui.showPlainTextIndex", true, "Display table of contents without the standard button texture").getBoolean(true);
-		showSkillGroupTooltips= config.get("skillGui", "dss.config.client.skillGui.showSkillGroupTooltips", true, "Display tooltips when hovering over the Table of Contents entries for Skill Groups that support them").getBoolean(true);
-		showUnknownSkills = config.get("skillGui", "dss.config.client.skillGui.showUnknownSkills", true, "Display entries in the Skill Manual for skills not yet learned").getBoolean(true);
-		if (Config.loaded) {
-			refreshSkillGroups();
-		}
-		/* Combo HUD */
-		String[] xalign = {"left", "center", "right"};
-		String[] yalign = {"top", "center", "bottom"};
-		comboHudDisplayTime = config.get("comboHud", "dss.config.client.comboHud.displayTime", 5000, "Number of milliseconds Combo HUD will remain on screen (0 to disable)", 0, 20000).getInt();
-		comboHudMaxHits = config.get("comboHud", "dss.config.client.comboHud.maxHits", 3, "Maximum number of recent hits to display [0-12]", 0, 12).getInt();
-		comboHudXAlign = HALIGN.fromString(config.get("comboHud", "dss.config.client.comboHud.xalign", "left", "Base HUD alignment on the X-Axis").setValidValues(xalign).getString());
-		comboHudXOffset = config.get("comboHud", "dss.config.client.comboHud.xoffset", 0, "Number of pixels to offset HUD alignment on the X-Axis").getInt();
-		comboHudYAlign = VALIGN.fromString(config.get("comboHud", "dss.config.client.comboHud.yalign", "top", "Base HUD alignment on the Y-Axis").setValidValues(yalign).getString());
-		comboHudYOffset = config.get("comboHud", "dss.config.client.comboHud.yoffset", 0, "Number of pixels to offset HUD alignment on the Y-Axis").getInt();
-		/* Ending Blow HUD */
-		endingBlowHudDisplayTime = config.get("endingBlowHud", "dss.config.client.endingBlowHud.displayTime", 1000, "Number of milliseconds Ending Blow HUD will remain on screen (0 to disable)", 0, 20000).getInt();
-		endingBlowHudResult = config.get("endingBlowHud", "dss.config.client.endingBlowHud.enableResultNotification", true, "Display success / failure notification when Ending Blow is used").getBoolean(true);
-		endingBlowHudText = config.get("endingBlowHud", "dss.config.client.endingBlowHud.enableText", false, "Display text instead of icons for Ending Blow notifications").getBoolean(false);
-		endingBlowHudXAlign = HALIGN.fromString(config.get("endingBlowHud", "dss.config.client.endingBlowHud.xalign", "center", "Base HUD alignment on the X-Axis").setValidValues(xalign).getString());
-		endingBlowHudXOffset = config.get("endingBlowHud", "dss.config.client.endingBlowHud.xoffset", 0, "Number of pixels to offset HUD alignment on the X-Axis").getInt();
-		endingBlowHudYAlign = VALIGN.fromString(config.get("endingBlowHud", "dss.config.client.endingBlowHud.yalign", "top", "Base HUD alignment on the Y-Axis").setValidValues(yalign).getString());
-		endingBlowHudYOffset = config.get("endingBlowHud", "dss.config.client.endingBlowHud.yoffset", 30, "Number of pixels to offset HUD alignment on the Y-Axis").getInt();
+		Map<String, Set<String>> skillGroupLists = (Config.loaded ? refreshSkillGroups() : ImmutableMap.<String, Set<String>>of());
+		client = new ConfigSnapshot.Client(config, skillGroupLists, (client == null ? 0 : client.version + 1));
 		if (config.hasChanged()) {
 			config.save();
 		}
 	}
 
+	/**
+	 * Reloads the server settings from the config file, replacing any settings synchronized from a remote server
+	 */
 	public static void refreshServer() {
-		/*================== WEAPON REGISTRY =====================*/
-		swords = config.get("Weapon Registry", "[Allowed Swords] Enter items as modid:registered_item_name, each on a separate line between the '<' and '>'", new String[0], "Register an item so that it is considered a SWORD by ZSS, i.e. it be used with skills that\nrequire swords, as well as other interactions that require swords, such as cutting grass.\nAll swords are also considered WEAPONS.").getStringList();
-		Arrays.sort(swords);
-		weapons = config.get("Weapon Registry", "[Allowed Weapons] Enter items as modid:registered_item_name, each on a separate line between the '<' and '>'", new String[0], "Register an item as a generic melee WEAPON. This means it can be used for all\nskills except those that specifically require a sword, as well as some other things.").getStringList();
-		Arrays.sort(weapons);
-		String[] forbidden = new String[0];
-		forbidden_swords = config.get("Weapon Registry", "[Forbidden Swords] Enter items as modid:registered_item_name, each on a separate line between the '<' and '>'", forbidden, "Forbid one or more items from acting as SWORDs, e.g. if a mod item extends ItemSword but is not really a sword").getStringList();
-		Arrays.sort(forbidden_swords);
-		forbidden_weapons = config.get("Weapon Registry", "[Forbidden Weapons] Enter items as modid:registered_item_name, each on a separate line between the '<' and '>'", new String[0], "Forbid one or more items from acting as WEAPONs, e.g. if an item is added by IMC and you don't want it to be usable with skills.\nNote that this will also prevent the item from behaving as a SWORD.").getStringList();
-		Arrays.sort(forbidden_weapons);
-		/*================== SERVER =====================*/
-		/* General server settings */
-		backSliceDisarmorPlayer = config.get("general", "dss.config.server.general.backSliceDisarmorPlayer", true, "Allow Back Slice to potentially knock off player armor").getBoolean(true);
-		String[] banned = config.get("general", "dss.config.server.general.bannedSkills", new String[0], "Enter the registry names for each skill disallowed on this server, each on a separate line between the '<' and '>'. Disabling a skill prevents players from using that skill, but does not change the player's known skills. Skill items previously generated as loot may be found but not used, and subsequent loot will not generate with that skill. Skill orb-like items may still drop from mobs / players unless disabled separately, but may not be used to learn the skill. This setting is save-game safe: skills may be disabled and re-enabled without affecting the saved game state.").setRequiresMcRestart(true).getStringList();
-		bannedSkills.clear();
-		bannedSkills.addAll(Lists.<String>newArrayList(banned));
-		baseSwingSpeed = config.get("general", "dss.config.server.general.baseSwingSpeed", 0, "Default swing speed (anti-left-click-spam): Sets base number of ticks between each left-click (0 to disable)[0-20]", 0, 20).setRequiresWorldRestart(true).getInt();
-		parryDisarmPenalty = 0.01F * (float)config.get("general", "dss.config.server.general.parryDisarmPenalty", 10, "[Parry] Penalty to disarm chance: percent per Parry level of the opponent, default negates defender's skill bonus so disarm is based entirely on timing [0-20]", 0, 20).getInt();
-		parryDisarmTimingBonus = 0.001F * (float)config.get("general", "dss.config.server.general.parryDisarmTimingBonus", 25, "[Parry] Bonus to disarm based on timing: tenths of a percent added per tick remaining on the timer [0-50]", 0, 50).getInt();
-		requireFullHealth = config.get("general", "dss.config.server.general.requireFullHealth", false, "True to require a completely full health bar to use Super Spin Attack and Sword Beam, or false to allow a small amount to be missing per level").setRequiresWorldRestart(true).getBoolean(false);
-		risingCutHighJump = config.get("general", "dss.config.server.general.risingCutHighJump", false, "Allow the player to activate Rising Cut without hitting a target, i.e. perform a High Jump").getBoolean(false);
-		skillSwordCreative = config.get("general", "dss.config.server.general.skillSwordCreative", true, "Enable Skill Swords in the Creative Tab (iron only, as examples)").setRequiresMcRestart(true).getBoolean(true);
-		skillSwordCreativeLevel = config.get("general", "dss.config.server.general.skillSwordCreativeLevel", 3, "Skill level provided by the Creative Tab Skill Swords [1-5]", 1, 5).setRequiresMcRestart(true).getInt();
-		skillSwordRandom = config.get("general", "dss.config.server.general.skillSwordRandom", true, "Enable randomized Skill Swords to add to loot or drop lists").setRequiresMcRestart(true).getBoolean(true);
-		/* Loot / drops settings */
-		bonusOrbEnable = config.get("drops", "dss.config.server.drops.bonusOrbEnable", false, "Whether all players should start with a Basic Skill orb").getBoolean(false);
-		orbLootWeight = config.get("drops", "dss.config.server.drops.orbLootWeight", 1, "Weight for skill orbs when added to vanilla chest loot (0 to disable) [0-100]", 0, 100).setRequiresMcRestart(true).getInt();
-		orbDropEnable = config.get("drops", "dss.config.server.drops.orbDropEnable", true, "Enable skill orbs to drop as loot from mobs (may still be disabled individually)").getBoolean(true);
-		orbDropGeneralChance = 0.01F * (float)config.get("drops", "dss.config.server.drops.orbDropGeneralChance", 1, "Chance (as a percent) for generic mobs to drop a random skill orb [0-100]", 0, 100).getInt();
-		orbDropRandomChance = 0.01F * (float)config.get("drops", "dss.config.server.drops.orbDropRandomChance", 10, "Chance (as a percent) for mobs with a specific skill orb drop to drop a random one instead [0-100]", 0, 100).getInt();
-		orbDropChance = new HashMap<Integer, Float>(Skills.getSkillIdMap().size());
-		for (Entry<Integer, ResourceLocation> entry : Skills.getSkillIdMap().entrySet()) {
-			SkillBase skill = SkillRegistry.get(entry.getValue());
-			int i = config.get("drops", "dss.config.server.drops.orbDropChance." + skill.getRegistryName().getPath(), 5, "Chance (in tenths of a percent) for Skill Orb of " + skill.getDisplayName() + " to drop when available (0 to disable) [0-1000]", 0, 1000).getInt();
-			orbDropChance.put((int)skill.getId(), (0.001F * (float) i));
-		}
-		playerDropEnable = config.get("drops", "dss.config.server.drops.playerDropEnable", true, "Enable skill orbs to drop from players when killed in PvP").getBoolean(true);
-		playerDropFactor = config.get("drops", "dss.config.server.drops.playerDropFactor", 5, "Factor by which to multiply chance for skill orb to drop by slain players [1-20]", 1, 20).getInt();
-		skillSwordLootWeight = config.get("drops", "dss.config.server.drops.skillSwordLootWeight", 1, "Weight for random skill swords when added to vanilla chest loot (0 to disable) [0-100]", 0, 100).setRequiresMcRestart(true).getInt();
+		localServer = new ConfigSnapshot.Server(config, serverVersions.incrementAndGet());
+		server = localServer;
 		if (config.hasChanged()) {
 			config.save();
 		}
 	}
 
-	private static void refreshSkillGroups() {
+	/**
+	 * Registers the configured skill groups
+	 * @return Skill registry names for each group, keyed by group label
+	 */
+	private static Map<String, Set<String>> refreshSkillGroups() {
+		Map<String, Set<String>> skillGroupLists = Maps.<String, Set<String>>newHashMap();
 		String[] groups = SkillGroup.getAll().stream()
 				.map(g -> g.label)
 				.collect(Collectors.toList())
@@ -240,59 +120,84 @@ public class Config
 			Set<String> set = Sets.newHashSet(groupSkills);
 			skillGroupLists.put(group.label, set);
 		}
+		return skillGroupLists;
 	}
 
 	public static void postInit() {
-		WeaponRegistry.INSTANCE.registerItems(swords, "Config", true);
-		WeaponRegistry.INSTANCE.registerItems(weapons, "Config", false);
-		WeaponRegistry.INSTANCE.forbidItems(forbidden_swords, "Config", true);
-		WeaponRegistry.INSTANCE.forbidItems(forbidden_weapons, "Config", false);
-		refreshSkillGroups();
+		// Rebuild the server settings now that all skills, including those added by other mods, are registered
+		refreshServer();
+		registerWeapons();
 		Config.loaded = true;
-		if (config.hasChanged()) {
-			config.save();
-		}
+		refreshClient();
+	}
+
+	/**
+	 * Adds the configured items to the weapon registry; items removed from the config remain registered until restart
+	 */
+	public static void registerWeapons() {
+		ConfigSnapshot.Server settings = localServer;
+		WeaponRegistry.INSTANCE.registerItems(settings.swords.toArray(new String[0]), "Config", true);
+		WeaponRegistry.INSTANCE.registerItems(settings.weapons.toArray(new String[0]), "Config", false);
+		WeaponRegistry.INSTANCE.forbidItems(settings.forbiddenSwords.toArray(new String[0]), "Config", true);
+		WeaponRegistry.INSTANCE.forbidItems(settings.forbiddenWeapons.toArray(new String[0]), "Config", false);
+		WeaponCache.invalidate();
 	}
 	/*================== CLIENT SIDE SETTINGS =====================*/
-	public static int getHitsToDisplay() { return comboHudMaxHits; }
-	public static boolean allowVanillaControls() { return allowVanillaControls; }
-	public static boolean enableAdditionalControls() { return enableAdditionalControls; }
-	public static boolean requiresDoubleTap() { return requireDoubleTap; }
-	public static boolean requiresLockOn() { return requireLockOn; }
-	public static boolean autoTargetEnabled() { return enableAutoTarget; }
-	public static boolean canTargetPassiveMobs() { return enableTargetPassive; }
-	public static boolean canTargetPlayers() { return enableTargetPlayer; }
+	/** Returns a value that changes each time the client settings are refreshed, e.g. from the config GUI */
+	public static int getClientVersion() { return client.version; }
+	/** Returns a value that changes each time the server settings are refreshed or synchronized from the server */
+	public static int getServerVersion() { return server.version; }
+	public static int getHitsToDisplay() { return client.comboHudMaxHits; }
+	public static boolean allowVanillaControls() { return client.allowVanillaControls; }
+	public static boolean enableAdditionalControls() { return client.enableAdditionalControls; }
+	public static boolean requiresDoubleTap() { return client.requireDoubleTap; }
+	public static boolean requiresLockOn() { return client.requireLockOn; }
+	public static boolean autoTargetEnabled() { return client.enableAutoTarget; }
+	public static boolean canTargetPassiveMobs() { return client.enableTargetPassive; }
+	public static boolean canTargetPlayers() { return client.enableTargetPlayer; }
 	/* Skill GUI */
-	public static boolean clickedGroupFilterSound() { return clickedGroupFilterSound; }
-	public static boolean clickedPageSound() { return clickedPageSound; }
-	public static boolean clickedSkillSound() { return clickedSkillSound; }
-	public static boolean showBannedSkills() { return showBannedSkills; }
-	public static boolean showPaginationLabels() { return showPaginationLabels; }
-	public static boolean showPlainTextIndex() { return showPlainTextIndex; }
-	public static boolean showSkillGroupTooltips() { return showSkillGroupTooltips; }
-	public static boolean showUnknownSkills() { return showUnknownSkills; }
+	public static boolean clickedGroupFilterSound() { return client.clickedGroupFilterSound; }
+	public static boolean clickedPageSound() { return client.clickedPageSound; }
+	public static boolean clickedSkillSound() { return client.clickedSkillSound; }
+	public static boolean showBannedSkills() { return client.showBannedSkills; }
+	public static boolean showPaginationLabels() { return client.showPaginationLabels; }
+	public static boolean showPlainTextIndex() { return client.showPlainTextIndex; }
+	public static boolean showSkillGroupTooltips() { return client.showSkillGroupTooltips; }
+	public static boolean showUnknownSkills() { return client.showUnknownSkills; }
 	public static boolean isSkillInGroup(SkillBase skill, SkillGroup group) {
 		if (skill.getRegistryName() == null) { return false; }
-		Set<String> set = skillGroupLists.get(group.label);
-		String name = skill.getRegistryName().toString();
-		String alt = skill.getRegistryName().getNamespace() + ":*";
-		return set != null && (set.contains(name) || set.contains(alt));
+		return client.isSkillInGroup(skill, group.label);
 	}
+	/* Combo HUD */
+	public static int getComboHudDisplayTime() { return client.comboHudDisplayTime; }
+	public static HALIGN getComboHudXAlign() { return client.comboHudXAlign; }
+	public static VALIGN getComboHudYAlign() { return client.comboHudYAlign; }
+	public static int getComboHudXOffset() { return client.comboHudXOffset; }
+	public static int getComboHudYOffset() { return client.comboHudYOffset; }
+	/* Ending Blow HUD */
+	public static int getEndingBlowHudDisplayTime() { return client.endingBlowHudDisplayTime; }
+	public static boolean showEndingBlowHudResult() { return client.endingBlowHudResult; }
+	public static boolean showEndingBlowHudText() { return client.endingBlowHudText; }
+	public static HALIGN getEndingBlowHudXAlign() { return client.endingBlowHudXAlign; }
+	public static VALIGN getEndingBlowHudYAlign() { return client.endingBlowHudYAlign; }
+	public static int getEndingBlowHudXOffset() { return client.endingBlowHudXOffset; }
+	public static int getEndingBlowHudYOffset() { return client.endingBlowHudYOffset; }
 	/*================== SKILLS =====================*/
-	public static boolean giveBonusOrb() { return bonusOrbEnable; }
-	public static int getOrbLootWeight() { return orbLootWeight; }
-	public static int getBaseSwingSpeed() { return baseSwingSpeed; }
-	public static boolean areRandomSwordsEnabled() { return skillSwordRandom; }
-	public static boolean areCreativeSwordsEnabled() { return skillSwordCreative; }
-	public static boolean canDisarmorPlayers() { return backSliceDisarmorPlayer; }
-	public static float getDisarmPenalty() { return parryDisarmPenalty; }
-	public static float getDisarmTimingBonus() { return parryDisarmTimingBonus; }
-	public static boolean canHighJump() { return risingCutHighJump; }
-	public static int getSkillSwordLevel() { return skillSwordCreativeLevel; }
-	public static int getSkillSwordLootWeight() { return skillSwordLootWeight; }
+	public static boolean giveBonusOrb() { return server.bonusOrbEnable; }
+	public static int getOrbLootWeight() { return server.orbLootWeight; }
+	public static int getBaseSwingSpeed() { return server.baseSwingSpeed; }
+	public static boolean areRandomSwordsEnabled() { return server.skillSwordRandom; }
+	public static boolean areCreativeSwordsEnabled() { return server.skillSwordCreative; }
+	public static boolean canDisarmorPlayers() { return server.backSliceDisarmorPlayer; }
+	public static float getDisarmPenalty() { return server.parryDisarmPenalty; }
+	public static float getDisarmTimingBonus() { return server.parryDisarmTimingBonus; }
+	public static boolean canHighJump() { return server.risingCutHighJump; }
+	public static int getSkillSwordLevel() { return server.skillSwordCreativeLevel; }
+	public static int getSkillSwordLootWeight() { return server.skillSwordLootWeight; }
+	public static int getTickBudget() { return server.tickBudget; }
 	/** Returns amount of health that may be missing and still be able to activate certain skills (e.g. Sword Beam) */
 	public static float getHealthAllowance(int level) {
-		return (requireFullHealth ? 0.0F : (0.6F * level));
+		return (server.requireFullHealth ? 0.0F : (0.6F * level));
 	}
 	/** @return true if the skill has been disabled either by the server or client settings, or if it is null */
 	public static final boolean isSkillDisabled(EntityPlayer player, @Nullable SkillBase skill) {
@@ -300,18 +205,40 @@ public class Config
 	}
 	/** @return true if the skill is allowed by the server, i.e. not banned */
 	public static final boolean isSkillAllowed(@Nullable SkillBase skill) {
-		return skill != null && skill.getRegistryName() != null && !bannedSkills.contains(skill.getRegistryName().toString());
+		return server.isSkillAllowed(skill);
 	}
 	/*================== DROPS =====================*/
-	public static boolean arePlayerDropsEnabled() { return playerDropEnable; }
-	public static float getPlayerDropFactor() { return playerDropFactor; }
-	public static boolean areOrbDropsEnabled() { return orbDropEnable; }
-	public static float getChanceForRandomDrop() { return orbDropRandomChance; }
-	public static float getRandomMobDropChance() { return orbDropGeneralChance; }
+	public static boolean arePlayerDropsEnabled() { return server.playerDropEnable; }
+	public static float getPlayerDropFactor() { return server.playerDropFactor; }
+	public static boolean areOrbDropsEnabled() { return server.orbDropEnable; }
+	public static float getChanceForRandomDrop() { return server.orbDropRandomChance; }
+	public static float getRandomMobDropChance() { return server.orbDropGeneralChance; }
 	public static float getDropChance(int orbID) {
-		return (orbDropChance.containsKey(orbID) ? orbDropChance.get(orbID) : 0.0F);
+		return server.getDropChance(orbID);
+	}
+	/** @return Relative weight for the skill when selecting a random skill, or 0 if the skill is not allowed */
+	public static int getSkillWeight(SkillBase skill) {
+		ConfigSnapshot.Server settings = server;
+		return (settings.isSkillAllowed(skill) ? settings.getSkillWeight(skill) : 0);
 	}
 
+	/*================== RATE LIMITS =====================*/
+	public static boolean isRateLimitEnabled() { return server.rateLimitEnable; }
+	public static int getRateLimitBurst() { return server.rateLimitBurst; }
+	/** @return Maximum messages per second each player may send of the given type, or 0 for no limit */
+	public static int getRateLimit(Class<?> type) {
+		Integer i = server.rateLimits.get(type);
+		return (i == null ? 0 : i);
+	}
+
+	/*================== COMBAT LOG =====================*/
+	public static boolean isCombatLogEnabled() { return server.combatLogEnable; }
+	/** @return Number of events the combat log may hold while waiting to be written; always a power of two */
+	public static int getCombatLogBufferSize() { return server.combatLogBufferSize; }
+	/** @return Size in bytes at which a new combat log file is started */
+	public static long getCombatLogFileSize() { return 1024L * server.combatLogFileSize; }
+	public static int getCombatLogFiles() { return server.combatLogFiles; }
+
 	/**
 	 * Updates client settings from server packet
 	 */
@@ -320,14 +247,14 @@ public class Config
 			DynamicSwordSkills.logger.error("Invalid SyncConfigPacket attempting to process!");
 			return;
 		}
-		Config.baseSwingSpeed = msg.baseSwingSpeed;
-		Config.requireFullHealth = msg.requireFullHealth;
-		Config.bannedSkills.clear();
-		for (Byte b : msg.disabledIds) {
-			SkillBase skill = SkillRegistry.getSkillById(b);
-			if (skill != null && skill.getRegistryName() != null) {
-				Config.bannedSkills.add(skill.getRegistryName().toString());
-			}
-		}
+		server = new ConfigSnapshot.Server(localServer, msg, serverVersions.incrementAndGet());
+	}
+
+	/**
+	 * Rebuilds the server settings from the config file when a server starts, replacing any settings from a
+	 * previous remote server and resolving the skill ids in effect for the world being loaded
+	 */
+	public static void useLocalServerSettings() {
+		refreshServer();
 	}
 }
@@ -0,0 +1,372 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.ref;
+
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Ordering;
+
+import dynamicswordskills.DynamicSwordSkills;
+import dynamicswordskills.api.SkillRegistry;
+import dynamicswordskills.client.gui.IGuiOverlay.HALIGN;
+import dynamicswordskills.client.gui.IGuiOverlay.VALIGN;
+import dynamicswordskills.network.AbstractMessage;
+import dynamicswordskills.network.RateLimiter;
+import dynamicswordskills.network.client.SyncConfigPacket;
+import dynamicswordskills.skills.SkillBase;
+import dynamicswordskills.skills.Skills;
+import net.minecraft.util.ResourceLocation;
+import net.minecraftforge.common.config.Configuration;
+
+/**
+ *
+ * Immutable copies of the {@link Config} settings, each published as a whole through a single volatile
+ * field so that threads reading the settings never see a partially refreshed or synchronized state.
+ *
+ * Lookups used in hot paths, such as whether a skill is banned, are precomputed when a snapshot is created.
+ *
+ */
+public final class ConfigSnapshot
+{
+	private ConfigSnapshot() {}
+
+	/**
+	 *
+	 * Settings decided by the server: read from the config file on the server,
+	 * with some values replaced by those sent in the {@link SyncConfigPacket} on the client.
+	 *
+	 */
+	static final class Server
+	{
+		/** Incremented for each new snapshot */
+		final int version;
+		/*================== WEAPON REGISTRY =====================*/
+		final ImmutableList<String> swords;
+		final ImmutableList<String> weapons;
+		final ImmutableList<String> forbiddenSwords;
+		final ImmutableList<String> forbiddenWeapons;
+		/*================== SERVER =====================*/
+		/* General server settings */
+		final boolean backSliceDisarmorPlayer;
+		/** Registry names of banned skills, including any that are not registered */
+		final ImmutableSet<String> bannedSkills;
+		/** Ids of registered skills in {@link #bannedSkills}; never modified after construction */
+		private final BitSet bannedIds;
+		/** Skills with ids from this one up were registered after this snapshot was taken, so are checked by name */
+		private final int unresolvedId;
+		final int baseSwingSpeed;
+		final float parryDisarmTimingBonus;
+		final float parryDisarmPenalty;
+		final boolean requireFullHealth;
+		final boolean risingCutHighJump;
+		final boolean skillSwordCreative;
+		final int skillSwordCreativeLevel;
+		final boolean skillSwordRandom;
+		final int tickBudget;
+		/* Loot / drops settings */
+		final boolean bonusOrbEnable;
+		final int orbLootWeight;
+		/** Drop chance for each skill orb, indexed by skill id */
+		private final float[] orbDropChance;
+		/** Random selection weight for each skill, indexed by skill id */
+		private final int[] skillWeights;
+		final boolean orbDropEnable;
+		final float orbDropGeneralChance;
+		final float orbDropRandomChance;
+		final boolean playerDropEnable;
+		final int playerDropFactor;
+		final int skillSwordLootWeight;
+		/*================== RATE LIMITS =====================*/
+		final boolean rateLimitEnable;
+		final int rateLimitBurst;
+		final ImmutableMap<Class<?>, Integer> rateLimits;
+		/*================== COMBAT LOG =====================*/
+		final boolean combatLogEnable;
+		final int combatLogBufferSize;
+		final int combatLogFileSize;
+		final int combatLogFiles;
+
+		/**
+		 * Reads the server settings from the config
+		 */
+		Server(Configuration config, int version) {
+			this.version = version;
+			/*================== WEAPON REGISTRY =====================*/
+			this.swords = sorted(config.get("Weapon Registry", "[Allowed Swords] Enter items as modid:registered_item_name, each on a separate line between the '<' and '>'", new String[0], "Register an item so that it is considered a SWORD by ZSS, i.e. it be used with skills that\nrequire swords, as well as other interactions that require swords, such as cutting grass.\nAll swords are also considered WEAPONS.").getStringList());
+			this.weapons = sorted(config.get("Weapon Registry", "[Allowed Weapons] Enter items as modid:registered_item_name, each on a separate line between the '<' and '>'", new String[0], "Register an item as a generic melee WEAPON. This means it can be used for all\nskills except those that specifically require a sword, as well as some other things.").getStringList());
+			this.forbiddenSwords = sorted(config.get("Weapon Registry", "[Forbidden Swords] Enter items as modid:registered_item_name, each on a separate line between the '<' and '>'", new String[0], "Forbid one or more items from acting as SWORDs, e.g. if a mod item extends ItemSword but is not really a sword").getStringList());
+			this.forbiddenWeapons = sorted(config.get("Weapon Registry", "[Forbidden Weapons] Enter items as modid:registered_item_name, each on a separate line between the '<' and '>'", new String[0], "Forbid one or more items from acting as WEAPONs, e.g. if an item is added by IMC and you don't want it to be usable with skills.\nNote that this will also prevent the item from behaving as a SWORD.").getStringList());
+			/*================== SERVER =====================*/
+			/* General server settings */
+			this.backSliceDisarmorPlayer = config.get("general", "dss.config.server.general.backSliceDisarmorPlayer", true, "Allow Back Slice to potentially knock off player armor").getBoolean(true);
+			this.bannedSkills = ImmutableSet.copyOf(config.get("general", "dss.config.server.general.bannedSkills", new String[0], "Enter the registry names for each skill disallowed on this server, each on a separate line between the '<' and '>'. Disabling a skill prevents players from using that skill, but does not change the player's known skills. Skill items previously generated as loot may be found but not used, and subsequent loot will not generate with that skill. Skill orb-like items may still drop from mobs / players unless disabled separately, but may not be used to learn the skill. This setting is save-game safe: skills may be disabled and re-enabled without affecting the saved game state.").getStringList());
+			this.bannedIds = getSkillIds(this.bannedSkills);
+			this.unresolvedId = getIdCount();
+			this.baseSwingSpeed = config.get("general", "dss.config.server.general.baseSwingSpeed", 0, "Default swing speed (anti-left-click-spam): Sets base number of ticks between each left-click (0 to disable)[0-20]", 0, 20).getInt();
+			this.parryDisarmPenalty = 0.01F * (float)config.get("general", "dss.config.server.general.parryDisarmPenalty", 10, "[Parry] Penalty to disarm chance: percent per Parry level of the opponent, default negates defender's skill bonus so disarm is based entirely on timing [0-20]", 0, 20).getInt();
+			this.parryDisarmTimingBonus = 0.001F * (float)config.get("general", "dss.config.server.general.parryDisarmTimingBonus", 25, "[Parry] Bonus to disarm based on timing: tenths of a percent added per tick remaining on the timer [0-50]", 0, 50).getInt();
+			this.requireFullHealth = config.get("general", "dss.config.server.general.requireFullHealth", false, "True to require a completely full health bar to use Super Spin Attack and Sword Beam, or false to allow a small amount to be missing per level").getBoolean(false);
+			this.risingCutHighJump = config.get("general", "dss.config.server.general.risingCutHighJump", false, "Allow the player to activate Rising Cut without hitting a target, i.e. perform a High Jump").getBoolean(false);
+			this.skillSwordCreative = config.get("general", "dss.config.server.general.skillSwordCreative", true, "Enable Skill Swords in the Creative Tab (iron only, as examples)").setRequiresMcRestart(true).getBoolean(true);
+			this.skillSwordCreativeLevel = config.get("general", "dss.config.server.general.skillSwordCreativeLevel", 3, "Skill level provided by the Creative Tab Skill Swords [1-5]", 1, 5).setRequiresMcRestart(true).getInt();
+			this.skillSwordRandom = config.get("general", "dss.config.server.general.skillSwordRandom", true, "Enable randomized Skill Swords to add to loot or drop lists").setRequiresMcRestart(true).getBoolean(true);
+			this.tickBudget = config.get("general", "dss.config.server.general.tickBudget", 1000, "Microseconds per tick allowed for deferrable work such as Ending Blow experience orbs and data synchronization; work beyond this is spread over the following ticks (0 to run all work immediately) [0-50000]", 0, 50000).getInt();
+			/* Loot / drops settings */
+			this.bonusOrbEnable = config.get("drops", "dss.config.server.drops.bonusOrbEnable", false, "Whether all players should start with a Basic Skill orb").getBoolean(false);
+			this.orbLootWeight = config.get("drops", "dss.config.server.drops.orbLootWeight", 1, "Weight for skill orbs when added to vanilla chest loot (0 to disable) [0-100]", 0, 100).setRequiresMcRestart(true).getInt();
+			this.orbDropEnable = config.get("drops", "dss.config.server.drops.orbDropEnable", true, "Enable skill orbs to drop as loot from mobs (may still be disabled individually)").getBoolean(true);
+			this.orbDropGeneralChance = 0.01F * (float)config.get("drops", "dss.config.server.drops.orbDropGeneralChance", 1, "Chance (as a percent) for generic mobs to drop a random skill orb [0-100]", 0, 100).getInt();
+			this.orbDropRandomChance = 0.01F * (float)config.get("drops", "dss.config.server.drops.orbDropRandomChance", 10, "Chance (as a percent) for mobs with a specific skill orb drop to drop a random one instead [0-100]", 0, 100).getInt();
+			int size = this.unresolvedId;
+			this.orbDropChance = new float[size];
+			this.skillWeights = new int[size];
+			for (Entry<Integer, ResourceLocation> entry : Skills.getSkillIdMap().entrySet()) {
+				SkillBase skill = SkillRegistry.get(entry.getValue());
+				if (skill.getId() < 0) {
+					continue;
+				}
+				int i = config.get("drops", "dss.config.server.drops.orbDropChance." + skill.getRegistryName().getPath(), 5, "Chance (in tenths of a percent) for Skill Orb of " + skill.getDisplayName() + " to drop when available (0 to disable) [0-1000]", 0, 1000).getInt();
+				this.orbDropChance[skill.getId()] = 0.001F * (float) i;
+				this.skillWeights[skill.getId()] = config.get("drops", "dss.config.server.drops.skillWeight." + skill.getRegistryName().getPath(), Config.DEFAULT_SKILL_WEIGHT, "Relative chance for " + skill.getDisplayName() + " to be chosen for random skill orbs, skill swords, and loot (0 to exclude) [0-100]", 0, 100).getInt();
+			}
+			this.playerDropEnable = config.get("drops", "dss.config.server.drops.playerDropEnable", true, "Enable skill orbs to drop from players when killed in PvP").getBoolean(true);
+			this.playerDropFactor = config.get("drops", "dss.config.server.drops.playerDropFactor", 5, "Factor by which to multiply chance for skill orb to drop by slain players [1-20]", 1, 20).getInt();
+			this.skillSwordLootWeight = config.get("drops", "dss.config.server.drops.skillSwordLootWeight", 1, "Weight for random skill swords when added to vanilla chest loot (0 to disable) [0-100]", 0, 100).setRequiresMcRestart(true).getInt();
+			/*================== RATE LIMITS =====================*/
+			this.rateLimitEnable = config.get("rateLimits", "dss.config.server.rateLimits.enable", true, "Limit how often each player may send each type of message to the server; excess messages are discarded").getBoolean(true);
+			this.rateLimitBurst = config.get("rateLimits", "dss.config.server.rateLimits.burst", 2, "Number of seconds' worth of messages a player may send at once before being limited [1-10]", 1, 10).getInt();
+			ImmutableMap.Builder<Class<?>, Integer> limits = ImmutableMap.<Class<?>, Integer>builder();
+			for (Entry<Class<? extends AbstractMessage<?>>, Integer> entry : RateLimiter.getDefaultLimits().entrySet()) {
+				String name = entry.getKey().getSimpleName();
+				limits.put(entry.getKey(), config.get("rateLimits", "dss.config.server.rateLimits." + name, entry.getValue(), "Maximum number of " + name + " messages each player may send per second (0 for no limit) [0-1000]", 0, 1000).getInt());
+			}
+			this.rateLimits = limits.build();
+			/*================== COMBAT LOG =====================*/
+			this.combatLogEnable = config.get("combatLog", "dss.config.server.combatLog.enable", false, "Record skill activations, hits and parries to CSV files in the server's logs directory for balancing analysis").getBoolean(false);
+			this.combatLogBufferSize = Integer.highestOneBit(config.get("combatLog", "dss.config.server.combatLog.bufferSize", 8192, "Number of events held in memory while waiting to be written, rounded down to a power of two; events beyond this are dropped and counted [256-262144]", 256, 262144).getInt());
+			this.combatLogFileSize = config.get("combatLog", "dss.config.server.combatLog.fileSize", 4096, "Size in kilobytes at which a new combat log file is started [64-1048576]", 64, 1048576).getInt();
+			this.combatLogFiles = config.get("combatLog", "dss.config.server.combatLog.files", 10, "Number of combat log files to keep; the oldest are deleted when a new file is started [1-1000]", 1, 1000).getInt();
+		}
+
+		/**
+		 * Copies the base settings, replacing those synchronized from the server
+		 */
+		Server(Server base, SyncConfigPacket msg, int version) {
+			this.version = version;
+			this.swords = base.swords;
+			this.weapons = base.weapons;
+			this.forbiddenSwords = base.forbiddenSwords;
+			this.forbiddenWeapons = base.forbiddenWeapons;
+			this.backSliceDisarmorPlayer = base.backSliceDisarmorPlayer;
+			ImmutableSet.Builder<String> banned = ImmutableSet.<String>builder();
+			for (Byte b : msg.disabledIds) {
+				SkillBase skill = SkillRegistry.getSkillById(b);
+				if (skill != null && skill.getRegistryName() != null) {
+					banned.add(skill.getRegistryName().toString());
+				}
+			}
+			this.bannedSkills = banned.build();
+			this.bannedIds = getSkillIds(this.bannedSkills);
+			this.unresolvedId = getIdCount();
+			this.baseSwingSpeed = msg.baseSwingSpeed;
+			this.parryDisarmTimingBonus = base.parryDisarmTimingBonus;
+			this.parryDisarmPenalty = base.parryDisarmPenalty;
+			this.requireFullHealth = msg.requireFullHealth;
+			this.risingCutHighJump = base.risingCutHighJump;
+			this.skillSwordCreative = base.skillSwordCreative;
+			this.skillSwordCreativeLevel = base.skillSwordCreativeLevel;
+			this.skillSwordRandom = base.skillSwordRandom;
+			this.tickBudget = base.tickBudget;
+			this.bonusOrbEnable = base.bonusOrbEnable;
+			this.orbLootWeight = base.orbLootWeight;
+			this.orbDropChance = base.orbDropChance;
+			this.skillWeights = base.skillWeights;
+			this.orbDropEnable = base.orbDropEnable;
+			this.orbDropGeneralChance = base.orbDropGeneralChance;
+			this.orbDropRandomChance = base.orbDropRandomChance;
+			this.playerDropEnable = base.playerDropEnable;
+			this.playerDropFactor = base.playerDropFactor;
+			this.skillSwordLootWeight = base.skillSwordLootWeight;
+			this.rateLimitEnable = base.rateLimitEnable;
+			this.rateLimitBurst = base.rateLimitBurst;
+			this.rateLimits = base.rateLimits;
+			this.combatLogEnable = base.combatLogEnable;
+			this.combatLogBufferSize = base.combatLogBufferSize;
+			this.combatLogFileSize = base.combatLogFileSize;
+			this.combatLogFiles = base.combatLogFiles;
+		}
+
+		boolean isSkillAllowed(@Nullable SkillBase skill) {
+			if (skill == null || skill.getRegistryName() == null) {
+				return false;
+			}
+			int id = skill.getId();
+			if (id < 0 || id >= this.unresolvedId) {
+				return !this.bannedSkills.contains(skill.getRegistryName().toString());
+			}
+			return !this.bannedIds.get(id);
+		}
+
+		float getDropChance(int orbID) {
+			return (orbID >= 0 && orbID < this.orbDropChance.length ? this.orbDropChance[orbID] : 0.0F);
+		}
+
+		int getSkillWeight(SkillBase skill) {
+			int id = skill.getId();
+			return (id >= 0 && id < this.skillWeights.length ? this.skillWeights[id] : Config.DEFAULT_SKILL_WEIGHT);
+		}
+
+		private static ImmutableList<String> sorted(String[] values) {
+			return Ordering.natural().immutableSortedCopy(Arrays.asList(values));
+		}
+
+		/**
+		 * Returns one more than the highest id of any currently registered skill
+		 */
+		private static int getIdCount() {
+			return SkillRegistry.getValues().stream().mapToInt(SkillBase::getId).max().orElse(-1) + 1;
+		}
+
+		private static BitSet getSkillIds(Set<String> names) {
+			BitSet ids = new BitSet();
+			for (SkillBase skill : SkillRegistry.getValues()) {
+				if (skill.getId() >= 0 && skill.getRegistryName() != null && names.contains(skill.getRegistryName().toString())) {
+					ids.set(skill.getId());
+				}
+			}
+			return ids;
+		}
+	}
+
+	/**
+	 *
+	 * Settings that only affect the local player's controls and display
+	 *
+	 */
+	static final class Client
+	{
+		/** Incremented for each new snapshot */
+		final int version;
+		/* General client settings */
+		final boolean enableAdditionalControls;
+		final boolean enableAutoTarget;
+		final boolean enableTargetPassive;
+		final boolean enableTargetPlayer;
+		final boolean allowVanillaControls;
+		final boolean requireDoubleTap;
+		final boolean requireLockOn;
+		/* Skill Manual GUI */
+		final boolean clickedGroupFilterSound;
+		final boolean clickedPageSound;
+		final boolean clickedSkillSound;
+		final boolean showBannedSkills;
+		final boolean showPaginationLabels;
+		final boolean showPlainTextIndex;
+		final boolean showSkillGroupTooltips;
+		final boolean showUnknownSkills;
+		/** Registry names of the skills in each skill group, keyed by group label, with wildcards already expanded */
+		private final ImmutableMap<String, ImmutableSet<ResourceLocation>> skillGroupMembers;
+		/* Combo HUD */
+		final int comboHudDisplayTime;
+		final int comboHudMaxHits;
+		final HALIGN comboHudXAlign;
+		final VALIGN comboHudYAlign;
+		final int comboHudXOffset;
+		final int comboHudYOffset;
+		/* Ending Blow HUD */
+		final int endingBlowHudDisplayTime;
+		final boolean endingBlowHudResult;
+		final boolean endingBlowHudText;
+		final HALIGN endingBlowHudXAlign;
+		final VALIGN endingBlowHudYAlign;
+		final int endingBlowHudXOffset;
+		final int endingBlowHudYOffset;
+
+		/**
+		 * Reads the client settings from the config
+		 * @param skillGroupLists Skill registry names, possibly including "modid:*" wildcards, keyed by skill group label
+		 */
+		Client(Configuration config, Map<String, Set<String>> skillGroupLists, int version) {
+			this.version = version;
+			/* General client settings */
+			this.enableAdditionalControls = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.enableAdditionalControls", false, "Enables additional WASD-equivalent keybindings for activating skills with e.g. a gamepad").setRequiresMcRestart(true).getBoolean(false);
+			this.enableAutoTarget = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.enableAutoTarget", true, "Enable auto-targeting when locked on and the current target becomes invalid").getBoolean(true);
+			this.enableTargetPassive = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.enableTargetPassive", true, "Allow targeting passive mobs with the lock-on mechanic").getBoolean(true);
+			this.enableTargetPlayer = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.enableTargetPlayer", true, "Allow targeting players with the lock-on mechanic").getBoolean(true);
+			boolean allowVanillaControls = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.enableVanillaControls", true, "Allow vanilla movement keys to be used to activate skills; must be enabled if Additional Controls are disabled").getBoolean(true);
+			if (!this.enableAdditionalControls && !allowVanillaControls) {
+				DynamicSwordSkills.logger.warn("Both Vanilla and Additional Controls are disabled - Vanilla Controls were automatically enabled");
+				allowVanillaControls = true;
+			}
+			this.allowVanillaControls = allowVanillaControls;
+			this.requireDoubleTap = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.requireDoubleTap", true, "Require double-tap for Dodge and Parry (always required when Vanilla Controls are enabled)").getBoolean(true);
+			this.requireLockOn = config.get(Configuration.CATEGORY_CLIENT, "dss.config.client.requireLockOn", false, "Require locking on to activate skills").getBoolean(false);
+			/* Skill Manual GUI */
+			this.clickedGroupFilterSound = config.get("skillGui", "dss.config.client.skillGui.clickedGroupFilterSound", true, "Play a sound when applying or removing a Skill Group filter").getBoolean(true);
+			this.clickedPageSound = config.get("skillGui", "dss.config.client.skillGui.clickedPageSound", true, "Play a sound when the page index changes").getBoolean(true);
+			this.clickedSkillSound = config.get("skillGui", "dss.config.client.skillGui.clickedSkillSound", true, "Play a sound when clicking on a Skill entry").getBoolean(true);
+			this.showBannedSkills = config.get("skillGui", "dss.config.client.skillGui.showBannedSkills", false, "Display entries in the Skill Manual for skills disabled by the server").getBoolean(false);
+			this.showPaginationLabels = config.get("skillGui", "dss.config.client.skillGui.showPaginationLabels", true, "Display text labels for 'Prev' and 'Next' page buttons").getBoolean(true);
+			this.showPlainTextIndex = config.get("skillGui", "dss.config.client.skillGui.showPlainTextIndex", true, "Display table of contents without the standard button texture").getBoolean(true);
+			this.showSkillGroupTooltips= config.get("skillGui", "dss.config.client.skillGui.showSkillGroupTooltips", true, "Display tooltips when hovering over the Table of Contents entries for Skill Groups that support them").getBoolean(true);
+			this.showUnknownSkills = config.get("skillGui", "dss.config.client.skillGui.showUnknownSkills", true, "Display entries in the Skill Manual for skills not yet learned").getBoolean(true);
+			ImmutableMap.Builder<String, ImmutableSet<ResourceLocation>> members = ImmutableMap.<String, ImmutableSet<ResourceLocation>>builder();
+			for (Entry<String, Set<String>> entry : skillGroupLists.entrySet()) {
+				ImmutableSet.Builder<ResourceLocation> skills = ImmutableSet.<ResourceLocation>builder();
+				for (ResourceLocation name : SkillRegistry.getKeys()) {
+					if (entry.getValue().contains(name.toString()) || entry.getValue().contains(name.getNamespace() + ":*")) {
+						skills.add(name);
+					}
+				}
+				members.put(entry.getKey(), skills.build());
+			}
+			this.skillGroupMembers = members.build();
+			/* Combo HUD */
+			String[] xalign = {"left", "center", "right"};
+			String[] yalign = {"top", "center", "bottom"};
+			this.comboHudDisplayTime = config.get("comboHud", "dss.config.client.comboHud.displayTime", 5000, "Number of milliseconds Combo HUD will remain on screen (0 to disable)", 0, 20000).getInt();
+			this.comboHudMaxHits = config.get("comboHud", "dss.config.client.comboHud.maxHits", 3, "Maximum number of recent hits to display [0-12]", 0, 12).getInt();
+			this.comboHudXAlign = HALIGN.fromString(config.get("comboHud", "dss.config.client.comboHud.xalign", "left", "Base HUD alignment on the X-Axis").setValidValues(xalign).getString());
+			this.comboHudXOffset = config.get("comboHud", "dss.config.client.comboHud.xoffset", 0, "Number of pixels to offset HUD alignment on the X-Axis").getInt();
+			this.comboHudYAlign = VALIGN.fromString(config.get("comboHud", "dss.config.client.comboHud.yalign", "top", "Base HUD alignment on the Y-Axis").setValidValues(yalign).getString());
+			this.comboHudYOffset = config.get("comboHud", "dss.config.client.comboHud.yoffset", 0, "Number of pixels to offset HUD alignment on the Y-Axis").getInt();
+			/* Ending Blow HUD */
+			this.endingBlowHudDisplayTime = config.get("endingBlowHud", "dss.config.client.endingBlowHud.displayTime", 1000, "Number of milliseconds Ending Blow HUD will remain on screen (0 to disable)", 0, 20000).getInt();
+			this.endingBlowHudResult = config.get("endingBlowHud", "dss.config.client.endingBlowHud.enableResultNotification", true, "Display success / failure notification when Ending Blow is used").getBoolean(true);
+			this.endingBlowHudText = config.get("endingBlowHud", "dss.config.client.endingBlowHud.enableText", false, "Display text instead of icons for Ending Blow notifications").getBoolean(false);
+			this.endingBlowHudXAlign = HALIGN.fromString(config.get("endingBlowHud", "dss.config.client.endingBlowHud.xalign", "center", "Base HUD alignment on the X-Axis").setValidValues(xalign).getString());
+			this.endingBlowHudXOffset = config.get("endingBlowHud", "dss.config.client.endingBlowHud.xoffset", 0, "Number of pixels to offset HUD alignment on the X-Axis").getInt();
+			this.endingBlowHudYAlign = VALIGN.fromString(config.get("endingBlowHud", "dss.config.client.endingBlowHud.yalign", "top", "Base HUD alignment on the Y-Axis").setValidValues(yalign).getString());
+			this.endingBlowHudYOffset = config.get("endingBlowHud", "dss.config.client.endingBlowHud.yoffset", 30, "Number of pixels to offset HUD alignment on the Y-Axis").getInt();
+		}
+
+		boolean isSkillInGroup(SkillBase skill, String label) {
+			Set<ResourceLocation> set = this.skillGroupMembers.get(label);
+			return set != null && set.contains(skill.getRegistryName());
+		}
+	}
+}
@@ -22,8 +22,6 @@ import java.util.List;
 import dynamicswordskills.api.SkillGroup;
 import dynamicswordskills.client.DSSClientEvents;
 import dynamicswordskills.entity.DSSPlayerInfo;
-import dynamicswordskills.network.PacketDispatcher;
-import dynamicswordskills.network.bidirectional.ActivateSkillPacket;
 import dynamicswordskills.ref.Config;
 import dynamicswordskills.ref.ModSounds;
 import dynamicswordskills.util.DamageUtils;
@@ -104,6 +102,12 @@ public class ArmorBreak extends SkillActive
 		return activeTimer > 0;
 	}
 
+	@Override
+	protected boolean allowPrediction() {
+		// A rejected activation still leaves the vanilla attack sent from onActivated, which is validated as any other
+		return true;
+	}
+
 	@Override
 	protected float getExhaustion() {
 		return 2.0F - (0.1F * level);
@@ -130,6 +134,12 @@ public class ArmorBreak extends SkillActive
 		return key == mc.gameSettings.keyBindAttack;
 	}
 
+	@Override
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return key == mc.gameSettings.keyBindAttack;
+	}
+
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean keyPressed(Minecraft mc, KeyBinding key, EntityPlayer player) {
@@ -162,7 +172,7 @@ public class ArmorBreak extends SkillActive
 	@Override
 	protected boolean onActivated(World world, EntityPlayer player) {
 		activeTimer = 4; // needs to be active for attack event to process correctly
-		if (world.isRemote) { // only attack after server has been activated, i.e. client receives activation packet back
+		if (world.isRemote) { // predicted; the server activates the skill before processing the attack
 			attackKey = null;
 			DSSPlayerInfo.get(player).setArmSwingProgress(0.0F, 0.0F);
 			DSSClientEvents.handlePlayerAttack(Minecraft.getMinecraft());
@@ -193,7 +203,7 @@ public class ArmorBreak extends SkillActive
 				}
 				--charge;
 				if (charge == 0) {
-					PacketDispatcher.sendToServer(new ActivateSkillPacket(this, true));
+					predictActivation(player, true);
 				}
 			} else {
 				DSSPlayerInfo.get(player).setArmSwingProgress(0.0F, 0.0F);
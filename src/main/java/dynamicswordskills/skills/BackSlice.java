@@ -23,6 +23,8 @@ import dynamicswordskills.DSSCombatEvents;
 import dynamicswordskills.DynamicSwordSkills;
 import dynamicswordskills.api.SkillGroup;
 import dynamicswordskills.client.DSSKeyHandler;
+import dynamicswordskills.client.Gesture;
+import dynamicswordskills.client.GestureRecognizer;
 import dynamicswordskills.entity.DSSPlayerInfo;
 import dynamicswordskills.network.PacketDispatcher;
 import dynamicswordskills.network.server.EndComboPacket;
@@ -67,14 +69,10 @@ import net.minecraftforge.fml.relauncher.SideOnly;
  */
 public class BackSlice extends SkillActive
 {
-	/** Key that was pressed to initiate movement, either left or right */
+	/** Key that was held to initiate movement, either left or right */
 	@SideOnly(Side.CLIENT)
 	private KeyBinding keyPressed;
 
-	/** Current number of ticks remaining before skill will fail to activate */
-	@SideOnly(Side.CLIENT)
-	private int ticksTilFail;
-
 	/** Timer during which player may evade incoming attacks */
 	private int dodgeTimer = 0;
 
@@ -195,8 +193,13 @@ public class BackSlice extends SkillActive
 		} else if (isAnimating()) {
 			return key == mc.gameSettings.keyBindAttack;
 		}
-		return key == DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey() || key == DSSKeyHandler.keys[DSSKeyHandler.KEY_LEFT].getKey() || key == DSSKeyHandler.keys[DSSKeyHandler.KEY_RIGHT].getKey() ||
-				((Config.allowVanillaControls() && (key == mc.gameSettings.keyBindForward || key == mc.gameSettings.keyBindLeft || key == mc.gameSettings.keyBindRight)));
+		return key == DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey() || (Config.allowVanillaControls() && key == mc.gameSettings.keyBindForward);
+	}
+
+	@Override
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return (key == mc.gameSettings.keyBindAttack || key == mc.gameSettings.keyBindForward || key == DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey());
 	}
 
 	@Override
@@ -226,16 +229,17 @@ public class BackSlice extends SkillActive
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean keyPressed(Minecraft mc, KeyBinding key, EntityPlayer player) {
-		if (canExecute(player)) {
-			if (keyPressed != null && keyPressed.isKeyDown() && ((Config.allowVanillaControls() && key == mc.gameSettings.keyBindForward) || key == DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey())) {
-				if (ticksTilFail > 0) {
-					ticksTilFail = 0;
-					return activate(player);
-				} else {
-					ticksTilFail = 6;
-				}
-			} else if (key != mc.gameSettings.keyBindForward && key != DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey()) {
-				keyPressed = key;
+		KeyBinding forward = DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey();
+		boolean allowVanilla = Config.allowVanillaControls();
+		if ((key == forward || (allowVanilla && key == mc.gameSettings.keyBindForward)) && canExecute(player)) {
+			// Double-tap 'forward' while holding 'left' or 'right'
+			KeyBinding left = DSSKeyHandler.keys[DSSKeyHandler.KEY_LEFT].getKey();
+			KeyBinding right = DSSKeyHandler.keys[DSSKeyHandler.KEY_RIGHT].getKey();
+			keyPressed = (allowVanilla ? GestureRecognizer.INSTANCE.getHeldKey(left, right, mc.gameSettings.keyBindLeft, mc.gameSettings.keyBindRight) : GestureRecognizer.INSTANCE.getHeldKey(left, right));
+			KeyBinding[] forwardKeys = (allowVanilla ? new KeyBinding[] {forward, mc.gameSettings.keyBindForward} : new KeyBinding[] {forward});
+			if (keyPressed != null && GestureRecognizer.INSTANCE.matches(Gesture.sequence(forwardKeys, forwardKeys).withinGap(KEY_WINDOW).ignoringOtherKeys())) {
+				GestureRecognizer.INSTANCE.consume();
+				return activate(player);
 			}
 		}
 		return false; // allow other skills to receive this key press (e.g. Spin Attack)
@@ -266,10 +270,6 @@ public class BackSlice extends SkillActive
 			if (impacted) {
 				deactivate(player);
 			}
-		} else if (player.getEntityWorld().isRemote && ticksTilFail > 0) {
-			if (--ticksTilFail == 0) {
-				keyPressed = null;
-			}
 		}
 	}
 
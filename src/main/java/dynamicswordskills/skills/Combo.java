@@ -17,12 +17,13 @@
 
 package dynamicswordskills.skills;
 
-import java.util.ArrayList;
-import java.util.Collections;
+import java.util.AbstractList;
 import java.util.List;
+import java.util.RandomAccess;
 
 import dynamicswordskills.network.PacketDispatcher;
 import dynamicswordskills.network.client.UpdateComboPacket;
+import dynamicswordskills.util.TimingWheel;
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
@@ -39,7 +40,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
  * 
  * Specifications:
  * A new instance should be used for each new attack combo.
- * Each instance should be updated every tick from within its containing class' update method 
+ * The combo ends on its own when its time limit expires, using the {@link TimingWheel}
  * Determining when to add damage or end the combo prematurely must be handled extraneously.
  * Only self-synchronizing when UpdateComboPacket class is kept up-to-date 
  *
@@ -55,14 +56,23 @@ public class Combo
 	/** Upon landing a blow, the combo timer is set to this damage */
 	private final int timeLimit;
 
-	/** Current combo timer; combo ends when timer reaches zero. */
-	private int comboTimer = 0;
+	/** Ends the combo when it expires; only used server side */
+	private TimingWheel.Timer comboTimer;
 
 	/** Set to true when endCombo method is called */
 	private boolean isFinished = false;
 
-	/** List stores each hit's damage; combo size is inherent in the list */
-	private final List<Float> damageList = new ArrayList<Float>();
+	/** Damage of each hit, in order; sized to {@link #maxComboSize} since the combo ends when it is full */
+	private final float[] damage;
+
+	/** Current number of hits stored in {@link #damage} */
+	private int numHits;
+
+	/** Read-only view of the damage of each hit, shared by all callers of {@link #getDamageList()} */
+	private final List<Float> damageList = new DamageList();
+
+	/** Incremented each time this combo changes, allowing displays to know when to refresh */
+	private int version;
 
 	/** Running total of damage inflicted during a combo */
 	private float comboDamage = 0.0F;
@@ -98,13 +108,14 @@ public class Combo
 		this.skillId = skillId;
 		this.maxComboSize = maxComboSize;
 		this.timeLimit = timeLimit;
+		this.damage = new float[Math.max(0, maxComboSize)];
 	}
 
 	/** Returns the skill id associated with this Combo */
 	public byte getSkillId() { return skillId; }
 
 	/** Returns current number of hits */
-	public int getNumHits() { return damageList.size(); }
+	public int getNumHits() { return numHits; }
 
 	/** Returns maximum number of hits allowed before the combo self-terminates */
 	public int getMaxNumHits() { return maxComboSize; }
@@ -112,8 +123,16 @@ public class Combo
 	/** Returns current damage total for this combo */
 	public float getDamage() { return comboDamage; }
 
-	/** Returns a copy of the current damage list */
-	public List<Float> getDamageList() { return Collections.unmodifiableList(damageList); }
+	/** Returns a read-only view of the damage of each hit, in order; prefer {@link #getHitDamage(int)} to avoid boxing */
+	public List<Float> getDamageList() { return damageList; }
+
+	/** Returns the damage of the given hit, where 0 is the first hit of the combo */
+	public float getHitDamage(int hit) {
+		if (hit < 0 || hit >= numHits) {
+			throw new IndexOutOfBoundsException("Hit: " + hit + ", Hits: " + numHits);
+		}
+		return damage[hit];
+	}
 
 	/** Returns the last entity directly hit during the combo */
 	public Entity getLastEntityHit() { return lastEntityHit; }
@@ -124,21 +143,24 @@ public class Combo
 	/** Returns true if this combo is finished, i.e. no longer active */
 	public boolean isFinished() { return isFinished; }
 
+	/** Returns a value that changes every time a hit is added, damage is added, or the combo ends */
+	public int getVersion() { return version; }
+
 	/** Returns translated current description of combo; e.g. "Great" */
 	public String getLabel() {
 		return new TextComponentTranslation("combo.label." + Math.min(getNumHits(), 10)).getUnformattedText();
 	}
 
 	/**
-	 * Updates combo timer and triggers combo ending if timer reaches zero
+	 * Restarts the combo timer, ending the combo if no further blows land within the time limit
 	 */
-	public void onUpdate(EntityPlayer player) {
-		if (comboTimer > 0) {
-			--comboTimer;
-			if (comboTimer == 0) {
+	private void resetTimer(EntityPlayer player) {
+		TimingWheel.cancel(comboTimer);
+		comboTimer = TimingWheel.get(player.getEntityWorld()).schedule(timeLimit, () -> {
+			if (!player.isDead) {
 				endCombo(player);
 			}
-		}
+		});
 	}
 
 	/**
@@ -147,22 +169,23 @@ public class Combo
 	 * @param target used to track consecutive hits on a single target
 	 */
 	public void add(EntityPlayer player, Entity target, float damage) {
-		if (getNumHits() < maxComboSize && (comboTimer > 0 || getNumHits() == 0)) {
+		if (getNumHits() < maxComboSize && (TimingWheel.isPending(comboTimer) || getNumHits() == 0)) {
 			if (target != null && target == lastEntityHit) {
 				++consecutiveHits;
 			} else {
 				lastEntityHit = target;
 				consecutiveHits = (target != null ? 1 : 0);
 			}
-			damageList.add(damage);
+			this.damage[numHits++] = damage;
 			comboDamage += damage;
+			++version;
 			if (player instanceof EntityPlayerMP) {
 				PacketDispatcher.sendTo(new UpdateComboPacket(this), (EntityPlayerMP) player);
 			}
 			if (getNumHits() == maxComboSize) {
 				endCombo(player);
 			} else {
-				comboTimer = timeLimit;
+				resetTimer(player);
 			}
 		} else {
 			endCombo(player);
@@ -175,8 +198,9 @@ public class Combo
 	public void addDamageOnly(EntityPlayer player, float damage) {
 		if (!isFinished()) {
 			comboDamage += damage;
+			++version;
 			if (getNumHits() == 0) {
-				comboTimer = timeLimit;
+				resetTimer(player);
 			}
 			if (player instanceof EntityPlayerMP) {
 				PacketDispatcher.sendTo(new UpdateComboPacket(this), (EntityPlayerMP) player);
@@ -190,6 +214,8 @@ public class Combo
 	public void endCombo(EntityPlayer player) {
 		if (!isFinished) {
 			isFinished = true;
+			comboTimer = TimingWheel.cancel(comboTimer);
+			++version;
 			lastEntityHit = null;
 			consecutiveHits = 0;
 			if (player instanceof EntityPlayerMP) {
@@ -214,10 +240,11 @@ public class Combo
 		compound.setByte("SkillID", skillId);
 		compound.setInteger("MaxSize", maxComboSize);
 		compound.setInteger("TimeLimit", timeLimit);
-		compound.setInteger("CurrentSize", getNumHits());
-		for (int i = 0; i < getNumHits(); ++i) {
-			compound.setFloat("Dmg" + i, damageList.get(i));
+		int[] bits = new int[numHits];
+		for (int i = 0; i < numHits; ++i) {
+			bits[i] = Float.floatToRawIntBits(damage[i]);
 		}
+		compound.setIntArray("Damage", bits);
 		compound.setFloat("TotalDamage", comboDamage);
 		compound.setInteger("EntityId", (lastEntityHit != null ? lastEntityHit.getEntityId() : 0));
 		compound.setInteger("ConsecutiveHits", consecutiveHits);
@@ -230,9 +257,10 @@ public class Combo
 	 */
 	public static final Combo readFromNBT(NBTTagCompound compound) {
 		Combo combo = new Combo(compound.getByte("SkillID"), compound.getInteger("MaxSize"), compound.getInteger("TimeLimit"));
-		int size = compound.getInteger("CurrentSize");
-		for (int i = 0; i < size; ++i) {
-			combo.damageList.add(compound.getFloat("Dmg" + i));
+		int[] bits = compound.getIntArray("Damage");
+		combo.numHits = Math.min(bits.length, combo.damage.length);
+		for (int i = 0; i < combo.numHits; ++i) {
+			combo.damage[i] = Float.intBitsToFloat(bits[i]);
 		}
 		combo.comboDamage = compound.getFloat("TotalDamage");
 		combo.entityId = compound.getInteger("EntityId");
@@ -240,4 +268,17 @@ public class Combo
 		combo.isFinished = compound.getBoolean("Finished");
 		return combo;
 	}
+
+	private final class DamageList extends AbstractList<Float> implements RandomAccess
+	{
+		@Override
+		public Float get(int index) {
+			return getHitDamage(index);
+		}
+
+		@Override
+		public int size() {
+			return numHits;
+		}
+	}
 }
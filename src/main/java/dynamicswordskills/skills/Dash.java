@@ -26,6 +26,7 @@ import dynamicswordskills.ref.Config;
 import dynamicswordskills.ref.ModSounds;
 import dynamicswordskills.util.PlayerUtils;
 import dynamicswordskills.util.TargetUtils;
+import dynamicswordskills.util.TimingWheel;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.settings.KeyBinding;
 import net.minecraft.entity.Entity;
@@ -81,7 +82,7 @@ public class Dash extends SkillActive
 	private Entity target;
 
 	/** Impact timer used to make player immune to damage from struck target only, vs. setting hurtResistantTime */
-	private int impactTime;
+	private TimingWheel.Timer impactTimer;
 
 	public Dash(String translationKey) {
 		super(translationKey);
@@ -108,7 +109,7 @@ public class Dash extends SkillActive
 
 	@Override
 	public boolean isActive() {
-		return isActive || impactTime > 0;
+		return isActive || TimingWheel.isPending(impactTimer);
 	}
 
 	/** Maximum active time in case player is unable to move an appropriate amount of distance */
@@ -185,6 +186,12 @@ public class Dash extends SkillActive
 		return key == mc.gameSettings.keyBindAttack;
 	}
 
+	@Override
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return key == mc.gameSettings.keyBindAttack;
+	}
+
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean keyPressed(Minecraft mc, KeyBinding key, EntityPlayer player) {
@@ -204,18 +211,12 @@ public class Dash extends SkillActive
 	@Override
 	protected void onDeactivated(World world, EntityPlayer player) {
 		initialPosition = null;
-		impactTime = 0; // no longer active, target will be set to null from setNotDashing
+		impactTimer = TimingWheel.cancel(impactTimer); // no longer active, target will be set to null from setNotDashing
 		setNotDashing(player); // sets all remaining fields to 0 or null
 	}
 
 	@Override
 	public void onUpdate(EntityPlayer player) {
-		if (impactTime > 0) {
-			--impactTime;
-			if (impactTime == 0) {
-				target = null;
-			}
-		}
 		// don't use isActive() method, as that also returns true after impact
 		if (isActive) {
 			player.setSprinting(true);
@@ -244,7 +245,7 @@ public class Dash extends SkillActive
 					// Force player to stop blocking upon impact
 					DSSPlayerInfo.get(player).setUseItemCooldown(getBlockCooldown());
 					KeyBinding.setKeyBindState(Minecraft.getMinecraft().gameSettings.keyBindUseItem.getKeyCode(), false);
-					impactTime = 5;
+					startImpactTimer(player.getEntityWorld());
 					if (result != null && result.typeOfHit == RayTraceResult.Type.ENTITY) {
 						target = result.entityHit;
 					}
@@ -290,7 +291,7 @@ public class Dash extends SkillActive
 			}
 			if (speed > 0.075D && (distance - bbMod) > getMinDistance() && distance < (getRange() + 1.0D) && player.getDistanceSq(target) < 6.0D) {
 				float dmg = (float)(sf * (float)getDamage() * distance / getRange());
-				impactTime = 5; // time player will be immune to damage from the target entity
+				startImpactTimer(world); // time player will be immune to damage from the target entity
 				target.attackEntityFrom(DamageSource.causePlayerDamage(player), dmg);
 				if (target instanceof EntityLivingBase) {
 					float db = 0.15F * (float)(distance - getMinDistance());
@@ -322,7 +323,7 @@ public class Dash extends SkillActive
 
 	@Override
 	public boolean onBeingAttacked(EntityPlayer player, DamageSource source) {
-		if (impactTime > 0 && source.getTrueSource() == target) {
+		if (TimingWheel.isPending(impactTimer) && source.getTrueSource() == target) {
 			return true;
 		} else if (source.damageType.equals("mob") && source.getTrueSource() != null && player.getDistanceSq(source.getTrueSource()) < 6.0D) {
 			return true; // stop stupid zombies from hitting player right before impact
@@ -330,10 +331,18 @@ public class Dash extends SkillActive
 		return false;
 	}
 
+	/**
+	 * Makes the player immune to damage from the {@link #target} for a few ticks
+	 */
+	private void startImpactTimer(World world) {
+		TimingWheel.cancel(impactTimer);
+		impactTimer = TimingWheel.get(world).schedule(5, () -> target = null);
+	}
+
 	/**
 	 * After calling this method, {@link #isAnimating()} will always return false;
 	 * {@link #isActive()} will return false if no entity was impacted, otherwise it
-	 * will still be true for {@link #impactTime} ticks to prevent damage from the {@link #target}. 
+	 * will still be true until the {@link #impactTimer} expires to prevent damage from the {@link #target}. 
 	 */
 	private void setNotDashing(EntityPlayer player) {
 		isActive = false;
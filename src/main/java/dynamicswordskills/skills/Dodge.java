@@ -21,6 +21,8 @@ import java.util.List;
 
 import dynamicswordskills.DynamicSwordSkills;
 import dynamicswordskills.client.DSSKeyHandler;
+import dynamicswordskills.client.Gesture;
+import dynamicswordskills.client.GestureRecognizer;
 import dynamicswordskills.ref.Config;
 import dynamicswordskills.ref.ModSounds;
 import dynamicswordskills.util.PlayerUtils;
@@ -53,12 +55,6 @@ public class Dodge extends SkillActive
 	@SideOnly(Side.CLIENT)
 	private KeyBinding keyPressed;
 
-	/** Current number of ticks remaining before dodge will not activate */
-	private int ticksTilFail;
-
-	/** Only for double-tap activation; true after the first key press and release */
-	private boolean keyReleased;
-
 	/** Trajectory based on player's look vector and Dodge direction */
 	private Vec3d trajectory;
 
@@ -133,7 +129,7 @@ public class Dodge extends SkillActive
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean canExecute(EntityPlayer player) {
-		return player.onGround && canUse(player) && keyReleased && ticksTilFail > 0;
+		return player.onGround && canUse(player);
 	}
 
 	@Override
@@ -145,57 +141,37 @@ public class Dodge extends SkillActive
 		return true;
 	}
 
+	@Override
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return (key == mc.gameSettings.keyBindLeft || key == mc.gameSettings.keyBindRight ||
+				key == DSSKeyHandler.keys[DSSKeyHandler.KEY_LEFT].getKey() || key == DSSKeyHandler.keys[DSSKeyHandler.KEY_RIGHT].getKey());
+	}
+
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean keyPressed(Minecraft mc, KeyBinding key, EntityPlayer player) {
-		if (key == keyPressed) {
-			boolean flag = canExecute(player) && activate(player);
-			resetKeyState(flag);
-			return flag;
-		} else if (Config.allowVanillaControls() && (key == mc.gameSettings.keyBindLeft || key == mc.gameSettings.keyBindRight)) {
-			firstKeyPress(mc, key, player);
-		} else if (key == DSSKeyHandler.keys[DSSKeyHandler.KEY_LEFT].getKey() || key == DSSKeyHandler.keys[DSSKeyHandler.KEY_RIGHT].getKey()) {
+		boolean isAdditionalKey = (key == DSSKeyHandler.keys[DSSKeyHandler.KEY_LEFT].getKey() || key == DSSKeyHandler.keys[DSSKeyHandler.KEY_RIGHT].getKey());
+		if (isAdditionalKey) {
 			if (key == DSSKeyHandler.keys[DSSKeyHandler.KEY_LEFT].getKey() && mc.gameSettings.keyBindRight.isKeyDown()) {
 				return false;
 			} else if (key == DSSKeyHandler.keys[DSSKeyHandler.KEY_RIGHT].getKey() && mc.gameSettings.keyBindLeft.isKeyDown()) {
 				return false;
 			}
-			firstKeyPress(mc, key, player);
-			if (!Config.requiresDoubleTap()) {
-				keyReleased = true;
-				boolean flag = canExecute(player) && activate(player);
-				resetKeyState(true);
-				return flag;
-			}
-		} else {
-			keyPressed = null;
+		} else if (!Config.allowVanillaControls() || (key != mc.gameSettings.keyBindLeft && key != mc.gameSettings.keyBindRight)) {
+			return false;
 		}
-		return false;
-	}
-
-	@SideOnly(Side.CLIENT)
-	private void firstKeyPress(Minecraft mc, KeyBinding key, EntityPlayer player) {
-		keyPressed = key;
-		keyReleased = false;
-		ticksTilFail = 6;
-	}
-
-	@SideOnly(Side.CLIENT)
-	private void resetKeyState(boolean flag) {
-		keyReleased = false;
-		ticksTilFail = 0;
-		if (!flag) {
-			keyPressed = null;
+		// Additional controls only need a single tap unless configured otherwise
+		if ((!isAdditionalKey || Config.requiresDoubleTap()) && !GestureRecognizer.INSTANCE.matches(Gesture.sequence(key, key).withinGap(KEY_WINDOW))) {
+			return false;
 		}
-	}
-
-	@Override
-	@SideOnly(Side.CLIENT)
-	public void keyReleased(Minecraft mc, KeyBinding key, EntityPlayer player) {
-		keyReleased = (key == keyPressed);
-		if (keyReleased && ticksTilFail < 1) {
-			keyPressed = null;
+		keyPressed = key;
+		if (canExecute(player) && activate(player)) {
+			GestureRecognizer.INSTANCE.consume();
+			return true;
 		}
+		keyPressed = null;
+		return false;
 	}
 
 	@Override
@@ -225,9 +201,6 @@ public class Dodge extends SkillActive
 		if (isActive()) {
 			--dodgeTimer;
 		}
-		if (ticksTilFail > 0) {
-			--ticksTilFail;
-		}
 	}
 
 	@Override
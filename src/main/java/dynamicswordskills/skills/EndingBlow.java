@@ -22,6 +22,8 @@ import java.util.List;
 import dynamicswordskills.api.SkillGroup;
 import dynamicswordskills.client.DSSClientEvents;
 import dynamicswordskills.client.DSSKeyHandler;
+import dynamicswordskills.client.Gesture;
+import dynamicswordskills.client.GestureRecognizer;
 import dynamicswordskills.entity.DSSPlayerInfo;
 import dynamicswordskills.entity.DirtyEntityAccessor;
 import dynamicswordskills.network.PacketDispatcher;
@@ -30,6 +32,9 @@ import dynamicswordskills.network.client.EndingBlowPacket;
 import dynamicswordskills.ref.Config;
 import dynamicswordskills.ref.ModSounds;
 import dynamicswordskills.util.PlayerUtils;
+import dynamicswordskills.util.TickScheduler;
+import dynamicswordskills.util.TickScheduler.Priority;
+import dynamicswordskills.util.TimingWheel;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.settings.KeyBinding;
 import net.minecraft.entity.EntityLiving;
@@ -37,6 +42,7 @@ import net.minecraft.entity.EntityLivingBase;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.entity.player.EntityPlayerMP;
 import net.minecraft.util.SoundCategory;
+import net.minecraft.util.math.BlockPos;
 import net.minecraft.util.math.MathHelper;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
@@ -61,20 +67,8 @@ import net.minecraftforge.fml.relauncher.SideOnly;
  */
 public class EndingBlow extends SkillActive
 {
-	/** Flag for isActive() so that skill can trigger upon impact from LivingHurtEvent */
-	private int activeTimer = 0;
-
-	/** Only for vanilla activation: Current number of ticks remaining before skill will not activate */
-	@SideOnly(Side.CLIENT)
-	private int ticksTilFail;
-
-	/** Number of times the forward key has been pressed this activation cycle */
-	@SideOnly(Side.CLIENT)
-	private int keyPressed;
-
-	/** Only for double-tap activation; true after the first key press and release */
-	@SideOnly(Side.CLIENT)
-	private boolean keyReleased;
+	/** Flag for isActive() so that skill can trigger upon impact from LivingHurtEvent; the skill fails if it expires */
+	private TimingWheel.Timer activeTimer;
 
 	/** The last time this skill was activated (so HUD element can display or hide as appropriate) */
 	@SideOnly(Side.CLIENT)
@@ -92,6 +86,14 @@ public class EndingBlow extends SkillActive
 	/** Xp amount to grant if entityHit is dead on update tick */
 	private int xp;
 
+	/** Activation gesture, rebuilt when the client settings change */
+	@SideOnly(Side.CLIENT)
+	private static Gesture gesture;
+
+	/** {@link Config#getClientVersion()} as of the last time the {@link #gesture} was built */
+	@SideOnly(Side.CLIENT)
+	private static int gestureVersion;
+
 	public EndingBlow(String translationKey) {
 		super(translationKey);
 	}
@@ -120,7 +122,13 @@ public class EndingBlow extends SkillActive
 
 	@Override
 	public boolean isActive() {
-		return activeTimer > 0;
+		return TimingWheel.isPending(activeTimer);
+	}
+
+	@Override
+	protected boolean allowPrediction() {
+		// A rejected activation still leaves the vanilla attack sent from onActivated, which is validated as any other
+		return true;
 	}
 
 	@Override
@@ -160,7 +168,22 @@ public class EndingBlow extends SkillActive
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean canExecute(EntityPlayer player) {
-		return ticksTilFail > 0 && keyPressed > 1 && keyReleased && canUse(player);
+		return canUse(player) && GestureRecognizer.INSTANCE.matches(getGesture(Minecraft.getMinecraft()));
+	}
+
+	/**
+	 * Tap and release 'forward', press it again, then attack, all within a short time;
+	 * the second 'forward' press may still be held when attacking
+	 */
+	@SideOnly(Side.CLIENT)
+	private Gesture getGesture(Minecraft mc) {
+		if (gesture == null || gestureVersion != Config.getClientVersion()) {
+			KeyBinding forward = DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey();
+			KeyBinding[] forwardKeys = (Config.allowVanillaControls() ? new KeyBinding[] {forward, mc.gameSettings.keyBindForward} : new KeyBinding[] {forward});
+			gesture = Gesture.sequence(forwardKeys, forwardKeys, new KeyBinding[] {mc.gameSettings.keyBindAttack}).withinSpan(KEY_WINDOW).ignoringOtherKeys().releasedBefore(1);
+			gestureVersion = Config.getClientVersion();
+		}
+		return gesture;
 	}
 
 	@Override
@@ -169,48 +192,43 @@ public class EndingBlow extends SkillActive
 		if (Config.requiresLockOn() && !isLockedOn) {
 			return false;
 		}
-		return (key == mc.gameSettings.keyBindAttack || key == DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey()
-				|| (Config.allowVanillaControls() && key == mc.gameSettings.keyBindForward));
+		return key == mc.gameSettings.keyBindAttack;
+	}
+
+	@Override
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return key == mc.gameSettings.keyBindAttack;
 	}
 
 	/**
-	 * Increments the number of times the key has been pressed and starts the fail timer if not yet set,
-	 * or triggers the skill if the right conditions are met
+	 * Triggers the skill if the attack key completes the activation gesture
 	 */
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean keyPressed(Minecraft mc, KeyBinding key, EntityPlayer player) {
-		if (key == DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey() || (Config.allowVanillaControls() && key == mc.gameSettings.keyBindForward)) {
-			if (ticksTilFail == 0) {
-				ticksTilFail = 6;
-			}
-			++keyPressed;
-		} else if (canExecute(player)) {
-			ticksTilFail = 0;
-			keyPressed = 0;
-			keyReleased = false;
+		if (key == mc.gameSettings.keyBindAttack && canExecute(player)) {
+			GestureRecognizer.INSTANCE.consume();
 			return activate(player);
 		}
 		return false;
 	}
 
-	@Override
-	@SideOnly(Side.CLIENT)
-	public void keyReleased(Minecraft mc, KeyBinding key, EntityPlayer player) {
-		if (key == DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey() || (Config.allowVanillaControls() && key == mc.gameSettings.keyBindForward)) {
-			keyReleased = (keyPressed > 0 && ticksTilFail > 0);
-		}
-	}
-
 	@Override
 	protected boolean onActivated(World world, EntityPlayer player) {
-		activeTimer = 3; // gives server some time for client attack to occur
+		TimingWheel.cancel(activeTimer);
+		// gives server some time for client attack to occur
+		activeTimer = TimingWheel.get(world).schedule(3, () -> {
+			if (!world.isRemote && !player.isDead) {
+				onFail(player, true);
+			}
+		});
 		entityHit = null;
 		IComboSkill skill = DSSPlayerInfo.get(player).getComboSkill();
 		if (skill != null && skill.getCombo() != null) {
 			lastNumHits = skill.getCombo().getNumHits();
 		}
-		if (world.isRemote) { // only attack after server has been activated, i.e. client receives activation packet back
+		if (world.isRemote) { // predicted; the server activates the skill before processing the attack
 			DSSClientEvents.handlePlayerAttack(Minecraft.getMinecraft());
 			this.lastActivationTime = Minecraft.getSystemTime();
 			this.skillResult = 0;
@@ -220,25 +238,13 @@ public class EndingBlow extends SkillActive
 
 	@Override
 	protected void onDeactivated(World world, EntityPlayer player) {
-		activeTimer = 0;
+		activeTimer = TimingWheel.cancel(activeTimer);
 		entityHit = null;
 		xp = 0;
-		if (world.isRemote) {
-			keyPressed = 0;
-			keyReleased = false;
-			ticksTilFail = 0;
-		}
 	}
 
 	@Override
 	public void onUpdate(EntityPlayer player) {
-		if (player.getEntityWorld().isRemote && ticksTilFail > 0) {
-			--ticksTilFail;
-			if (ticksTilFail == 0) {
-				keyPressed = 0;
-				keyReleased = false;
-			}
-		}
 		if (lastNumHits > 0) {
 			if (entityHit != null && xp > 0) {
 				updateEntityState(player);
@@ -248,12 +254,6 @@ public class EndingBlow extends SkillActive
 				lastNumHits = 0;
 			}
 		}
-		if (isActive()) {
-			--activeTimer;
-			if (activeTimer == 0 && !player.getEntityWorld().isRemote) {
-				onFail(player, true);
-			}
-		}
 	}
 
 	/**
@@ -265,7 +265,10 @@ public class EndingBlow extends SkillActive
 				if (entityHit instanceof EntityLiving) {
 					DirtyEntityAccessor.setLivingXp((EntityLiving) entityHit, xp, true);
 				} else {
-					PlayerUtils.spawnXPOrbsWithRandom(player.getEntityWorld(), player.getEntityWorld().rand, entityHit.getPosition(), xp);
+					final World world = player.getEntityWorld();
+					final BlockPos pos = entityHit.getPosition();
+					final int amount = xp;
+					TickScheduler.schedule(Priority.COMBAT, () -> PlayerUtils.spawnXPOrbsWithRandom(world, world.rand, pos, amount));
 				}
 				PacketDispatcher.sendTo(new EndingBlowPacket((byte) 1), (EntityPlayerMP) player);
 			} else {
@@ -291,7 +294,7 @@ public class EndingBlow extends SkillActive
 
 	@Override
 	public void postImpact(EntityPlayer player, EntityLivingBase entity, float amount) {
-		activeTimer = 0;
+		activeTimer = TimingWheel.cancel(activeTimer);
 		if (entityHit != null) {
 			xp = level + 1 + player.getEntityWorld().rand.nextInt(Math.max(2, MathHelper.ceil(entity.getHealth())));
 		}
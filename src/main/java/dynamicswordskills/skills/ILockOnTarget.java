@@ -39,6 +39,9 @@ public interface ILockOnTarget
 	/** Should only use on the server side */
 	public void setCurrentTarget(EntityPlayer player, Entity entity);
 
+	/** Returns max distance at which the current target remains targetable */
+	public double getLockOnRange();
+
 	/** Should find and return the next valid target or null */
 	@SideOnly(Side.CLIENT)
 	public void getNextTarget(EntityPlayer player);
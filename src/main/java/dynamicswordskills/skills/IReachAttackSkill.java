@@ -17,8 +17,11 @@
 
 package dynamicswordskills.skills;
 
+import java.util.List;
+
 import dynamicswordskills.entity.DirtyEntityAccessor;
 import dynamicswordskills.network.PacketDispatcher;
+import dynamicswordskills.network.server.MultiReachAttackPacket;
 import dynamicswordskills.network.server.ReachAttackSkillPacket;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.multiplayer.PlayerControllerMP;
@@ -77,4 +80,31 @@ public interface IReachAttackSkill
 			}
 		}
 	}
+
+	/**
+	 * Attacks all of the targets using a single packet; use this instead of calling
+	 * {@link #multiAttack(Minecraft, Entity, SkillBase)} in a loop when all targets are known up front.
+	 * Be sure to call {@link DirtyEntityAccessor#syncCurrentPlayItem(PlayerControllerMP)} first.
+	 * @param targets The targets to attack; nothing is sent if empty, and only the first
+	 *                {@link MultiReachAttackPacket#MAX_TARGETS} are attacked on either side
+	 */
+	@SideOnly(Side.CLIENT)
+	public static <T extends SkillBase & IReachAttackSkill> void multiAttack(Minecraft mc, List<? extends Entity> targets, T skill) {
+		if (targets.isEmpty()) {
+			return;
+		} else if (targets.size() > MultiReachAttackPacket.MAX_TARGETS) {
+			targets = targets.subList(0, MultiReachAttackPacket.MAX_TARGETS);
+		}
+		PacketDispatcher.sendToServer(new MultiReachAttackPacket(skill, targets));
+		if (!mc.player.isSpectator()) {
+			int ticks = skill.getTicksSinceLastSwing(mc.player);
+			for (Entity target : targets) {
+				mc.player.attackTargetEntityWithCurrentItem(target);
+				mc.player.resetCooldown();
+				if (ticks > 0) {
+					DirtyEntityAccessor.setTicksSinceLastSwing(mc.player, ticks);
+				}
+			}
+		}
+	}
 }
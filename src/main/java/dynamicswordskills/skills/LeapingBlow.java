@@ -22,6 +22,8 @@ import java.util.List;
 import dynamicswordskills.DSSCombatEvents;
 import dynamicswordskills.api.SkillGroup;
 import dynamicswordskills.client.DSSClientEvents;
+import dynamicswordskills.client.Gesture;
+import dynamicswordskills.client.GestureRecognizer;
 import dynamicswordskills.entity.EntityLeapingBlow;
 import dynamicswordskills.ref.Config;
 import dynamicswordskills.ref.ModSounds;
@@ -55,8 +57,11 @@ import net.minecraftforge.fml.relauncher.SideOnly;
  */
 public class LeapingBlow extends SkillActive
 {
-	/** Activation window for pressing the attack key, set when player initially leaps */
-	private int ticksTilFail;
+	/** Time allowed between leaping and attacking, in milliseconds */
+	private static final long ACTIVATION_WINDOW = 500L;
+
+	/** Set when player initially leaps; the activation window is measured from the jump key press */
+	private boolean leapPending;
 
 	/** Set to true when activated; set to false upon landing */
 	private boolean isActive = false;
@@ -95,8 +100,9 @@ public class LeapingBlow extends SkillActive
 	}
 
 	@Override
+	@SideOnly(Side.CLIENT)
 	public boolean isAnimating() {
-		return isActive() || ticksTilFail > 0;
+		return isActive() || (leapPending && GestureRecognizer.INSTANCE.getTimeSincePress(Minecraft.getMinecraft().gameSettings.keyBindJump) < ACTIVATION_WINDOW);
 	}
 
 	@Override
@@ -130,7 +136,9 @@ public class LeapingBlow extends SkillActive
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean canExecute(EntityPlayer player) {
-		return ticksTilFail > 0 && !player.onGround && canUse(player);
+		Minecraft mc = Minecraft.getMinecraft();
+		return leapPending && !player.onGround && canUse(player)
+				&& GestureRecognizer.INSTANCE.matches(Gesture.sequence(mc.gameSettings.keyBindJump, mc.gameSettings.keyBindAttack).withinGap(ACTIVATION_WINDOW).ignoringOtherKeys());
 	}
 
 	@Override
@@ -142,15 +150,21 @@ public class LeapingBlow extends SkillActive
 		return (key == mc.gameSettings.keyBindJump || key == mc.gameSettings.keyBindAttack);
 	}
 
+	@Override
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return (key == mc.gameSettings.keyBindJump || key == mc.gameSettings.keyBindAttack);
+	}
+
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean keyPressed(Minecraft mc, KeyBinding key, EntityPlayer player) {
 		if (key == mc.gameSettings.keyBindJump) {
-			if (player.onGround && mc.gameSettings.keyBindUseItem.isKeyDown() && canUse(player)) {
-				ticksTilFail = 10;
-				return true;
-			}
+			// Jump while holding 'use item'
+			leapPending = (player.onGround && GestureRecognizer.INSTANCE.isHeld(mc.gameSettings.keyBindUseItem) && canUse(player));
+			return leapPending;
 		} else if (canExecute(player) && activate(player)) {
+			GestureRecognizer.INSTANCE.consume();
 			KeyBinding.setKeyBindState(mc.gameSettings.keyBindUseItem.getKeyCode(), false);
 			DSSCombatEvents.setPlayerAttackTime(player); // prevent left-click spam
 			return true;
@@ -161,14 +175,14 @@ public class LeapingBlow extends SkillActive
 	@Override
 	protected boolean onActivated(World world, EntityPlayer player) {
 		isActive = true;
-		ticksTilFail = 0;
+		leapPending = false;
 		return isActive();
 	}
 
 	@Override
 	protected void onDeactivated(World world, EntityPlayer player) {
 		isActive = false;
-		ticksTilFail = 0;
+		leapPending = false;
 	}
 
 	@Override
@@ -177,8 +191,6 @@ public class LeapingBlow extends SkillActive
 		if (player.getEntityWorld().isRemote) {
 			if (isActive() && (player.onGround || TargetUtils.isInLiquid(player))) {
 				deactivate(player);
-			} else if (ticksTilFail > 0) {
-				--ticksTilFail;
 			}
 		}
 	}
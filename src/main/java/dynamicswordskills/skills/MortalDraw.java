@@ -26,6 +26,7 @@ import dynamicswordskills.network.PacketDispatcher;
 import dynamicswordskills.network.client.MortalDrawPacket;
 import dynamicswordskills.ref.ModSounds;
 import dynamicswordskills.util.PlayerUtils;
+import dynamicswordskills.util.TimingWheel;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.settings.KeyBinding;
 import net.minecraft.entity.Entity;
@@ -60,8 +61,11 @@ public class MortalDraw extends SkillActive
 	/** Delay before skill can be used again */
 	private static final int DELAY = 30;
 
-	/** The time remaining during which the skill will succeed; also used as animation flag */
-	private int attackTimer;
+	/** The time remaining during which the skill will succeed, followed by the DELAY; also used as animation flag */
+	private TimingWheel.Timer attackTimer;
+
+	/** Draws the sword automatically when the time to succeed runs out without being attacked */
+	private TimingWheel.Timer drawTimer;
 
 	/** Nearest sword slot index */
 	private int swordSlot;
@@ -102,7 +106,7 @@ public class MortalDraw extends SkillActive
 	public boolean isActive() {
 		// subtract 2 to allow short window in which still considered active so that
 		// the attacker defended against is not able to immediately damage the defender
-		return attackTimer > DELAY - 2;
+		return getAttackTimer() > DELAY - 2;
 	}
 
 	/**
@@ -112,7 +116,7 @@ public class MortalDraw extends SkillActive
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean isAnimating() {
-		return attackTimer > (DELAY - 5);
+		return getAttackTimer() > (DELAY - 5);
 	}
 
 	@Override
@@ -128,6 +132,20 @@ public class MortalDraw extends SkillActive
 		return level + DELAY + 2;
 	}
 
+	/** Returns the number of ticks remaining on the attack timer */
+	private int getAttackTimer() {
+		return TimingWheel.getRemaining(attackTimer);
+	}
+
+	/**
+	 * Ends the time during which the skill may succeed, leaving only the DELAY before it may be used again
+	 */
+	private void endAttackTime(World world) {
+		drawTimer = TimingWheel.cancel(drawTimer);
+		TimingWheel.cancel(attackTimer);
+		attackTimer = TimingWheel.get(world).schedule(DELAY, null);
+	}
+
 	/** Returns the amount by which damage will be increased, as a percent: [damage + (damage * x)] */
 	private int getDamageMultiplier() {
 		return 100 + (10 * level);
@@ -136,7 +154,7 @@ public class MortalDraw extends SkillActive
 	@Override
 	public boolean canUse(EntityPlayer player) {
 		swordSlot = -1;
-		if (super.canUse(player) && player.getHeldItemMainhand().isEmpty() && attackTimer == 0) {
+		if (super.canUse(player) && player.getHeldItemMainhand().isEmpty() && !TimingWheel.isPending(attackTimer)) {
 			swordSlot = getSwordSlot(player);
 		}
 		return swordSlot > -1;
@@ -147,19 +165,10 @@ public class MortalDraw extends SkillActive
 	 * @return 0-8 or -1 if no eligible sword was found
 	 */
 	public static int getSwordSlot(EntityPlayer player) {
-		int plvl = DSSPlayerInfo.get(player).getTrueSkillLevel(Skills.mortalDraw);
-		boolean needsDummy = (DSSPlayerInfo.get(player).getTrueSkillLevel(Skills.swordBasic) < 1);
-		for (int i = 0; i < 9; ++i) {
-			ItemStack stack = player.inventory.getStackInSlot(i);
-			if (!stack.isEmpty()
-					&& ((plvl > 0 && PlayerUtils.isSword(stack)) || PlayerUtils.isProvider(stack, Skills.mortalDraw))
-					&& (!needsDummy || PlayerUtils.isProvider(stack, Skills.swordBasic))
-					)
-			{
-				return i;
-			}
-		}
-		return -1;
+		DSSPlayerInfo info = DSSPlayerInfo.get(player);
+		int plvl = info.getTrueSkillLevel(Skills.mortalDraw);
+		boolean needsDummy = (info.getTrueSkillLevel(Skills.swordBasic) < 1);
+		return info.getHotbarIndex().getSwordSlot(player, plvl > 0, needsDummy);
 	}
 
 	@Override
@@ -177,6 +186,12 @@ public class MortalDraw extends SkillActive
 		return key == mc.gameSettings.keyBindAttack;
 	}
 
+	@Override
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return key == mc.gameSettings.keyBindAttack;
+	}
+
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean keyPressed(Minecraft mc, KeyBinding key, EntityPlayer player) {
@@ -185,44 +200,43 @@ public class MortalDraw extends SkillActive
 
 	@Override
 	protected boolean onActivated(World world, EntityPlayer player) {
-		attackTimer = getAttackTime();
+		TimingWheel wheel = TimingWheel.get(world);
+		TimingWheel.cancel(attackTimer);
+		TimingWheel.cancel(drawTimer);
+		attackTimer = wheel.schedule(getAttackTime(), null);
+		drawTimer = wheel.schedule(getAttackTime() - DELAY, () -> {
+			if (!world.isRemote && !player.isDead && player.getHeldItemMainhand().isEmpty()) {
+				drawSword(player, null);
+				if (!player.getHeldItemMainhand().isEmpty()) {
+					PacketDispatcher.sendTo(new MortalDrawPacket(), (EntityPlayerMP) player);
+				}
+			}
+		});
 		target = null;
 		return isActive();
 	}
 
 	@Override
 	protected void onDeactivated(World world, EntityPlayer player) {
-		attackTimer = 0;
+		attackTimer = TimingWheel.cancel(attackTimer);
+		drawTimer = TimingWheel.cancel(drawTimer);
 		swordSlot = -1;
 		target = null;
 	}
 
-	@Override
-	public void onUpdate(EntityPlayer player) {
-		if (attackTimer > 0) {
-			--attackTimer;
-			if (attackTimer == DELAY && !player.getEntityWorld().isRemote && player.getHeldItemMainhand().isEmpty()) {
-				drawSword(player, null);
-				if (!player.getHeldItemMainhand().isEmpty()) {
-					PacketDispatcher.sendTo(new MortalDrawPacket(), (EntityPlayerMP) player);
-				}
-			}
-		}
-	}
-
 	@Override
 	public boolean onBeingAttacked(EntityPlayer player, DamageSource source) {
 		if (!player.getEntityWorld().isRemote && source.getTrueSource() != null) {
 			// Changed isActive to return true for an extra 2 ticks to allow canceling damage
 			if (target == source.getTrueSource()) {
 				return true;
-			} else if (attackTimer > DELAY) {
+			} else if (getAttackTimer() > DELAY) {
 				if (drawSword(player, source.getTrueSource())) {
 					PacketDispatcher.sendTo(new MortalDrawPacket(), (EntityPlayerMP) player);
 					target = source.getTrueSource();
 					return true;
 				} else { // failed - do not continue trying
-					attackTimer = DELAY;
+					endAttackTime(player.getEntityWorld());
 					target = null;
 				}
 			}
@@ -236,8 +250,8 @@ public class MortalDraw extends SkillActive
 	@Override
 	public float onImpact(EntityPlayer player, EntityLivingBase entity, float amount) {
 		// need to check time again, due to 2-tick delay for damage prevention
-		if (attackTimer > DELAY) {
-			attackTimer = DELAY;
+		if (getAttackTimer() > DELAY) {
+			endAttackTime(player.getEntityWorld());
 			PlayerUtils.playSoundAtEntity(player.getEntityWorld(), player, ModSounds.MORTAL_DRAW, SoundCategory.PLAYERS, 0.4F, 0.5F);
 			return (amount * (1.0F + ((float) getDamageMultiplier() / 100F)));
 		} else { // too late - didn't defend against this target!
@@ -21,11 +21,15 @@ import java.util.List;
 
 import dynamicswordskills.api.SkillGroup;
 import dynamicswordskills.client.DSSKeyHandler;
+import dynamicswordskills.client.Gesture;
+import dynamicswordskills.client.GestureRecognizer;
 import dynamicswordskills.entity.DSSPlayerInfo;
 import dynamicswordskills.ref.Config;
 import dynamicswordskills.ref.ModSounds;
+import dynamicswordskills.util.CombatLog;
 import dynamicswordskills.util.PlayerUtils;
 import dynamicswordskills.util.TargetUtils;
+import dynamicswordskills.util.TimingWheel;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.settings.KeyBinding;
 import net.minecraft.entity.EntityLivingBase;
@@ -55,21 +59,24 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 public class Parry extends SkillActive
 {
 	/** Timer during which player is considered actively parrying */
-	private int parryTimer;
+	private TimingWheel.Timer parryTimer;
+
+	/** Plays the miss sound once the window for parrying attacks closes, if no attack was parried */
+	private TimingWheel.Timer missTimer;
 
 	/** Number of attacks parried this activation cycle */
 	private int attacksParried;
 
-	/** Counter incremented when next correct key in sequence pressed; reset when activated or if ticksTilFail timer reaches 0 */
-	@SideOnly(Side.CLIENT)
-	private int keysPressed;
+	/** Notification to play miss sound; set to true when activated and false when attack parried */
+	private boolean playMissSound;
 
-	/** Only for double-tap activation: Current number of ticks remaining before skill will not activate */
+	/** Activation gesture, rebuilt when the client settings change */
 	@SideOnly(Side.CLIENT)
-	private int ticksTilFail;
+	private static Gesture gesture;
 
-	/** Notification to play miss sound; set to true when activated and false when attack parried */
-	private boolean playMissSound;
+	/** {@link Config#getClientVersion()} as of the last time the {@link #gesture} was built */
+	@SideOnly(Side.CLIENT)
+	private static int gestureVersion;
 
 	public Parry(String translationKey) {
 		super(translationKey);
@@ -101,7 +108,7 @@ public class Parry extends SkillActive
 
 	@Override
 	public boolean isActive() {
-		return (parryTimer > 0);
+		return TimingWheel.isPending(parryTimer);
 	}
 
 	@Override
@@ -119,6 +126,11 @@ public class Parry extends SkillActive
 		return (5 - (level / 2));
 	}
 
+	/** Number of ticks remaining until the skill is no longer active */
+	private int getParryTime() {
+		return TimingWheel.getRemaining(parryTimer);
+	}
+
 	/** The maximum number of attacks that may be parried per use of the skill */
 	private int getMaxParries() {
 		return (1 + level) / 2;
@@ -130,7 +142,7 @@ public class Parry extends SkillActive
 	 */
 	private float getDisarmChance(EntityPlayer player, EntityLivingBase attacker) {
 		float penalty = 0.05F * attacksParried;
-		float bonus = Config.getDisarmTimingBonus() * (parryTimer > 0 ? (parryTimer - getParryDelay()) : 0);
+		float bonus = Config.getDisarmTimingBonus() * (isActive() ? (getParryTime() - getParryDelay()) : 0);
 		if (attacker instanceof EntityPlayer) {
 			penalty += Config.getDisarmPenalty() * DSSPlayerInfo.get((EntityPlayer) attacker).getSkillLevel(this);
 		}
@@ -154,7 +166,24 @@ public class Parry extends SkillActive
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean canExecute(EntityPlayer player) {
-		return canUse(player) && keysPressed > 1 && ticksTilFail > 0;
+		return canUse(player) && GestureRecognizer.INSTANCE.matches(getGesture(Minecraft.getMinecraft()));
+	}
+
+	/**
+	 * Double-tap 'back' followed by 'use item', or tap the additional 'back' key once if double-tap is not required
+	 */
+	@SideOnly(Side.CLIENT)
+	private Gesture getGesture(Minecraft mc) {
+		if (gesture == null || gestureVersion != Config.getClientVersion()) {
+			KeyBinding back = DSSKeyHandler.keys[DSSKeyHandler.KEY_BACK].getKey();
+			KeyBinding[] backKeys = (Config.allowVanillaControls() ? new KeyBinding[] {back, mc.gameSettings.keyBindBack} : new KeyBinding[] {back});
+			gesture = Gesture.sequence(backKeys, backKeys, new KeyBinding[] {mc.gameSettings.keyBindUseItem}).withinGap(KEY_WINDOW);
+			if (!Config.requiresDoubleTap()) {
+				gesture = gesture.or(Gesture.sequence(back, mc.gameSettings.keyBindUseItem).withinGap(KEY_WINDOW));
+			}
+			gestureVersion = Config.getClientVersion();
+		}
+		return gesture;
 	}
 
 	@Override
@@ -166,32 +195,34 @@ public class Parry extends SkillActive
 		return true;
 	}
 
+	@Override
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return key == mc.gameSettings.keyBindUseItem;
+	}
+
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean keyPressed(Minecraft mc, KeyBinding key, EntityPlayer player) {
-		if ((Config.allowVanillaControls() && key == mc.gameSettings.keyBindBack) || key == DSSKeyHandler.keys[DSSKeyHandler.KEY_BACK].getKey()) {
-			ticksTilFail = 6;
-			if (keysPressed < 2) {
-				if (!Config.requiresDoubleTap() && key == DSSKeyHandler.keys[DSSKeyHandler.KEY_BACK].getKey()) {
-					keysPressed++;
-				}
-				keysPressed++;
-			}
-		} else if (key == mc.gameSettings.keyBindUseItem) {
-			boolean flag = (canExecute(player) && activate(player));
-			ticksTilFail = 0;
-			keysPressed = 0;
-			return flag;
-		} else {
-			ticksTilFail = 0;
-			keysPressed = 0;
+		if (key == mc.gameSettings.keyBindUseItem && canExecute(player) && activate(player)) {
+			GestureRecognizer.INSTANCE.consume();
+			return true;
 		}
 		return false;
 	}
 
 	@Override
 	protected boolean onActivated(World world, EntityPlayer player) {
-		parryTimer = getActiveTime();
+		TimingWheel wheel = TimingWheel.get(world);
+		TimingWheel.cancel(parryTimer);
+		TimingWheel.cancel(missTimer);
+		parryTimer = wheel.schedule(getActiveTime(), null);
+		missTimer = wheel.schedule(getActiveTime() - getParryDelay(), () -> {
+			if (playMissSound && !player.isDead) {
+				playMissSound = false;
+				PlayerUtils.playSoundAtEntity(player.getEntityWorld(), player, ModSounds.SWORD_MISS, SoundCategory.PLAYERS, 0.4F, 0.5F);
+			}
+		});
 		attacksParried = 0;
 		playMissSound = true;
 		player.swingArm(EnumHand.MAIN_HAND);
@@ -201,32 +232,20 @@ public class Parry extends SkillActive
 
 	@Override
 	protected void onDeactivated(World world, EntityPlayer player) {
-		parryTimer = 0;
-	}
-
-	@Override
-	public void onUpdate(EntityPlayer player) {
-		if (isActive()) {
-			if (--parryTimer <= getParryDelay() && playMissSound) {
-				playMissSound = false;
-				PlayerUtils.playSoundAtEntity(player.getEntityWorld(), player, ModSounds.SWORD_MISS, SoundCategory.PLAYERS, 0.4F, 0.5F);
-			}
-		} else if (player.getEntityWorld().isRemote && ticksTilFail > 0) {
-			--ticksTilFail;
-			if (ticksTilFail < 1) {
-				keysPressed = 0;
-			}
-		}
+		parryTimer = TimingWheel.cancel(parryTimer);
+		missTimer = TimingWheel.cancel(missTimer);
 	}
 
 	@Override
 	public boolean onBeingAttacked(EntityPlayer player, DamageSource source) {
 		if (source.getTrueSource() instanceof EntityLivingBase) {
 			EntityLivingBase attacker = (EntityLivingBase) source.getTrueSource();
-			if (attacksParried < getMaxParries() && parryTimer > getParryDelay() && !attacker.getHeldItemMainhand().isEmpty() && PlayerUtils.isWeapon(player.getHeldItemMainhand())) {
-				if (player.getEntityWorld().rand.nextFloat() < getDisarmChance(player, attacker)) {
+			if (attacksParried < getMaxParries() && getParryTime() > getParryDelay() && !attacker.getHeldItemMainhand().isEmpty() && PlayerUtils.isWeapon(player.getHeldItemMainhand())) {
+				boolean disarmed = player.getEntityWorld().rand.nextFloat() < getDisarmChance(player, attacker);
+				if (disarmed) {
 					PlayerUtils.dropHeldItem(attacker);
 				}
+				CombatLog.logParry(player, this, attacker, disarmed);
 				++attacksParried; // increment after disarm check
 				PlayerUtils.playSoundAtEntity(player.getEntityWorld(), player, ModSounds.SWORD_STRIKE, SoundCategory.PLAYERS, 0.4F, 0.5F);
 				playMissSound = false;
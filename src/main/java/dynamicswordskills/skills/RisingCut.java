@@ -21,6 +21,8 @@ import java.util.List;
 
 import dynamicswordskills.api.SkillGroup;
 import dynamicswordskills.client.DSSClientEvents;
+import dynamicswordskills.client.Gesture;
+import dynamicswordskills.client.GestureRecognizer;
 import dynamicswordskills.ref.Config;
 import dynamicswordskills.util.PlayerUtils;
 import net.minecraft.client.Minecraft;
@@ -49,8 +51,11 @@ import net.minecraftforge.fml.relauncher.SideOnly;
  */
 public class RisingCut extends SkillActive
 {
+	/** Time allowed between jumping and attacking, in milliseconds */
+	private static final long ACTIVATION_WINDOW = 150L;
+
 	/** Flag for activation; set when player jumps while sneaking */
-	private int ticksTilFail;
+	private boolean sneakJumped;
 
 	/** Set when activated and lasts until the player hits the ground or the duration expires */
 	private int activeTimer;
@@ -124,7 +129,9 @@ public class RisingCut extends SkillActive
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean canExecute(EntityPlayer player) {
-		return ticksTilFail > 0 && player.motionY > 0.0D && canUse(player);
+		Minecraft mc = Minecraft.getMinecraft();
+		return sneakJumped && player.motionY > 0.0D && canUse(player)
+				&& GestureRecognizer.INSTANCE.matches(Gesture.sequence(mc.gameSettings.keyBindJump, mc.gameSettings.keyBindAttack).withinGap(ACTIVATION_WINDOW).ignoringOtherKeys());
 	}
 
 	@Override
@@ -136,6 +143,12 @@ public class RisingCut extends SkillActive
 		return (key == mc.gameSettings.keyBindJump || key == mc.gameSettings.keyBindAttack);
 	}
 
+	@Override
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return (key == mc.gameSettings.keyBindJump || key == mc.gameSettings.keyBindAttack);
+	}
+
 	/**
 	 * Flags the skill as ready to be activated when the player next attacks,
 	 * provided {@link #canExecute} still returns true at that time
@@ -144,10 +157,10 @@ public class RisingCut extends SkillActive
 	@SideOnly(Side.CLIENT)
 	public boolean keyPressed(Minecraft mc, KeyBinding key, EntityPlayer player) {
 		if (key == mc.gameSettings.keyBindJump) {
-			if (player.onGround && ticksTilFail == 0 && !isActive() && !player.isHandActive() && player.isSneaking()) {
-				ticksTilFail = 3; // this allows canExecute to return true for 3 ticks
-			}
+			// this allows canExecute to return true for a short time after jumping
+			sneakJumped = (player.onGround && !isActive() && !player.isHandActive() && player.isSneaking());
 		} else if (canExecute(player) && activate(player)) {
+			GestureRecognizer.INSTANCE.consume();
 			DSSClientEvents.handlePlayerAttack(mc);
 			return true;
 		}
@@ -193,9 +206,6 @@ public class RisingCut extends SkillActive
 
 	@Override
 	public void onUpdate(EntityPlayer player) {
-		if (ticksTilFail > 0) {
-			--ticksTilFail;
-		}
 		if (animationTimer > 0) {
 			--animationTimer;
 		}
@@ -23,6 +23,7 @@ import dynamicswordskills.network.PacketDispatcher;
 import dynamicswordskills.network.bidirectional.ActivateSkillPacket;
 import dynamicswordskills.network.bidirectional.DeactivateSkillPacket;
 import dynamicswordskills.ref.Config;
+import dynamicswordskills.util.CombatLog;
 import dynamicswordskills.util.PlayerUtils;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.settings.KeyBinding;
@@ -109,6 +110,9 @@ public abstract class SkillActive extends SkillBase
 		return true;
 	}
 
+	/** Default time allowed between the key presses of an activation {@link dynamicswordskills.client.Gesture gesture}, in milliseconds */
+	protected static final long KEY_WINDOW = 300L;
+
 	/**
 	 * Returning true allows {@link #keyPressed} and {@link #receiveActiveKeys} to be called, as appropriate
 	 * @param isLockedOn Whether the player is currently locked on to a target with an ILockOnTarget skill
@@ -118,6 +122,16 @@ public abstract class SkillActive extends SkillBase
 		return false;
 	}
 
+	/**
+	 * Return false if {@link #isKeyListener} can never return true for the key, no matter the skill's
+	 * state, lock-on status, or config settings; such skills are not consulted when that key is pressed.
+	 * Since the result is cached per player until their skills change, it must not depend on any state.
+	 */
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return true;
+	}
+
 	/**
 	 * Equivalent of {@link #keyPressed} but called only while this skill is animating.
 	 * Will not be called for the ATTACK key if {@link DSSPlayerInfo#canAttack()} returns false.
@@ -155,10 +169,30 @@ public abstract class SkillActive extends SkillBase
 		return true;
 	}
 
+	/**
+	 * Whether the client may call {@link #onActivated} as soon as the skill is activated via
+	 * {@link #activate} or {@link #predictActivation}, rather than waiting for the server's
+	 * {@link ActivateSkillPacket}; the server confirms or rejects each prediction, and rejected
+	 * activations are rolled back via {@link #onDeactivated}.
+	 * 
+	 * Only return true if onDeactivated fully reverts the client-side effects of onActivated
+	 * and {@link #sendClientUpdate} also returns true.
+	 * 
+	 * Anything onActivated sends to the server cannot be rolled back. For example, ArmorBreak and
+	 * EndingBlow send an attack via {@link dynamicswordskills.client.DSSClientEvents#handlePlayerAttack}; when the activation
+	 * is rejected, the server still processes that attack, just without the skill. Only predict
+	 * skills whose messages are acceptable on their own in that case, i.e. the server validates
+	 * them the same as if the player had sent them without activating the skill.
+	 */
+	protected boolean allowPrediction() {
+		return false;
+	}
+
 	/**
 	 * Called after a skill is activated via {@link #trigger}; on the client, this only
 	 * gets called after receiving the {@link ActivateSkillPacket} sent when triggered on
-	 * the server. If {@link #sendClientUpdate} returns false, then the packet is not sent
+	 * the server, unless the skill {@link #allowPrediction() allows prediction}.
+	 * If {@link #sendClientUpdate} returns false, then the packet is not sent
 	 * and this method will not be called on the client, in which case any client-side
 	 * requirements (e.g. player.swingItem) should be done when sending the activation
 	 * packet to the server.
@@ -191,6 +225,9 @@ public abstract class SkillActive extends SkillBase
 		if (Config.isSkillDisabled(player, this) || !allowUserActivation()) {
 			return false;
 		} else if (player.getEntityWorld().isRemote) {
+			if (allowPrediction()) {
+				return DSSPlayerInfo.get(player).getSkillPredictor().predict(this, false);
+			}
 			PacketDispatcher.sendToServer(new ActivateSkillPacket(this, false));
 			if (sendClientUpdate()) {
 				return true; // prevent activateSkill from getting called twice
@@ -199,6 +236,30 @@ public abstract class SkillActive extends SkillBase
 		return DSSPlayerInfo.get(player).activateSkill(this, false);
 	}
 
+	/**
+	 * Call on the client instead of sending an {@link ActivateSkillPacket} for skills that are
+	 * triggered by some means other than {@link #activate}; if the skill does not
+	 * {@link #allowPrediction() allow prediction}, the packet is sent as usual.
+	 */
+	public final void predictActivation(EntityPlayer player, boolean wasTriggered) {
+		if (allowPrediction()) {
+			DSSPlayerInfo.get(player).getSkillPredictor().predict(this, wasTriggered);
+		} else {
+			PacketDispatcher.sendToServer(new ActivateSkillPacket(this, wasTriggered));
+		}
+	}
+
+	/**
+	 * Reverts a client-side activation that the server rejected; unlike {@link #deactivate},
+	 * the server is not notified since the skill was never activated there. Anything already
+	 * sent to the server is not reverted; see {@link #allowPrediction}.
+	 */
+	public final void rollback(EntityPlayer player) {
+		if (isActive()) {
+			onDeactivated(player.getEntityWorld(), player);
+		}
+	}
+
 	/**
 	 * Forcefully deactivates a skill.
 	 * 
@@ -259,6 +320,7 @@ public abstract class SkillActive extends SkillBase
 					SkillActive.applyActivationSkillModifiers((SkillActive & IModifiableSkill) this, player);
 				}
 				postActivated(player);
+				CombatLog.logActivation(player, this);
 				return true;
 			}
 		} else if (level > 0) {
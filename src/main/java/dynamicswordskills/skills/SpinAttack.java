@@ -17,6 +17,7 @@
 
 package dynamicswordskills.skills;
 
+import java.util.Iterator;
 import java.util.List;
 import java.util.Set;
 
@@ -24,9 +25,10 @@ import com.google.common.base.Predicate;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Sets;
 
-import dynamicswordskills.DynamicSwordSkills;
 import dynamicswordskills.api.SkillGroup;
 import dynamicswordskills.client.DSSKeyHandler;
+import dynamicswordskills.client.Gesture;
+import dynamicswordskills.client.GestureRecognizer;
 import dynamicswordskills.entity.DSSPlayerInfo;
 import dynamicswordskills.entity.DirtyEntityAccessor;
 import dynamicswordskills.ref.Config;
@@ -42,7 +44,8 @@ import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.util.EntitySelectors;
 import net.minecraft.util.EnumParticleTypes;
 import net.minecraft.util.SoundCategory;
-import net.minecraft.util.math.Vec3d;
+import net.minecraft.util.math.AxisAlignedBB;
+import net.minecraft.util.math.MathHelper;
 import net.minecraft.util.text.TextComponentTranslation;
 import net.minecraft.world.World;
 import net.minecraftforge.fml.relauncher.Side;
@@ -70,6 +73,9 @@ public class SpinAttack extends SkillActive implements IModifiableSkill, IReachA
 	/** Current spin progress is incremented each tick and signals that the skill is active */
 	private float currentSpin;
 
+	/** Spin progress as of the previous tick, used to interpolate the camera and to sweep for targets */
+	private float prevSpin;
+
 	/** Number of degrees to spin and used as flag for isActive(); incremented by 360F each time spin is refreshed */
 	private float arc;
 
@@ -80,6 +86,20 @@ public class SpinAttack extends SkillActive implements IModifiableSkill, IReachA
 	@SideOnly(Side.CLIENT)
 	private boolean clockwise;
 
+	/** Player's yaw when the skill was activated, used on the client only; spin progress is relative to this */
+	private float startYaw;
+
+	/** Interpolated spin progress already applied to the player's yaw by {@link #onRenderTick}, used on the client only */
+	private float appliedSpin;
+
+	/** Activation chord of the additional left and right keys, built once as the key bindings never change */
+	@SideOnly(Side.CLIENT)
+	private static Gesture keyChord;
+
+	/** Activation chord of either the additional or the vanilla left and right keys */
+	@SideOnly(Side.CLIENT)
+	private static Gesture keyOrVanillaChord;
+
 	/** Entities within range upon activation so no entity targeted more than once */
 	@SideOnly(Side.CLIENT)
 	private List<EntityLivingBase> targets;
@@ -194,9 +214,12 @@ public class SpinAttack extends SkillActive implements IModifiableSkill, IReachA
 	 */
 	@SideOnly(Side.CLIENT)
 	private boolean isKeyPressed() {
-		return (DSSKeyHandler.keys[DSSKeyHandler.KEY_LEFT].isKeyDown() && DSSKeyHandler.keys[DSSKeyHandler.KEY_RIGHT].isKeyDown())
-				|| (Config.allowVanillaControls() && (Minecraft.getMinecraft().gameSettings.keyBindLeft.isKeyDown()
-						&& Minecraft.getMinecraft().gameSettings.keyBindRight.isKeyDown()));
+		if (keyChord == null) {
+			Minecraft mc = Minecraft.getMinecraft();
+			keyChord = Gesture.chord(DSSKeyHandler.keys[DSSKeyHandler.KEY_LEFT].getKey(), DSSKeyHandler.keys[DSSKeyHandler.KEY_RIGHT].getKey());
+			keyOrVanillaChord = keyChord.or(Gesture.chord(mc.gameSettings.keyBindLeft, mc.gameSettings.keyBindRight));
+		}
+		return GestureRecognizer.INSTANCE.matches(Config.allowVanillaControls() ? keyOrVanillaChord : keyChord);
 	}
 
 	@Override
@@ -209,6 +232,13 @@ public class SpinAttack extends SkillActive implements IModifiableSkill, IReachA
 				key == DSSKeyHandler.keys[DSSKeyHandler.KEY_LEFT].getKey() || key == DSSKeyHandler.keys[DSSKeyHandler.KEY_RIGHT].getKey());
 	}
 
+	@Override
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return (key == mc.gameSettings.keyBindLeft || key == mc.gameSettings.keyBindRight ||
+				key == DSSKeyHandler.keys[DSSKeyHandler.KEY_LEFT].getKey() || key == DSSKeyHandler.keys[DSSKeyHandler.KEY_RIGHT].getKey());
+	}
+
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean keyPressed(Minecraft mc, KeyBinding key, EntityPlayer player) {
@@ -223,6 +253,11 @@ public class SpinAttack extends SkillActive implements IModifiableSkill, IReachA
 	@Override
 	protected boolean onActivated(World world, EntityPlayer player) {
 		currentSpin = 0.0F;
+		prevSpin = 0.0F;
+		if (world.isRemote) {
+			startYaw = player.rotationYaw;
+			appliedSpin = 0.0F;
+		}
 		arc = 360F;
 		refreshed = 0;
 		superLevel = 0;
@@ -250,6 +285,7 @@ public class SpinAttack extends SkillActive implements IModifiableSkill, IReachA
 	protected void onDeactivated(World world, EntityPlayer player) {
 		charge = 0;
 		currentSpin = 0.0F;
+		prevSpin = 0.0F;
 		arc = 0.0F;
 		DSSPlayerInfo.get(player).setArmSwingProgress(0.0F, 0.0F);
 		IComboSkill combo = DSSPlayerInfo.get(player).getComboSkill();
@@ -289,31 +325,73 @@ public class SpinAttack extends SkillActive implements IModifiableSkill, IReachA
 		}
 	}
 
+	/**
+	 * Only interpolates the camera between ticks; targets are attacked from {@link #incrementSpin}.
+	 * Only the spin since the previous frame is added, so the player can still turn with the mouse.
+	 */
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean onRenderTick(EntityPlayer player, float partialTickTime) {
 		if (PlayerUtils.isWeapon(player.getHeldItemMainhand())) {
-			DirtyEntityAccessor.syncCurrentPlayItem(Minecraft.getMinecraft().playerController);
-			if (!player.isSpectator()) {
-				attackTargetsInSight(player);
-			}
-			spawnParticles(player);
 			DSSPlayerInfo.get(player).setArmSwingProgress(0.5F, 0.5F);
-			float fps = (DynamicSwordSkills.BASE_FPS / (float) Minecraft.getDebugFPS());
-			float speed = fps * this.getSpinSpeed();
-			player.turn((clockwise ? speed: -speed), 0);
+			// Any turning since the previous frame moves the whole spin, so targets and particles follow the camera
+			startYaw += MathHelper.wrapDegrees(player.rotationYaw - getSpinYaw(appliedSpin));
+			float spin = prevSpin + (currentSpin - prevSpin) * partialTickTime;
+			if (spin > appliedSpin) {
+				float delta = (clockwise ? spin - appliedSpin : appliedSpin - spin);
+				player.rotationYaw += delta;
+				player.prevRotationYaw += delta;
+				appliedSpin = spin;
+			}
 		}
 		return true;
 	}
 
-	private void attackTargetsInSight(EntityPlayer player) {
-		List<EntityLivingBase> list = TargetUtils.acquireAllLookTargets(player, (int)(getRange() + 0.5F), 1.0D, getTargetSelectors());
-		for (EntityLivingBase target : list) {
-			if (targets != null && targets.contains(target)) {
-				IReachAttackSkill.multiAttack(Minecraft.getMinecraft(), target, this);
-				targets.remove(target);
+	/** Returns the yaw the player faces after spinning the given number of degrees */
+	@SideOnly(Side.CLIENT)
+	private float getSpinYaw(float spin) {
+		return startYaw + (clockwise ? spin : -spin);
+	}
+
+	/**
+	 * Attacks each remaining target from the snapshot taken in {@link #startSpin} whose
+	 * direction falls within the arc swept since the previous tick
+	 */
+	@SideOnly(Side.CLIENT)
+	private void attackTargetsInArc(EntityPlayer player) {
+		if (targets == null || targets.isEmpty() || player.isSpectator()) {
+			return;
+		}
+		float from = getSpinYaw(prevSpin);
+		float sweep = currentSpin - prevSpin;
+		double range = getRange();
+		AxisAlignedBB bounds = player.getEntityBoundingBox().grow(range);
+		List<Predicate<Entity>> filters = getTargetSelectors();
+		List<EntityLivingBase> hits = Lists.<EntityLivingBase>newArrayList();
+		for (Iterator<EntityLivingBase> iterator = targets.iterator(); iterator.hasNext();) {
+			EntityLivingBase target = iterator.next();
+			if (!bounds.intersects(target.getEntityBoundingBox()) || player.getDistanceSq(target) > range * range || !TargetUtils.isTargetValid(target, player, filters)) {
+				continue;
+			}
+			double dx = target.posX - player.posX;
+			double dz = target.posZ - player.posZ;
+			float yaw = (float)(MathHelper.atan2(dz, dx) * (180D / Math.PI)) - 90.0F;
+			float offset = (clockwise ? yaw - from : from - yaw) % 360.0F;
+			if (offset < 0.0F) {
+				offset += 360.0F;
+			}
+			// Allow for the target's width plus the 1 block radius used by the old look-based targeting
+			float margin = (float)(MathHelper.atan2((target.width / 2.0F) + 1.0D, Math.sqrt(dx * dx + dz * dz)) * (180D / Math.PI));
+			if ((offset <= sweep + margin || offset >= 360.0F - margin) && player.canEntityBeSeen(target)) {
+				hits.add(target);
+				iterator.remove();
 			}
 		}
+		if (!hits.isEmpty()) {
+			Minecraft mc = Minecraft.getMinecraft();
+			DirtyEntityAccessor.syncCurrentPlayItem(mc.playerController);
+			IReachAttackSkill.multiAttack(mc, hits, this);
+		}
 	}
 
 	/**
@@ -336,7 +414,7 @@ public class SpinAttack extends SkillActive implements IModifiableSkill, IReachA
 	private void startSpin(EntityPlayer player) {
 		++refreshed;
 		if (player.getEntityWorld().isRemote) {
-			targets = player.getEntityWorld().getEntitiesWithinAABB(EntityLivingBase.class, player.getEntityBoundingBox().grow(getRange(), 0.0D, getRange()), EntitySelectors.IS_ALIVE);
+			targets = player.getEntityWorld().getEntitiesWithinAABB(EntityLivingBase.class, player.getEntityBoundingBox().grow(getRange()), EntitySelectors.IS_ALIVE);
 			if (targets.contains(player)) {
 				targets.remove(player);
 			}
@@ -354,7 +432,12 @@ public class SpinAttack extends SkillActive implements IModifiableSkill, IReachA
 	private void incrementSpin(EntityPlayer player) {
 		// 0.15D is the multiplier from Entity.setAngles, but that is too little now that no longer in render tick
 		// 0.21D results in a near-perfect circle per spin at all levels
+		prevSpin = currentSpin;
 		currentSpin += getSpinSpeed() * 0.21D;
+		if (player.getEntityWorld().isRemote && PlayerUtils.isWeapon(player.getHeldItemMainhand())) {
+			attackTargetsInArc(player);
+			spawnParticles(player);
+		}
 		if (currentSpin >= arc) {
 			deactivate(player);
 		} else if (currentSpin > (360F * refreshed)) {
@@ -362,16 +445,23 @@ public class SpinAttack extends SkillActive implements IModifiableSkill, IReachA
 		}
 	}
 
+	/**
+	 * Spawns particles along the arc swept since the previous tick
+	 */
 	@SideOnly(Side.CLIENT)
 	private void spawnParticles(EntityPlayer player) {
 		// TODO these will not be seen by other players
 		EnumParticleTypes particle = (isFlaming ? EnumParticleTypes.FLAME : (superLevel > 0 ? EnumParticleTypes.CRIT_MAGIC : EnumParticleTypes.CRIT));
-		Vec3d vec3 = player.getLookVec();
-		double posX = player.posX + (vec3.x * getRange());
 		double posY = player.posY + player.getEyeHeight() - 0.1D;
-		double posZ = player.posZ + (vec3.z * getRange());
-		for (int i = 0; i < 2; ++i) {
-			player.getEntityWorld().spawnParticle(particle, posX, posY, posZ, vec3.x * 0.15D, 0.01D, vec3.z * 0.15D);
+		for (int i = 0; i < 3; ++i) {
+			float yaw = getSpinYaw(prevSpin + ((currentSpin - prevSpin) * i / 3.0F)) * 0.017453292F;
+			double dx = -MathHelper.sin(yaw);
+			double dz = MathHelper.cos(yaw);
+			double posX = player.posX + (dx * getRange());
+			double posZ = player.posZ + (dz * getRange());
+			for (int j = 0; j < 2; ++j) {
+				player.getEntityWorld().spawnParticle(particle, posX, posY, posZ, dx * 0.15D, 0.01D, dz * 0.15D);
+			}
 		}
 	}
 
@@ -173,9 +173,6 @@ public class SwordBasic extends SkillActive implements IComboSkill, ILockOnTarge
 				deactivate(player);
 			}
 		}
-		if (isComboInProgress()) {
-			combo.onUpdate(player);
-		}
 	}
 
 	@Override
@@ -205,6 +202,11 @@ public class SwordBasic extends SkillActive implements IComboSkill, ILockOnTarge
 		return currentTarget;
 	}
 
+	@Override
+	public double getLockOnRange() {
+		return getRange();
+	}
+
 	@Override
 	public void setCurrentTarget(EntityPlayer player, Entity entity) {
 		if (entity instanceof EntityLivingBase) {
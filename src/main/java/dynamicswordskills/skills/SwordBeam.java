@@ -25,6 +25,7 @@ import dynamicswordskills.entity.EntitySwordBeam;
 import dynamicswordskills.ref.Config;
 import dynamicswordskills.ref.ModSounds;
 import dynamicswordskills.util.PlayerUtils;
+import dynamicswordskills.util.TimingWheel;
 import net.minecraft.client.Minecraft;
 import net.minecraft.client.settings.KeyBinding;
 import net.minecraft.entity.SharedMonsterAttributes;
@@ -54,7 +55,7 @@ import net.minecraftforge.fml.relauncher.SideOnly;
 public class SwordBeam extends SkillActive
 {
 	/** Used to end combo if the sword beam fails to strike a target */
-	private int missTimer;
+	private TimingWheel.Timer missTimer;
 
 	public SwordBeam(String translationKey) {
 		super(translationKey);
@@ -136,6 +137,12 @@ public class SwordBeam extends SkillActive
 		return key == mc.gameSettings.keyBindAttack;
 	}
 
+	@Override
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return key == mc.gameSettings.keyBindAttack;
+	}
+
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean keyPressed(Minecraft mc, KeyBinding key, EntityPlayer player) {
@@ -148,7 +155,7 @@ public class SwordBeam extends SkillActive
 			// Base attack strength calculation from EntityPlayer#attackTargetEntityWithCurrentItem
 			float str = player.getCooledAttackStrength(0.5F);
 			float dmg = getDamage(player) * (0.2F + str * str * 0.8F);
-			missTimer = 12 + level;
+			startMissTimer(player, 12 + level);
 			PlayerUtils.playSoundAtEntity(world, player, ModSounds.WHOOSH, SoundCategory.PLAYERS, 0.4F, 0.5F);
 			EntitySwordBeam beam = new EntitySwordBeam(world, player).setLevel(level).setDamage(dmg);
 			beam.shoot(player, player.rotationPitch, player.rotationYaw, 0.0F, beam.getVelocity(), 1.0F);
@@ -163,20 +170,20 @@ public class SwordBeam extends SkillActive
 
 	@Override
 	protected void onDeactivated(World world, EntityPlayer player) {
-		missTimer = 0;
+		missTimer = TimingWheel.cancel(missTimer);
 	}
 
-	@Override
-	public void onUpdate(EntityPlayer player) {
-		if (missTimer > 0) {
-			--missTimer;
-			if (missTimer == 0 && !player.getEntityWorld().isRemote) {
-				IComboSkill combo = DSSPlayerInfo.get(player).getComboSkill();
-				if (combo != null && combo.isComboInProgress()) {
-					combo.getCombo().endCombo(player);
-				}
+	/**
+	 * Ends the player's combo after the given number of ticks unless the beam strikes a target first
+	 */
+	private void startMissTimer(EntityPlayer player, int ticks) {
+		TimingWheel.cancel(missTimer);
+		missTimer = TimingWheel.get(player.getEntityWorld()).schedule(ticks, () -> {
+			IComboSkill combo = (player.isDead ? null : DSSPlayerInfo.get(player).getComboSkill());
+			if (combo != null && combo.isComboInProgress()) {
+				combo.getCombo().endCombo(player);
 			}
-		}
+		});
 	}
 
 	/**
@@ -185,6 +192,10 @@ public class SwordBeam extends SkillActive
 	 * @param hitBlock true if sword beam hit a block rather than an entity
 	 */
 	public void onImpact(EntityPlayer player, boolean hitBlock) {
-		missTimer = (hitBlock && missTimer > 0 ? 1 : 0);
+		if (hitBlock && TimingWheel.isPending(missTimer)) {
+			startMissTimer(player, 1);
+		} else {
+			missTimer = TimingWheel.cancel(missTimer);
+		}
 	}
 }
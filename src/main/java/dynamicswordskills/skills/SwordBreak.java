@@ -21,6 +21,8 @@ import java.util.List;
 
 import dynamicswordskills.api.SkillGroup;
 import dynamicswordskills.client.DSSKeyHandler;
+import dynamicswordskills.client.Gesture;
+import dynamicswordskills.client.GestureRecognizer;
 import dynamicswordskills.ref.Config;
 import dynamicswordskills.ref.ModSounds;
 import dynamicswordskills.util.PlayerUtils;
@@ -58,16 +60,16 @@ public class SwordBreak extends SkillActive
 	/** Timer during which player is considered actively parrying */
 	private int breakTimer;
 
-	/** Counter incremented when next correct key in sequence pressed; reset when activated or if ticksTilFail timer reaches 0 */
-	@SideOnly(Side.CLIENT)
-	private int keysPressed;
+	/** Notification to play miss sound; set to true when activated and false when attack parried */
+	private boolean playMissSound;
 
-	/** Reset each valid key press until executed; if timer reaches 0, full key sequence must be repeated */
+	/** Activation gesture, rebuilt when the client settings change */
 	@SideOnly(Side.CLIENT)
-	private int ticksTilFail;
+	private static Gesture gesture;
 
-	/** Notification to play miss sound; set to true when activated and false when attack parried */
-	private boolean playMissSound;
+	/** {@link Config#getClientVersion()} as of the last time the {@link #gesture} was built */
+	@SideOnly(Side.CLIENT)
+	private static int gestureVersion;
 
 	public SwordBreak(String translationKey) {
 		super(translationKey);
@@ -136,7 +138,24 @@ public class SwordBreak extends SkillActive
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean canExecute(EntityPlayer player) {
-		return canUse(player) && keysPressed > 1 && ticksTilFail > 0;
+		return canUse(player) && GestureRecognizer.INSTANCE.matches(getGesture(Minecraft.getMinecraft()));
+	}
+
+	/**
+	 * Double-tap 'forward' followed by 'use item', or tap the additional 'forward' key once if double-tap is not required
+	 */
+	@SideOnly(Side.CLIENT)
+	private Gesture getGesture(Minecraft mc) {
+		if (gesture == null || gestureVersion != Config.getClientVersion()) {
+			KeyBinding forward = DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey();
+			KeyBinding[] forwardKeys = (Config.allowVanillaControls() ? new KeyBinding[] {forward, mc.gameSettings.keyBindForward} : new KeyBinding[] {forward});
+			gesture = Gesture.sequence(forwardKeys, forwardKeys, new KeyBinding[] {mc.gameSettings.keyBindUseItem}).withinGap(KEY_WINDOW);
+			if (!Config.requiresDoubleTap()) {
+				gesture = gesture.or(Gesture.sequence(forward, mc.gameSettings.keyBindUseItem).withinGap(KEY_WINDOW));
+			}
+			gestureVersion = Config.getClientVersion();
+		}
+		return gesture;
 	}
 
 	@Override
@@ -148,25 +167,18 @@ public class SwordBreak extends SkillActive
 		return true;
 	}
 
+	@Override
+	@SideOnly(Side.CLIENT)
+	public boolean canListenForKey(Minecraft mc, KeyBinding key) {
+		return key == mc.gameSettings.keyBindUseItem;
+	}
+
 	@Override
 	@SideOnly(Side.CLIENT)
 	public boolean keyPressed(Minecraft mc, KeyBinding key, EntityPlayer player) {
-		if ((Config.allowVanillaControls() && key == mc.gameSettings.keyBindForward) || key == DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey()) {
-			ticksTilFail = 6;
-			if (keysPressed < 2) {
-				if (!Config.requiresDoubleTap() && key == DSSKeyHandler.keys[DSSKeyHandler.KEY_FORWARD].getKey()) {
-					keysPressed++;
-				}
-				keysPressed++;
-			}
-		} else if (key == mc.gameSettings.keyBindUseItem) {
-			boolean flag = (canExecute(player) && activate(player));
-			ticksTilFail = 0;
-			keysPressed = 0;
-			return flag;
-		} else {
-			ticksTilFail = 0;
-			keysPressed = 0;
+		if (key == mc.gameSettings.keyBindUseItem && canExecute(player) && activate(player)) {
+			GestureRecognizer.INSTANCE.consume();
+			return true;
 		}
 		return false;
 	}
@@ -195,11 +207,6 @@ public class SwordBreak extends SkillActive
 				playMissSound = false;
 				PlayerUtils.playSoundAtEntity(player.getEntityWorld(), player, ModSounds.SWORD_MISS, SoundCategory.PLAYERS, 0.4F, 0.5F);
 			}
-		} else if (player.getEntityWorld().isRemote && ticksTilFail > 0) {
-			--ticksTilFail;
-			if (ticksTilFail < 1) {
-				keysPressed = 0;
-			}
 		}
 	}
 
@@ -0,0 +1,139 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+
+import javax.annotation.Nullable;
+
+import com.google.common.collect.ImmutableList;
+
+/**
+ *
+ * Immutable weighted random selection using Walker's alias method (Vose's variant):
+ * each sample costs a single random draw regardless of the number of values.
+ *
+ */
+public final class AliasTable<T>
+{
+	private static final AliasTable<?> EMPTY = new AliasTable<Object>(ImmutableList.of(), new double[0], new int[0]);
+
+	private final List<T> values;
+
+	/** Probability of returning the value in each column rather than its alias */
+	private final double[] probability;
+
+	/** Index of the alternate value for each column */
+	private final int[] alias;
+
+	private AliasTable(List<T> values, double[] probability, int[] alias) {
+		this.values = values;
+		this.probability = probability;
+		this.alias = alias;
+	}
+
+	@SuppressWarnings("unchecked")
+	public static <T> AliasTable<T> empty() {
+		return (AliasTable<T>) EMPTY;
+	}
+
+	/**
+	 * Creates a table from the given values; values whose weight is not positive are never selected
+	 */
+	public static <T> AliasTable<T> of(Iterable<T> candidates, ToDoubleFunction<T> weigher) {
+		List<T> values = new ArrayList<T>();
+		List<Double> weights = new ArrayList<Double>();
+		double total = 0.0D;
+		for (T value : candidates) {
+			double weight = weigher.applyAsDouble(value);
+			if (weight > 0.0D) {
+				values.add(value);
+				weights.add(weight);
+				total += weight;
+			}
+		}
+		int n = values.size();
+		if (n == 0) {
+			return empty();
+		}
+		// Scale weights so that the average is 1, then pair each under-full column with an over-full one
+		double[] scaled = new double[n];
+		int[] small = new int[n];
+		int[] large = new int[n];
+		int s = 0, l = 0;
+		for (int i = 0; i < n; ++i) {
+			scaled[i] = weights.get(i) * n / total;
+			if (scaled[i] < 1.0D) {
+				small[s++] = i;
+			} else {
+				large[l++] = i;
+			}
+		}
+		double[] probability = new double[n];
+		int[] alias = new int[n];
+		while (s > 0 && l > 0) {
+			int less = small[--s];
+			int more = large[--l];
+			probability[less] = scaled[less];
+			alias[less] = more;
+			scaled[more] = (scaled[more] + scaled[less]) - 1.0D;
+			if (scaled[more] < 1.0D) {
+				small[s++] = more;
+			} else {
+				large[l++] = more;
+			}
+		}
+		// Any remaining columns are full, barring rounding error
+		while (l > 0) {
+			probability[large[--l]] = 1.0D;
+		}
+		while (s > 0) {
+			probability[small[--s]] = 1.0D;
+		}
+		return new AliasTable<T>(ImmutableList.copyOf(values), probability, alias);
+	}
+
+	public boolean isEmpty() {
+		return this.values.isEmpty();
+	}
+
+	/**
+	 * Returns the values that may be selected, in their original order
+	 */
+	public List<T> getValues() {
+		return this.values;
+	}
+
+	/**
+	 * Returns a random value with probability proportional to its weight, or null if the table is empty
+	 */
+	@Nullable
+	public T sample(Random rand) {
+		int n = this.values.size();
+		if (n == 0) {
+			return null;
+		}
+		// One draw selects both the column and the biased coin flip within it
+		double d = rand.nextDouble() * n;
+		int i = Math.min((int) d, n - 1);
+		return this.values.get((d - i) < this.probability[i] ? i : this.alias[i]);
+	}
+}
@@ -0,0 +1,360 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.util;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.text.SimpleDateFormat;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import javax.annotation.Nullable;
+
+import dynamicswordskills.DynamicSwordSkills;
+import dynamicswordskills.entity.DSSPlayerInfo;
+import dynamicswordskills.ref.Config;
+import dynamicswordskills.ref.ModInfo;
+import dynamicswordskills.skills.IComboSkill;
+import dynamicswordskills.skills.SkillBase;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityList;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.util.ResourceLocation;
+
+/**
+ *
+ * Server-side record of skill activations, hits and parries for balancing analysis, written as CSV
+ * files to the server's logs directory when enabled in the config.
+ *
+ * Events are copied into a fixed-size ring buffer on the server thread and written by a background
+ * thread, so recording an event never allocates, waits on the writer, or touches the disk. If the
+ * writer falls behind and the buffer fills up, further events are dropped and counted; the count is
+ * written to the log as a 'dropped' event once there is room again.
+ *
+ * Each file is started anew once it reaches the configured size, and only the configured number
+ * of most recent files is kept.
+ *
+ */
+public final class CombatLog
+{
+	private static final String FILE_PREFIX = ModInfo.ID + "_combat-";
+
+	private static final String HEADER = "time,event,player,skill,level,damage_before,damage_after,combo_size,target,outcome";
+
+	/** How long the writer waits for more events once the buffer is empty */
+	private static final long WRITE_INTERVAL = TimeUnit.MILLISECONDS.toNanos(250);
+
+	private static final byte ACTIVATE = 0, HIT = 1, PARRY = 2, DISARM = 3;
+
+	private static final String[] EVENT_NAMES = {"activate", "hit", "parry", "parry"};
+
+	private static final String[] OUTCOMES = {"", "", "parried", "disarmed"};
+
+	/** Current log, or null when not logging */
+	private static volatile CombatLog instance;
+
+	/** Directory in which log files are written, set when the server starts */
+	private static File directory;
+
+	private final int mask;
+
+	// Events are stored in parallel arrays so that recording one only writes primitives and existing references
+	private final long[] times;
+	private final byte[] events;
+	private final String[] players;
+	private final ResourceLocation[] skills;
+	private final byte[] levels;
+	private final float[] damageBefore;
+	private final float[] damageAfter;
+	private final int[] comboSizes;
+	private final Object[] targets;
+
+	/** Number of events recorded; only written by the server thread */
+	private final AtomicLong head = new AtomicLong();
+
+	/** Number of events written; only written by the writer thread */
+	private final AtomicLong tail = new AtomicLong();
+
+	/** Total number of events dropped because the buffer was full; only written by the server thread */
+	private final AtomicLong dropped = new AtomicLong();
+
+	private final Thread writer;
+
+	private final File dir;
+
+	private volatile boolean running = true;
+
+	private CombatLog(File dir, int capacity) {
+		this.dir = dir;
+		this.mask = capacity - 1;
+		this.times = new long[capacity];
+		this.events = new byte[capacity];
+		this.players = new String[capacity];
+		this.skills = new ResourceLocation[capacity];
+		this.levels = new byte[capacity];
+		this.damageBefore = new float[capacity];
+		this.damageAfter = new float[capacity];
+		this.comboSizes = new int[capacity];
+		this.targets = new Object[capacity];
+		this.writer = new Thread(this::run, "DSS Combat Log");
+		this.writer.setDaemon(true);
+	}
+
+	/**
+	 * Sets the directory in which to write log files and starts logging if enabled; call when the server starts
+	 */
+	public static void start(File logsDir) {
+		directory = logsDir;
+		refresh();
+	}
+
+	/**
+	 * Starts or stops logging to match the current server settings; call after the settings change
+	 */
+	public static void refresh() {
+		CombatLog log = instance;
+		boolean enabled = Config.isCombatLogEnabled() && directory != null;
+		if (log != null && (!enabled || log.mask + 1 != Config.getCombatLogBufferSize())) {
+			stop();
+			log = null;
+		}
+		if (enabled && log == null) {
+			instance = new CombatLog(directory, Config.getCombatLogBufferSize());
+			instance.writer.start();
+		}
+	}
+
+	/**
+	 * Stops logging, writing any remaining events; call when the server stops
+	 */
+	public static void stop() {
+		CombatLog log = instance;
+		instance = null;
+		if (log != null) {
+			log.running = false;
+			LockSupport.unpark(log.writer);
+			try {
+				log.writer.join(TimeUnit.SECONDS.toMillis(5));
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * Records the activation of a skill
+	 */
+	public static void logActivation(EntityPlayer player, SkillBase skill) {
+		CombatLog log = instance;
+		if (log != null && !player.getEntityWorld().isRemote) {
+			log.record(ACTIVATE, player, skill, 0.0F, 0.0F, null);
+		}
+	}
+
+	/**
+	 * Records a skill's modification of the damage dealt to a target
+	 * @param before Damage before the skill's {@link dynamicswordskills.skills.SkillActive#onImpact onImpact}
+	 * @param after  Damage returned from onImpact
+	 */
+	public static void logHit(EntityPlayer player, SkillBase skill, Entity target, float before, float after) {
+		CombatLog log = instance;
+		if (log != null && !player.getEntityWorld().isRemote) {
+			log.record(HIT, player, skill, before, after, target);
+		}
+	}
+
+	/**
+	 * Records an attack parried by a skill
+	 * @param disarmed True if the attacker was disarmed
+	 */
+	public static void logParry(EntityPlayer player, SkillBase skill, Entity attacker, boolean disarmed) {
+		CombatLog log = instance;
+		if (log != null && !player.getEntityWorld().isRemote) {
+			log.record(disarmed ? DISARM : PARRY, player, skill, 0.0F, 0.0F, attacker);
+		}
+	}
+
+	private void record(byte event, EntityPlayer player, SkillBase skill, float before, float after, @Nullable Entity target) {
+		long h = this.head.get();
+		if (h - this.tail.get() > this.mask) {
+			this.dropped.lazySet(this.dropped.get() + 1);
+			return;
+		}
+		int i = (int) h & this.mask;
+		IComboSkill combo = DSSPlayerInfo.get(player).getComboSkill();
+		this.times[i] = System.currentTimeMillis();
+		this.events[i] = event;
+		this.players[i] = player.getName();
+		this.skills[i] = skill.getRegistryName();
+		this.levels[i] = skill.getLevel();
+		this.damageBefore[i] = before;
+		this.damageAfter[i] = after;
+		this.comboSizes[i] = (combo == null ? 0 : combo.getCombo().getNumHits());
+		this.targets[i] = getTargetType(target);
+		// Publish the event only once all of its fields have been written
+		this.head.lazySet(h + 1);
+	}
+
+	@Nullable
+	private static Object getTargetType(@Nullable Entity target) {
+		if (target == null) {
+			return null;
+		} else if (target instanceof EntityPlayer) {
+			return "player";
+		}
+		Object type = EntityList.getKey(target);
+		return (type == null ? target.getClass().getName() : type);
+	}
+
+	/**
+	 * Writes events until logging is stopped
+	 */
+	private void run() {
+		LogFile file = null;
+		long written = 0;
+		try {
+			if (!this.dir.isDirectory() && !this.dir.mkdirs()) {
+				throw new IOException("Could not create " + this.dir);
+			}
+			file = new LogFile(this.dir);
+			boolean stopping = false;
+			while (!stopping) {
+				stopping = !this.running;
+				long h = this.head.get();
+				long t = this.tail.get();
+				if (t == h) {
+					file.out.flush();
+					if (!stopping) {
+						LockSupport.parkNanos(this, WRITE_INTERVAL);
+					}
+					continue;
+				}
+				for (; t < h; ++t) {
+					if (file.size >= Config.getCombatLogFileSize()) {
+						file.close();
+						file = new LogFile(this.dir);
+					}
+					file.write(this, (int) t & this.mask);
+					// Release references promptly so that the buffer does not hold on to anything
+					this.targets[(int) t & this.mask] = null;
+					this.tail.lazySet(t + 1);
+				}
+				long d = this.dropped.get();
+				if (d > written) {
+					file.writeDropped(d - written);
+					written = d;
+				}
+			}
+		} catch (IOException e) {
+			DynamicSwordSkills.logger.error("Combat log stopped after failing to write to " + this.dir, e);
+		} finally {
+			if (file != null) {
+				try {
+					file.close();
+				} catch (IOException e) {
+					DynamicSwordSkills.logger.error("Failed to close combat log file", e);
+				}
+			}
+		}
+		// Nothing more will be written, so drop any further events rather than filling the buffer
+		if (instance == this) {
+			instance = null;
+		}
+	}
+
+	/**
+	 *
+	 * An open log file; only used by the writer thread
+	 *
+	 */
+	private static final class LogFile
+	{
+		private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("yyyyMMdd-HHmmss");
+
+		private static int counter;
+
+		private final Writer out;
+
+		/** Approximate number of bytes written, counting each character as one byte */
+		private long size;
+
+		private LogFile(File dir) throws IOException {
+			File file = new File(dir, FILE_PREFIX + DATE_FORMAT.format(new Date()) + String.format("-%04d.csv", counter++ % 10000));
+			this.out = Files.newBufferedWriter(file.toPath(), StandardCharsets.UTF_8);
+			this.writeLine(HEADER);
+			deleteOldFiles(dir);
+		}
+
+		private void write(CombatLog log, int i) throws IOException {
+			StringBuilder sb = new StringBuilder(96);
+			sb.append(log.times[i]).append(',');
+			sb.append(EVENT_NAMES[log.events[i]]).append(',');
+			sb.append(log.players[i]).append(',');
+			sb.append(log.skills[i]).append(',');
+			sb.append(log.levels[i]).append(',');
+			if (log.events[i] == HIT) {
+				sb.append(log.damageBefore[i]).append(',');
+				sb.append(log.damageAfter[i]).append(',');
+			} else {
+				sb.append(",,");
+			}
+			sb.append(log.comboSizes[i]).append(',');
+			if (log.targets[i] != null) {
+				sb.append(log.targets[i]);
+			}
+			sb.append(',').append(OUTCOMES[log.events[i]]);
+			this.writeLine(sb.toString());
+		}
+
+		private void writeDropped(long count) throws IOException {
+			this.writeLine(System.currentTimeMillis() + ",dropped,,,,,,,," + count);
+		}
+
+		private void writeLine(String line) throws IOException {
+			this.out.write(line);
+			this.out.write('\n');
+			this.size += line.length() + 1;
+		}
+
+		private void close() throws IOException {
+			this.out.close();
+		}
+
+		/**
+		 * Deletes the oldest log files beyond the number to keep; file names sort by creation time
+		 */
+		private static void deleteOldFiles(File dir) {
+			File[] files = dir.listFiles((d, name) -> name.startsWith(FILE_PREFIX) && name.endsWith(".csv"));
+			if (files == null || files.length <= Config.getCombatLogFiles()) {
+				return;
+			}
+			Arrays.sort(files);
+			for (int i = 0; i < files.length - Config.getCombatLogFiles(); ++i) {
+				if (!files[i].delete()) {
+					DynamicSwordSkills.logger.warn("Failed to delete old combat log file " + files[i]);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,220 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import dynamicswordskills.entity.DSSPlayerInfo;
+import dynamicswordskills.skills.ILockOnTarget;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+import net.minecraftforge.fml.common.FMLCommonHandler;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
+
+/**
+ *
+ * Server-side validation of each player's {@link ILockOnTarget} target, which is otherwise chosen
+ * entirely by the client: a target must be alive, visible, in the same world and within range of
+ * the skill, and the player must be facing it.
+ *
+ * A lock-on is only broken once it has been invalid for {@link #GRACE_TICKS} consecutive ticks
+ * on the same target, so that the client has time to turn back towards the target or, when the
+ * target dies or moves out of range, to pick the next one via its auto-targeting and send the
+ * {@link dynamicswordskills.network.server.TargetIdPacket TargetIdPacket} for it.
+ *
+ * At the end of each server tick, the positions and state of every locked-on player and target are
+ * copied into immutable snapshots, which are then checked in parallel on the common fork-join pool;
+ * only the lock-ons found to be invalid are changed, back on the server thread.
+ *
+ * Line of sight is approximated by the player's facing, since a lock-on keeps the player turned
+ * towards the target; tracing through the world's blocks is not safe off the server thread.
+ *
+ */
+public class LockOnValidator
+{
+	/** Distance allowed beyond the skill's range, as the server sees positions a little later than the client */
+	private static final double RANGE_TOLERANCE = 2.0D;
+
+	/** Cosine of the widest angle allowed between the player's look vector and the direction to the target */
+	private static final double MIN_FACING = 0.5D;
+
+	/** Targets within this distance squared are not checked for facing, as the direction to them changes too quickly */
+	private static final double FACING_MIN_DISTANCE_SQ = 4.0D;
+
+	/** Number of consecutive ticks a lock-on may be invalid, e.g. facing away or on a dead target, before it is broken */
+	private static final int GRACE_TICKS = 10;
+
+	/** Fewer lock-ons than this are checked on the server thread, as splitting them up would cost more than it saves */
+	private static final int PARALLEL_THRESHOLD = 64;
+
+	private static final byte VALID = 0, INVALID = 1, FACING_AWAY = 2;
+
+	/** Each player whose lock-on was invalid as of the last tick, and for how long */
+	private static Map<EntityPlayer, Grace> invalid = new HashMap<EntityPlayer, Grace>();
+
+	/**
+	 * Returns true if the target may be locked on to, ignoring the player's facing
+	 * as they may not have had time to turn towards a newly selected target
+	 */
+	public static boolean isValidTarget(EntityPlayer player, ILockOnTarget skill, Entity target) {
+		return new LockOn(player, skill, target).validate() != INVALID;
+	}
+
+	/**
+	 * Checks every player's current lock-on, breaking those that are no longer valid
+	 */
+	private static void validateAll(MinecraftServer server) {
+		List<LockOn> lockOns = new ArrayList<LockOn>();
+		for (EntityPlayerMP player : server.getPlayerList().getPlayers()) {
+			ILockOnTarget skill = DSSPlayerInfo.get(player).getTargetingSkill();
+			if (skill != null && skill.isLockedOn()) {
+				lockOns.add(new LockOn(player, skill, skill.getCurrentTarget()));
+			}
+		}
+		int n = lockOns.size();
+		if (n == 0) {
+			invalid.clear();
+			return;
+		}
+		// Each task only reads its own snapshot and writes its own result
+		byte[] results = new byte[n];
+		IntStream indices = IntStream.range(0, n);
+		(n < PARALLEL_THRESHOLD ? indices : indices.parallel()).forEach(i -> results[i] = lockOns.get(i).validate());
+		// Only players still invalid on the same target this tick carry their count over, so a new target always starts afresh
+		Map<EntityPlayer, Grace> stillInvalid = new HashMap<EntityPlayer, Grace>();
+		for (int i = 0; i < n; ++i) {
+			LockOn lockOn = lockOns.get(i);
+			if (results[i] == VALID) {
+				continue;
+			}
+			Grace grace = invalid.get(lockOn.player);
+			int ticks = (grace != null && grace.target == lockOn.target ? grace.ticks + 1 : 1);
+			if (ticks <= GRACE_TICKS) {
+				stillInvalid.put(lockOn.player, new Grace(lockOn.target, ticks));
+			} else {
+				lockOn.skill.setCurrentTarget(lockOn.player, null);
+			}
+		}
+		invalid = stillInvalid;
+	}
+
+	/**
+	 *
+	 * Immutable snapshot of a player's lock-on, taken on the server thread
+	 *
+	 */
+	private static final class LockOn
+	{
+		private final EntityPlayer player;
+		private final ILockOnTarget skill;
+		/** Only compared by identity, never accessed off the server thread */
+		private final Entity target;
+		private final boolean targetable;
+		private final double range;
+		private final double eyeX, eyeY, eyeZ;
+		private final float yaw, pitch;
+		/** Center of the target's bounding box */
+		private final double targetX, targetY, targetZ;
+
+		private LockOn(EntityPlayer player, ILockOnTarget skill, Entity target) {
+			this.player = player;
+			this.skill = skill;
+			this.target = target;
+			this.targetable = target instanceof EntityLivingBase
+					&& !target.isDead && ((EntityLivingBase) target).getHealth() > 0.0F
+					&& !target.isInvisible() && target.getEntityWorld() == player.getEntityWorld();
+			this.range = skill.getLockOnRange() + RANGE_TOLERANCE;
+			this.eyeX = player.posX;
+			this.eyeY = player.posY + player.getEyeHeight();
+			this.eyeZ = player.posZ;
+			this.yaw = player.rotationYaw;
+			this.pitch = player.rotationPitch;
+			this.targetX = (target.getEntityBoundingBox().minX + target.getEntityBoundingBox().maxX) / 2.0D;
+			this.targetY = (target.getEntityBoundingBox().minY + target.getEntityBoundingBox().maxY) / 2.0D;
+			this.targetZ = (target.getEntityBoundingBox().minZ + target.getEntityBoundingBox().maxZ) / 2.0D;
+		}
+
+		/**
+		 * Checks the lock-on using only the snapshot, so it may be called from any thread
+		 */
+		private byte validate() {
+			if (!this.targetable) {
+				return INVALID;
+			}
+			double dx = this.targetX - this.eyeX;
+			double dy = this.targetY - this.eyeY;
+			double dz = this.targetZ - this.eyeZ;
+			double distanceSq = dx * dx + dy * dy + dz * dz;
+			if (distanceSq > this.range * this.range) {
+				return INVALID;
+			} else if (distanceSq < FACING_MIN_DISTANCE_SQ) {
+				return VALID;
+			}
+			// Same look vector as Entity#getVectorForRotation
+			double yaw = Math.toRadians(-this.yaw) - Math.PI;
+			double pitch = Math.toRadians(-this.pitch);
+			double horizontal = -Math.cos(pitch);
+			double lookX = Math.sin(yaw) * horizontal;
+			double lookY = Math.sin(pitch);
+			double lookZ = Math.cos(yaw) * horizontal;
+			double facing = (lookX * dx + lookY * dy + lookZ * dz) / Math.sqrt(distanceSq);
+			return (facing < MIN_FACING ? FACING_AWAY : VALID);
+		}
+	}
+
+	/**
+	 *
+	 * Number of consecutive ticks a player's lock-on has been invalid on the given target
+	 *
+	 */
+	private static final class Grace
+	{
+		private final Entity target;
+		private final int ticks;
+
+		private Grace(Entity target, int ticks) {
+			this.target = target;
+			this.ticks = ticks;
+		}
+	}
+
+	/**
+	 * Validates all lock-ons at the end of each server tick
+	 */
+	public static class TickHandler
+	{
+		@SubscribeEvent
+		public void onServerTick(ServerTickEvent event) {
+			if (event.phase == Phase.END) {
+				MinecraftServer server = FMLCommonHandler.instance().getMinecraftServerInstance();
+				if (server != null) {
+					validateAll(server);
+				}
+			}
+		}
+	}
+}
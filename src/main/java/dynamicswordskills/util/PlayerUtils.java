@@ -56,7 +56,8 @@ public class PlayerUtils
 	}
 
 	/**
-	 * Copy of SwordSkillsAPI v1.5+ {@link WeaponRegistry#isSword(ItemStack} for backwards compatibility
+	 * Copy of SwordSkillsAPI v1.5+ {@link WeaponRegistry#isSword(ItemStack} for backwards compatibility,
+	 * using the {@link WeaponCache} for items that are not {@link IWeapon}s
 	 */
 	public static boolean isSword(ItemStack stack) {
 		if (stack.isEmpty()) {
@@ -64,11 +65,12 @@ public class PlayerUtils
 		} else if (stack.getItem() instanceof IWeapon) {
 			return ((IWeapon) stack.getItem()).isSword(stack);
 		}
-		return WeaponRegistry.INSTANCE.isSword(stack.getItem());
+		return WeaponCache.isSword(stack.getItem());
 	}
 
 	/**
-	 * Copy of SwordSkillsAPI v1.5+ {@link WeaponRegistry#isWeapon(ItemStack} for backwards compatibility
+	 * Copy of SwordSkillsAPI v1.5+ {@link WeaponRegistry#isWeapon(ItemStack} for backwards compatibility,
+	 * using the {@link WeaponCache} for items that are not {@link IWeapon}s
 	 */
 	public static boolean isWeapon(ItemStack stack) {
 		if (stack.isEmpty()) {
@@ -76,7 +78,7 @@ public class PlayerUtils
 		} else if (stack.getItem() instanceof IWeapon) {
 			return ((IWeapon) stack.getItem()).isWeapon(stack);
 		}
-		return WeaponRegistry.INSTANCE.isWeapon(stack.getItem());
+		return WeaponCache.isWeapon(stack.getItem());
 	}
 
 	/** Returns true if the stack is either a {@link #isSword(ItemStack) sword} or {@link #isProvider(ItemStack, SkillBase) provider} of this skill */
@@ -88,12 +90,13 @@ public class PlayerUtils
 	 * Returns whether the stack is a {@link ISkillProvider} for the target skill
 	 */
 	public static boolean isProvider(ItemStack stack, SkillBase skill) {
-		if (stack.isEmpty() || !(stack.getItem() instanceof ISkillProvider)) {
+		SkillProviderCache.Entry info = SkillProviderCache.get(stack);
+		if (info == null) {
 			return false;
-		} else if (((ISkillProvider) stack.getItem()).getSkillId(stack) == skill.getId()) {
+		} else if (info.provides(skill)) {
 			return true;
 		}
-		return Skills.swordBasic.is(skill) && ((ISkillProvider) stack.getItem()).grantsBasicSwordSkill(stack);
+		return Skills.swordBasic.is(skill) && info.grantsBasicSwordSkill();
 	}
 
 	/** Returns the difference between player's max and current health */
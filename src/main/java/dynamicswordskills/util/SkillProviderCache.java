@@ -0,0 +1,138 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.util;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
+
+import dynamicswordskills.api.ISkillProvider;
+import dynamicswordskills.api.SkillRegistry;
+import dynamicswordskills.skills.SkillBase;
+import net.minecraft.item.Item;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ *
+ * Caches the skill id, level, and basic sword flag provided by each {@link ISkillProvider}
+ * ItemStack so that per-tick checks neither re-read the stack's NBT nor create new skill instances.
+ *
+ * Entries are keyed by stack identity (ItemStack does not override equals) and held weakly,
+ * with one map per thread so that the client and integrated server never share state.
+ * An entry is re-resolved whenever the stack's item, damage, or NBT tag instance changes;
+ * code that modifies a provider's NBT tag in place should call {@link #invalidate(ItemStack)}.
+ *
+ */
+public class SkillProviderCache
+{
+	private static final ThreadLocal<Map<ItemStack, Entry>> CACHE = ThreadLocal.withInitial(WeakHashMap::new);
+
+	/**
+	 * Returns the cached skill information for the stack, resolving it first if necessary
+	 * @return null if the stack is empty or not an {@link ISkillProvider}
+	 */
+	@Nullable
+	public static Entry get(ItemStack stack) {
+		if (stack.isEmpty() || !(stack.getItem() instanceof ISkillProvider)) {
+			return null;
+		}
+		Map<ItemStack, Entry> cache = CACHE.get();
+		Entry entry = cache.get(stack);
+		if (entry == null || !entry.isValidFor(stack)) {
+			entry = new Entry(stack, (ISkillProvider) stack.getItem());
+			cache.put(stack, entry);
+		}
+		return entry;
+	}
+
+	/**
+	 * Discards any cached information for the stack on the current thread
+	 */
+	public static void invalidate(ItemStack stack) {
+		CACHE.get().remove(stack);
+	}
+
+	public static final class Entry
+	{
+		/** Values used to detect changes to the stack after this entry was created */
+		private final Item item;
+		private final int damage;
+		private final NBTTagCompound tag;
+
+		/** The skill's id, or -1 if the stack does not provide a valid skill */
+		private final byte skillId;
+
+		/** Skill level provided, capped at the skill's max level, or 0 if no skill is provided */
+		private final byte level;
+
+		private final boolean grantsBasicSword;
+
+		private Entry(ItemStack stack, ISkillProvider provider) {
+			this.item = stack.getItem();
+			this.damage = stack.getItemDamage();
+			this.tag = stack.getTagCompound();
+			SkillBase skill = SkillRegistry.getSkillById(provider.getSkillId(stack));
+			byte lvl = (skill == null ? 0 : provider.getSkillLevel(stack));
+			this.skillId = (lvl > 0 ? skill.getId() : -1);
+			this.level = (lvl > 0 ? (byte) Math.min(lvl, skill.getMaxLevel()) : 0);
+			this.grantsBasicSword = provider.grantsBasicSwordSkill(stack);
+		}
+
+		private boolean isValidFor(ItemStack stack) {
+			return stack.getItem() == item && stack.getItemDamage() == damage && stack.getTagCompound() == tag;
+		}
+
+		/** Returns the skill id provided, or -1 if none */
+		public byte getSkillId() {
+			return skillId;
+		}
+
+		/** Returns the skill level provided, already capped at the skill's max level */
+		public byte getLevel() {
+			return level;
+		}
+
+		public boolean grantsBasicSwordSkill() {
+			return grantsBasicSword;
+		}
+
+		/** Returns true if this entry provides the given skill, regardless of level */
+		public boolean provides(@Nullable SkillBase skill) {
+			return skillId > -1 && skill != null && skill.getId() == skillId;
+		}
+
+		/** Returns true if the skill instance has the same id and level as that provided by this entry */
+		public boolean matches(@Nullable SkillBase skill) {
+			return provides(skill) && skill.getLevel() == level;
+		}
+
+		/** Returns the registered skill instance provided, or null */
+		@Nullable
+		public SkillBase getSkill() {
+			return (skillId > -1 ? SkillRegistry.getSkillById(skillId) : null);
+		}
+
+		/** Returns a new leveled instance of the skill provided, or null */
+		@Nullable
+		public SkillBase createSkill() {
+			return SkillBase.createLeveledSkill(getSkill(), level);
+		}
+	}
+}
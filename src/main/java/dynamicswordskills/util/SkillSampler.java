@@ -0,0 +1,93 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.util;
+
+import java.util.Random;
+import java.util.function.Predicate;
+
+import javax.annotation.Nullable;
+
+import dynamicswordskills.api.SkillRegistry;
+import dynamicswordskills.ref.Config;
+import dynamicswordskills.skills.SkillBase;
+
+/**
+ *
+ * Selects random skills in proportion to their {@link Config#getSkillWeight configured weights},
+ * e.g. for skill orb drops, random skill swords, and loot functions.
+ *
+ * The weights are compiled into an {@link AliasTable} when first needed and recompiled the first
+ * time they are needed after the server settings change; the new table replaces the old one in a
+ * single write, so concurrent callers see either the previous table or the new one.
+ *
+ */
+public class SkillSampler
+{
+	/** Samples from all registered skills */
+	public static final SkillSampler ALL = new SkillSampler(s -> true);
+
+	/** Only skills matching this filter may be selected */
+	private final Predicate<SkillBase> filter;
+
+	private volatile Table table;
+
+	/**
+	 * @param filter Only skills matching this filter may be selected, in addition to having a positive weight
+	 */
+	public SkillSampler(Predicate<SkillBase> filter) {
+		this.filter = filter;
+	}
+
+	/**
+	 * Returns a random skill, or null if no skills may currently be selected
+	 */
+	@Nullable
+	public SkillBase sample(Random rand) {
+		return this.getTable().sample(rand);
+	}
+
+	/**
+	 * Returns true if no skills may currently be selected
+	 */
+	public boolean isEmpty() {
+		return this.getTable().isEmpty();
+	}
+
+	private AliasTable<SkillBase> getTable() {
+		Table table = this.table;
+		int version = Config.getServerVersion();
+		if (table == null || table.version != version) {
+			table = new Table(version, AliasTable.of(SkillRegistry.getValues(), s -> (this.filter.test(s) ? Config.getSkillWeight(s) : 0)));
+			this.table = table;
+		}
+		return table.skills;
+	}
+
+	private static final class Table
+	{
+		/** {@link Config#getServerVersion()} when this table was compiled */
+		private final int version;
+
+		private final AliasTable<SkillBase> skills;
+
+		private Table(int version, AliasTable<SkillBase> skills) {
+			this.version = version;
+			this.skills = skills;
+		}
+	}
+}
@@ -0,0 +1,140 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.util;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import dynamicswordskills.DynamicSwordSkills;
+import dynamicswordskills.ref.Config;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ServerTickEvent;
+
+/**
+ * 
+ * Runs deferrable server work at the end of each tick within the time budget set in the config,
+ * leaving whatever does not fit for the following ticks so that bursts of work, e.g. many mobs
+ * dying at once, are spread out rather than lengthening a single tick.
+ * 
+ * {@link Priority#COMBAT} tasks are always run before {@link Priority#DEFERRED} ones, but at least
+ * one task of each priority is run every tick so that neither queue can starve.
+ * 
+ * Tasks may only be scheduled from and are only run on the server thread; each task must check
+ * that whatever it acts upon is still valid, as the world may have changed in the meantime.
+ *
+ */
+public class TickScheduler
+{
+	public static enum Priority {
+		/** Work with visible results, e.g. drops and sounds */
+		COMBAT,
+		/** Work that may safely wait several ticks, e.g. synchronizing data */
+		DEFERRED;
+	}
+
+	private static final Deque<Runnable> combat = new ArrayDeque<Runnable>();
+
+	private static final Deque<Runnable> deferred = new ArrayDeque<Runnable>();
+
+	/** Total number of ticks that tasks have spent waiting beyond the tick in which they were scheduled */
+	private static long totalDelay;
+
+	/** Largest combined backlog seen at the end of a tick */
+	private static int maxBacklog;
+
+	/**
+	 * Schedules the task to run at the end of this or a following tick,
+	 * or runs it immediately if the tick budget is disabled
+	 */
+	public static void schedule(Priority priority, Runnable task) {
+		if (Config.getTickBudget() < 1) {
+			task.run();
+		} else {
+			(priority == Priority.COMBAT ? combat : deferred).add(task);
+		}
+	}
+
+	/**
+	 * Returns the number of tasks waiting to run with the given priority
+	 */
+	public static int getBacklog(Priority priority) {
+		return (priority == Priority.COMBAT ? combat : deferred).size();
+	}
+
+	/** Returns the largest combined backlog seen at the end of a tick */
+	public static int getMaxBacklog() {
+		return maxBacklog;
+	}
+
+	/** Returns the total number of ticks that tasks have spent waiting beyond the tick in which they were scheduled */
+	public static long getTotalDelay() {
+		return totalDelay;
+	}
+
+	/**
+	 * Discards all pending tasks, e.g. when the server stops
+	 */
+	public static void clear() {
+		combat.clear();
+		deferred.clear();
+	}
+
+	private static void runTasks() {
+		long end = System.nanoTime() + Config.getTickBudget() * 1000L;
+		boolean ranCombat = false, ranDeferred = false;
+		while (!combat.isEmpty() || !deferred.isEmpty()) {
+			boolean overBudget = System.nanoTime() > end;
+			if (!combat.isEmpty() && (!overBudget || !ranCombat)) {
+				run(combat.poll());
+				ranCombat = true;
+			} else if (!deferred.isEmpty() && (!overBudget || !ranDeferred)) {
+				run(deferred.poll());
+				ranDeferred = true;
+			} else {
+				break;
+			}
+		}
+		int backlog = combat.size() + deferred.size();
+		if (backlog > 0) {
+			totalDelay += backlog;
+			maxBacklog = Math.max(maxBacklog, backlog);
+		}
+	}
+
+	private static void run(Runnable task) {
+		try {
+			task.run();
+		} catch (RuntimeException e) {
+			DynamicSwordSkills.logger.error("Error running scheduled task", e);
+		}
+	}
+
+	/**
+	 * Runs scheduled tasks at the end of each server tick
+	 */
+	public static class TickHandler
+	{
+		@SubscribeEvent
+		public void onServerTick(ServerTickEvent event) {
+			if (event.phase == Phase.END) {
+				TickScheduler.runTasks();
+			}
+		}
+	}
+}
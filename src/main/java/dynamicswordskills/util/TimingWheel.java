@@ -0,0 +1,306 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.util;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import javax.annotation.Nullable;
+
+import dynamicswordskills.DynamicSwordSkills;
+import net.minecraft.client.Minecraft;
+import net.minecraft.world.World;
+import net.minecraftforge.event.world.WorldEvent;
+import net.minecraftforge.fml.common.eventhandler.SubscribeEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.ClientTickEvent;
+import net.minecraftforge.fml.common.gameevent.TickEvent.Phase;
+import net.minecraftforge.fml.common.gameevent.TickEvent.WorldTickEvent;
+import net.minecraftforge.fml.relauncher.Side;
+import net.minecraftforge.fml.relauncher.SideOnly;
+
+/**
+ *
+ * Per-world hierarchical timing wheel for skill timers, e.g. how long a skill remains active.
+ *
+ * Each {@link Timer} knows its expiry tick, so the time remaining may be read at any time, and may
+ * run a callback when it expires. Timers are kept in buckets by expiry tick: near timers in the first
+ * wheel of 64 one-tick slots, and later ones in coarser wheels whose slots are redistributed into the
+ * finer wheels as their time approaches. Scheduling and canceling a timer take constant time, and each
+ * tick only visits the timers expiring in that tick, however many players and skills there are.
+ *
+ * Each world has its own wheel, advanced at the end of that world's tick on the server and at the end
+ * of each unpaused client tick on the client; wheels and their timers are only used on that thread.
+ *
+ */
+public class TimingWheel
+{
+	/** Number of bits of the expiry tick used to select a slot at each level */
+	private static final int SLOT_BITS = 6;
+
+	private static final int SLOTS = 1 << SLOT_BITS;
+
+	private static final int SLOT_MASK = SLOTS - 1;
+
+	private static final int LEVELS = 4;
+
+	/** Longest possible delay; longer delays are shortened to this */
+	public static final int MAX_DELAY = (1 << (SLOT_BITS * LEVELS)) - 1;
+
+	/** Server world wheels; only accessed from the server thread */
+	private static final Map<World, TimingWheel> serverWheels = new WeakHashMap<World, TimingWheel>();
+
+	/** Wheel for the current client world; only accessed from the client thread */
+	private static TimingWheel clientWheel;
+
+	/** World to which {@link #clientWheel} belongs */
+	private static World clientWorld;
+
+	/** Sentinel head of the circular list of timers in each slot of each level */
+	private final Timer[][] slots = new Timer[LEVELS][SLOTS];
+
+	/** Number of ticks that have been processed */
+	private long time;
+
+	private TimingWheel() {
+		for (int level = 0; level < LEVELS; ++level) {
+			for (int i = 0; i < SLOTS; ++i) {
+				Timer head = new Timer(this, 0L, null);
+				head.prev = head;
+				head.next = head;
+				this.slots[level][i] = head;
+			}
+		}
+	}
+
+	/**
+	 * Returns the timing wheel for the given world
+	 */
+	public static TimingWheel get(World world) {
+		if (world.isRemote) {
+			if (clientWorld != world) {
+				clientWorld = world;
+				clientWheel = new TimingWheel();
+			}
+			return clientWheel;
+		}
+		TimingWheel wheel = serverWheels.get(world);
+		if (wheel == null) {
+			wheel = new TimingWheel();
+			serverWheels.put(world, wheel);
+		}
+		return wheel;
+	}
+
+	/**
+	 * Returns the current tick of this wheel
+	 */
+	public long getTime() {
+		return this.time;
+	}
+
+	/**
+	 * Schedules a timer expiring after the given number of ticks
+	 * @param ticks Clamped to between 1 and {@link #MAX_DELAY}
+	 * @param callback Run when the timer expires, unless canceled first; may be null for timers that are only read
+	 */
+	public Timer schedule(int ticks, @Nullable Runnable callback) {
+		Timer timer = new Timer(this, this.time + Math.max(1, Math.min(ticks, MAX_DELAY)), callback);
+		this.insert(timer);
+		return timer;
+	}
+
+	private void insert(Timer timer) {
+		long delta = timer.expiry - this.time;
+		int level = 0;
+		while (level < LEVELS - 1 && delta >= (1L << (SLOT_BITS * (level + 1)))) {
+			++level;
+		}
+		Timer head = this.slots[level][(int) (timer.expiry >>> (SLOT_BITS * level)) & SLOT_MASK];
+		timer.prev = head.prev;
+		timer.next = head;
+		head.prev.next = timer;
+		head.prev = timer;
+	}
+
+	/**
+	 * Advances the wheel by one tick, running the callbacks of any timers that expire
+	 */
+	private void advance() {
+		++this.time;
+		// Each time a level wraps around, the next coarser slot is due to be spread over the finer levels
+		for (int level = 1; level < LEVELS && ((this.time >>> (SLOT_BITS * (level - 1))) & SLOT_MASK) == 0; ++level) {
+			Timer head = this.slots[level][(int) (this.time >>> (SLOT_BITS * level)) & SLOT_MASK];
+			Timer timer = head.next;
+			head.prev = head;
+			head.next = head;
+			while (timer != head) {
+				Timer next = timer.next;
+				this.insert(timer);
+				timer = next;
+			}
+		}
+		Timer head = this.slots[0][(int) this.time & SLOT_MASK];
+		while (head.next != head) {
+			Timer timer = head.next;
+			timer.cancel();
+			if (timer.callback != null) {
+				try {
+					timer.callback.run();
+				} catch (RuntimeException e) {
+					DynamicSwordSkills.logger.error("Error running skill timer", e);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Cancels all pending timers without running their callbacks
+	 */
+	private void clear() {
+		for (Timer[] level : this.slots) {
+			for (Timer head : level) {
+				while (head.next != head) {
+					head.next.cancel();
+				}
+			}
+		}
+	}
+
+	/**
+	 *
+	 * Handle to a scheduled timer
+	 *
+	 */
+	public static final class Timer
+	{
+		private final TimingWheel wheel;
+
+		/** Tick at which this timer expires */
+		private final long expiry;
+
+		@Nullable
+		private final Runnable callback;
+
+		/** Neighbors in the slot's list, or null if not pending */
+		private Timer prev, next;
+
+		private Timer(TimingWheel wheel, long expiry, @Nullable Runnable callback) {
+			this.wheel = wheel;
+			this.expiry = expiry;
+			this.callback = callback;
+		}
+
+		/**
+		 * Returns true if this timer has neither expired nor been canceled
+		 */
+		public boolean isPending() {
+			return this.next != null;
+		}
+
+		/**
+		 * Returns the number of ticks until this timer expires, or 0 if it is no longer pending
+		 */
+		public int getRemaining() {
+			return (this.isPending() ? (int) (this.expiry - this.wheel.time) : 0);
+		}
+
+		/**
+		 * Cancels this timer so that its callback will not be run; has no effect if it is no longer pending
+		 */
+		public void cancel() {
+			if (this.next != null) {
+				this.prev.next = this.next;
+				this.next.prev = this.prev;
+				this.prev = null;
+				this.next = null;
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of ticks remaining on the timer, or 0 if it is null or no longer pending
+	 */
+	public static int getRemaining(@Nullable Timer timer) {
+		return (timer == null ? 0 : timer.getRemaining());
+	}
+
+	/**
+	 * Returns true if the timer is not null and still pending
+	 */
+	public static boolean isPending(@Nullable Timer timer) {
+		return timer != null && timer.isPending();
+	}
+
+	/**
+	 * Cancels the timer if it is not null; returns null for convenience, e.g. {@code timer = TimingWheel.cancel(timer)}
+	 */
+	@Nullable
+	public static Timer cancel(@Nullable Timer timer) {
+		if (timer != null) {
+			timer.cancel();
+		}
+		return null;
+	}
+
+	/**
+	 * Advances each world's timing wheel once per tick
+	 */
+	public static class TickHandler
+	{
+		@SubscribeEvent
+		public void onWorldTick(WorldTickEvent event) {
+			if (event.phase == Phase.END && !event.world.isRemote) {
+				TimingWheel wheel = serverWheels.get(event.world);
+				if (wheel != null) {
+					wheel.advance();
+				}
+			}
+		}
+
+		@SubscribeEvent
+		public void onWorldUnload(WorldEvent.Unload event) {
+			if (!event.getWorld().isRemote) {
+				TimingWheel wheel = serverWheels.remove(event.getWorld());
+				if (wheel != null) {
+					wheel.clear();
+				}
+			}
+		}
+	}
+
+	/**
+	 * Advances the client world's timing wheel once per unpaused client tick
+	 */
+	@SideOnly(Side.CLIENT)
+	public static class ClientTickHandler
+	{
+		@SubscribeEvent
+		public void onClientTick(ClientTickEvent event) {
+			Minecraft mc = Minecraft.getMinecraft();
+			if (event.phase == Phase.END && clientWheel != null && !mc.isGamePaused()) {
+				if (mc.world == clientWorld) {
+					clientWheel.advance();
+				} else {
+					clientWheel.clear();
+					clientWheel = null;
+					clientWorld = null;
+				}
+			}
+		}
+	}
+}
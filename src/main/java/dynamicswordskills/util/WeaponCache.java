@@ -0,0 +1,110 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.util;
+
+import java.util.Arrays;
+
+import net.minecraft.item.Item;
+import swordskillsapi.api.item.IWeapon;
+import swordskillsapi.api.item.WeaponRegistry;
+
+/**
+ *
+ * Caches the {@link WeaponRegistry} verdicts for non-{@link IWeapon} Items, indexed by item id.
+ *
+ * The cache is shared between the client and server threads: the array reference is replaced
+ * rather than cleared when {@link #invalidate() invalidated}, and each lookup only ever writes
+ * to the array it read from, so a verdict computed from stale registry data is simply discarded.
+ *
+ */
+public class WeaponCache
+{
+	/** Verdict flags; 0 means the item has not yet been classified */
+	private static final byte KNOWN = 1, WEAPON = 2, SWORD = 4;
+
+	private static volatile byte[] verdicts = new byte[512];
+
+	/** Incremented each time the cache is invalidated; see {@link #getGeneration()} */
+	private static volatile int generation;
+
+	/**
+	 * Discards all cached verdicts; call whenever the WeaponRegistry or the weapon config changes
+	 */
+	public static synchronized void invalidate() {
+		verdicts = new byte[verdicts.length];
+		generation++;
+	}
+
+	/**
+	 * Returns a value that changes every time the cache is invalidated, allowing
+	 * anything that stores classification results to know when to refresh them
+	 */
+	public static int getGeneration() {
+		return generation;
+	}
+
+	/** Returns {@link WeaponRegistry#isSword(Item)} for the item */
+	public static boolean isSword(Item item) {
+		return (getVerdict(item) & SWORD) != 0;
+	}
+
+	/** Returns {@link WeaponRegistry#isWeapon(Item)} for the item */
+	public static boolean isWeapon(Item item) {
+		return (getVerdict(item) & WEAPON) != 0;
+	}
+
+	private static byte getVerdict(Item item) {
+		int id = Item.getIdFromItem(item);
+		if (id < 0) {
+			return classify(item);
+		}
+		byte[] array = verdicts;
+		if (id < array.length && array[id] != 0) {
+			return array[id];
+		}
+		byte verdict = classify(item);
+		if (id >= array.length) {
+			array = grow(array, id);
+		}
+		array[id] = verdict;
+		return verdict;
+	}
+
+	/**
+	 * Returns a copy of the array large enough to hold the id, publishing it only if the
+	 * original is still current; verdicts lost to a concurrent resize are simply looked up again
+	 */
+	private static synchronized byte[] grow(byte[] array, int id) {
+		byte[] copy = Arrays.copyOf(array, Math.max(id + 1, array.length * 2));
+		if (verdicts == array) {
+			verdicts = copy;
+		}
+		return copy;
+	}
+
+	private static byte classify(Item item) {
+		byte verdict = KNOWN;
+		if (WeaponRegistry.INSTANCE.isWeapon(item)) {
+			verdict |= WEAPON;
+		}
+		if (WeaponRegistry.INSTANCE.isSword(item)) {
+			verdict |= SWORD;
+		}
+		return verdict;
+	}
+}
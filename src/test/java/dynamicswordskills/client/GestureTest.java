@@ -0,0 +1,120 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.client;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import net.minecraft.client.settings.KeyBinding;
+
+/**
+ *
+ * Checks {@link Gesture} matching against a {@link GestureRecognizer} fed with explicit key times.
+ *
+ */
+public class GestureTest
+{
+	private static final KeyBinding FORWARD = new KeyBinding("key.dss.test.forward", 17, "key.categories.dss.test");
+
+	private static final KeyBinding ALT_FORWARD = new KeyBinding("key.dss.test.altForward", 200, "key.categories.dss.test");
+
+	private static final KeyBinding ATTACK = new KeyBinding("key.dss.test.attack", -100, "key.categories.dss.test");
+
+	private static final KeyBinding JUMP = new KeyBinding("key.dss.test.jump", 57, "key.categories.dss.test");
+
+	/** Same as Ending Blow's gesture */
+	private static final Gesture TAP_FORWARD_ATTACK = Gesture.sequence(new KeyBinding[] {FORWARD, ALT_FORWARD}, new KeyBinding[] {FORWARD, ALT_FORWARD}, new KeyBinding[] {ATTACK})
+			.withinSpan(400).ignoringOtherKeys().releasedBefore(1);
+
+	private GestureRecognizer recognizer;
+
+	@Before
+	public void setUp() {
+		recognizer = new GestureRecognizer();
+	}
+
+	@Test
+	public void testForwardHeldWhileAttacking() {
+		recognizer.onKeyPressed(FORWARD, 0);
+		recognizer.onKeyReleased(FORWARD, 50);
+		recognizer.onKeyPressed(FORWARD, 100);
+		recognizer.onKeyPressed(ATTACK, 200);
+		assertTrue(recognizer.matches(TAP_FORWARD_ATTACK));
+	}
+
+	@Test
+	public void testForwardReleasedBeforeAttacking() {
+		recognizer.onKeyPressed(FORWARD, 0);
+		recognizer.onKeyReleased(FORWARD, 50);
+		recognizer.onKeyPressed(FORWARD, 100);
+		recognizer.onKeyReleased(FORWARD, 150);
+		recognizer.onKeyPressed(JUMP, 160);
+		recognizer.onKeyPressed(ATTACK, 200);
+		assertTrue(recognizer.matches(TAP_FORWARD_ATTACK));
+	}
+
+	@Test
+	public void testFirstTapHeldThroughSecond() {
+		recognizer.onKeyPressed(FORWARD, 0);
+		recognizer.onKeyPressed(ALT_FORWARD, 100);
+		recognizer.onKeyPressed(ATTACK, 200);
+		assertFalse(recognizer.matches(TAP_FORWARD_ATTACK));
+	}
+
+	@Test
+	public void testFirstTapReleasedAfterSecond() {
+		recognizer.onKeyPressed(FORWARD, 0);
+		recognizer.onKeyPressed(ALT_FORWARD, 100);
+		recognizer.onKeyReleased(FORWARD, 150);
+		recognizer.onKeyPressed(ATTACK, 200);
+		assertFalse(recognizer.matches(TAP_FORWARD_ATTACK));
+	}
+
+	@Test
+	public void testSpanExceeded() {
+		recognizer.onKeyPressed(FORWARD, 0);
+		recognizer.onKeyReleased(FORWARD, 50);
+		recognizer.onKeyPressed(FORWARD, 300);
+		recognizer.onKeyPressed(ATTACK, 500);
+		assertFalse(recognizer.matches(TAP_FORWARD_ATTACK));
+	}
+
+	@Test
+	public void testConsumedPressesDoNotMatch() {
+		recognizer.onKeyPressed(FORWARD, 0);
+		recognizer.onKeyReleased(FORWARD, 50);
+		recognizer.onKeyPressed(FORWARD, 100);
+		recognizer.onKeyPressed(ATTACK, 200);
+		recognizer.consume();
+		assertFalse(recognizer.matches(TAP_FORWARD_ATTACK));
+	}
+
+	@Test
+	public void testChordRequiresAllKeysHeld() {
+		Gesture chord = Gesture.chord(FORWARD, JUMP);
+		recognizer.onKeyPressed(FORWARD, 0);
+		assertFalse(recognizer.matches(chord));
+		recognizer.onKeyPressed(JUMP, 10);
+		assertTrue(recognizer.matches(chord));
+		recognizer.onKeyReleased(FORWARD, 20);
+		assertFalse(recognizer.matches(chord));
+	}
+}
@@ -0,0 +1,118 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Before;
+import org.junit.BeforeClass;
+import org.junit.Test;
+
+import dynamicswordskills.util.WeaponCache;
+import net.minecraft.entity.player.InventoryPlayer;
+import net.minecraft.init.Bootstrap;
+import net.minecraft.init.Items;
+import net.minecraft.item.ItemStack;
+import net.minecraft.nbt.NBTTagCompound;
+
+/**
+ *
+ * Checks that each hotbar slot is re-classified exactly when its contents change
+ * or the index is invalidated, and otherwise left alone.
+ *
+ */
+public class HotbarSlotIndexTest
+{
+	private InventoryPlayer inventory;
+
+	private HotbarSlotIndex index;
+
+	@BeforeClass
+	public static void bootstrap() {
+		Bootstrap.register();
+	}
+
+	@Before
+	public void setUp() {
+		inventory = new InventoryPlayer(null);
+		inventory.setInventorySlotContents(0, new ItemStack(Items.DIAMOND_SWORD));
+		inventory.setInventorySlotContents(1, new ItemStack(Items.APPLE));
+		index = new HotbarSlotIndex();
+		assertTrue(index.update(inventory));
+	}
+
+	@Test
+	public void testUnchangedSlotsAreKept() {
+		assertFalse(index.update(inventory));
+		assertTrue((index.getFlags(0) & HotbarSlotIndex.SWORD) != 0);
+		assertEquals(0, index.getFlags(1));
+	}
+
+	@Test
+	public void testSwapReclassifiesSlots() {
+		ItemStack sword = inventory.getStackInSlot(0);
+		inventory.setInventorySlotContents(0, inventory.getStackInSlot(1));
+		inventory.setInventorySlotContents(1, sword);
+		assertTrue(index.update(inventory));
+		assertEquals(0, index.getFlags(0));
+		assertTrue((index.getFlags(1) & HotbarSlotIndex.SWORD) != 0);
+		assertFalse(index.update(inventory));
+	}
+
+	@Test
+	public void testNewInstanceReclassifiesSlot() {
+		inventory.setInventorySlotContents(0, inventory.getStackInSlot(0).copy());
+		assertTrue(index.update(inventory));
+		assertFalse(index.update(inventory));
+	}
+
+	@Test
+	public void testInPlaceChangesReclassifySlot() {
+		ItemStack sword = inventory.getStackInSlot(0);
+		sword.setItemDamage(5);
+		assertTrue(index.update(inventory));
+		assertFalse(index.update(inventory));
+		sword.setTagCompound(new NBTTagCompound());
+		assertTrue(index.update(inventory));
+		assertFalse(index.update(inventory));
+	}
+
+	@Test
+	public void testEmptiedSlotIsCleared() {
+		inventory.setInventorySlotContents(0, ItemStack.EMPTY);
+		assertTrue(index.update(inventory));
+		assertEquals(0, index.getFlags(0));
+	}
+
+	@Test
+	public void testInvalidateReclassifiesAllSlots() {
+		index.invalidate();
+		assertTrue(index.update(inventory));
+		assertFalse(index.update(inventory));
+	}
+
+	@Test
+	public void testWeaponCacheChangeReclassifiesAllSlots() {
+		WeaponCache.invalidate();
+		assertTrue(index.update(inventory));
+		assertFalse(index.update(inventory));
+		assertTrue((index.getFlags(0) & HotbarSlotIndex.SWORD) != 0);
+	}
+}
@@ -0,0 +1,128 @@
+/**
+    Copyright (C) <2017> <coolAlias>
+
+    This file is part of coolAlias' Dynamic Sword Skills Minecraft Mod; as such,
+    you can redistribute it and/or modify it under the terms of the GNU
+    General Public License as published by the Free Software Foundation,
+    either version 3 of the License, or (at your option) any later version.
+
+    This program is distributed in the hope that it will be useful,
+    but WITHOUT ANY WARRANTY; without even the implied warranty of
+    MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE. See the
+    GNU General Public License for more details.
+
+    You should have received a copy of the GNU General Public License
+    along with this program. If not, see <http://www.gnu.org/licenses/>.
+ */
+
+package dynamicswordskills.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ *
+ * Checks that values are sampled in proportion to their weights, using a chi-square test
+ * against fixed seeds so that the results are repeatable.
+ *
+ */
+public class AliasTableTest
+{
+	private static final int SAMPLES = 200000;
+
+	/** Chi-square critical values at p = 0.001, indexed by degrees of freedom */
+	private static final double[] CRITICAL = {0.0D, 10.828D, 13.816D, 16.266D, 18.467D, 20.515D};
+
+	/** Chi-square critical value at p = 0.001 for 49 degrees of freedom */
+	private static final double CRITICAL_49 = 85.351D;
+
+	@Test
+	public void testWeightedFrequencies() {
+		double[] weights = {1.0D, 2.0D, 3.0D, 4.0D, 10.0D};
+		AliasTable<Integer> table = AliasTable.of(indices(weights.length), i -> weights[i]);
+		assertEquals(indices(weights.length), table.getValues());
+		assertTrue(chiSquare(table, weights, new Random(42L)) < CRITICAL[weights.length - 1]);
+	}
+
+	@Test
+	public void testUnevenWeights() {
+		double[] weights = new double[50];
+		for (int i = 0; i < weights.length; ++i) {
+			weights[i] = (i + 1) * (i + 1) * 0.25D;
+		}
+		AliasTable<Integer> table = AliasTable.of(indices(weights.length), i -> weights[i]);
+		assertTrue(chiSquare(table, weights, new Random(1234L)) < CRITICAL_49);
+	}
+
+	@Test
+	public void testZeroAndNegativeWeightsNeverSampled() {
+		double[] weights = {0.0D, 5.0D, 0.0D, 1.0D, -2.0D};
+		AliasTable<Integer> table = AliasTable.of(indices(weights.length), i -> weights[i]);
+		assertEquals(Arrays.asList(1, 3), table.getValues());
+		// Chi-square over every index fails outright if a zero-weight index is ever sampled
+		assertTrue(chiSquare(table, weights, new Random(7L)) < CRITICAL[1]);
+	}
+
+	@Test
+	public void testSingleEntry() {
+		AliasTable<String> table = AliasTable.of(Arrays.asList("only"), s -> 0.5D);
+		Random rand = new Random(3L);
+		for (int i = 0; i < 1000; ++i) {
+			assertEquals("only", table.sample(rand));
+		}
+	}
+
+	@Test
+	public void testEmpty() {
+		AliasTable<Integer> table = AliasTable.of(indices(3), i -> 0.0D);
+		assertTrue(table.isEmpty());
+		assertSame(AliasTable.empty(), table);
+		assertNull(table.sample(new Random(5L)));
+		assertTrue(AliasTable.of(Collections.<Integer>emptyList(), i -> 1.0D).isEmpty());
+	}
+
+	private static List<Integer> indices(int n) {
+		List<Integer> list = new ArrayList<Integer>(n);
+		for (int i = 0; i < n; ++i) {
+			list.add(i);
+		}
+		return list;
+	}
+
+	/**
+	 * Returns the chi-square statistic of the sampled frequencies over the indices with positive
+	 * weight, or positive infinity if an index without positive weight is ever sampled
+	 */
+	private static double chiSquare(AliasTable<Integer> table, double[] weights, Random rand) {
+		int[] counts = new int[weights.length];
+		for (int i = 0; i < SAMPLES; ++i) {
+			counts[table.sample(rand)]++;
+		}
+		double total = 0.0D;
+		for (double weight : weights) {
+			total += Math.max(weight, 0.0D);
+		}
+		double chi = 0.0D;
+		for (int i = 0; i < weights.length; ++i) {
+			if (weights[i] <= 0.0D) {
+				if (counts[i] > 0) {
+					return Double.POSITIVE_INFINITY;
+				}
+				continue;
+			}
+			double expected = SAMPLES * weights[i] / total;
+			chi += (counts[i] - expected) * (counts[i] - expected) / expected;
+		}
+		return chi;
+	}
+}